@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.atlasmap;
 
+import static io.atlasmap.api.AtlasConstants.TARGET_DOCUMENT_TYPE_PROPERTY;
+
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -25,10 +27,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
+import org.apache.camel.Producer;
+import org.apache.camel.StreamCache;
 import org.apache.camel.component.ResourceEndpoint;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
@@ -57,7 +62,8 @@ public class AtlasEndpoint extends ResourceEndpoint {
 
     private static final Logger LOG = LoggerFactory.getLogger(AtlasEndpoint.class);
     private AtlasContextFactory atlasContextFactory;
-    private AtlasContext atlasContext;
+    private volatile AtlasContext atlasContext;
+    private final Object atlasContextLock = new Object();
 
     @UriParam(defaultValue = "true")
     private boolean loaderCache = true;
@@ -69,6 +75,16 @@ public class AtlasEndpoint extends ResourceEndpoint {
     private String sourceMapName;
     @UriParam
     private String targetMapName;
+    @UriParam(defaultValue = "String", enums = "String,bytes,InputStream")
+    private String sourceDocumentType = "String";
+    @UriParam(defaultValue = "String", enums = "String,bytes,InputStream")
+    private String targetDocumentType = "String";
+    @UriParam(defaultValue = "false")
+    private boolean asyncProcessing;
+    @UriParam(defaultValue = "0")
+    private int asyncThreshold;
+    @UriParam(label = "advanced")
+    private ExecutorService executorService;
 
     public AtlasEndpoint(String uri, AtlasComponent component, String resourceUri) {
         super(uri, component, resourceUri);
@@ -84,6 +100,11 @@ public class AtlasEndpoint extends ResourceEndpoint {
         return ExchangePattern.InOut;
     }
 
+    @Override
+    public Producer createProducer() throws Exception {
+        return new AtlasProducer(this);
+    }
+
     @Override
     protected String createEndpointUri() {
         return "atlas:" + getResourceUri();
@@ -166,6 +187,78 @@ public class AtlasEndpoint extends ResourceEndpoint {
         return this.targetMapName;
     }
 
+    /**
+     * The type a non-Java source message body is converted to before it is passed to AtlasMap, one of
+     * <code>String</code> (default), <code>bytes</code> or <code>InputStream</code>. The JSON and XML
+     * modules parse bytes and streams directly, without decoding the payload into a String first.
+     */
+    public void setSourceDocumentType(String type) {
+        this.sourceDocumentType = checkDocumentType(type);
+    }
+
+    public String getSourceDocumentType() {
+        return this.sourceDocumentType;
+    }
+
+    /**
+     * The type of the target documents produced by the JSON and XML modules, one of <code>String</code>
+     * (default), <code>bytes</code> or <code>InputStream</code>. Bytes are UTF-8 encoded.
+     */
+    public void setTargetDocumentType(String type) {
+        this.targetDocumentType = checkDocumentType(type);
+    }
+
+    public String getTargetDocumentType() {
+        return this.targetDocumentType;
+    }
+
+    /**
+     * Runs the mapping on an executor instead of the calling thread and completes the exchange
+     * asynchronously. Disabled by default.
+     */
+    public void setAsyncProcessing(boolean asyncProcessing) {
+        this.asyncProcessing = asyncProcessing;
+    }
+
+    public boolean isAsyncProcessing() {
+        return asyncProcessing;
+    }
+
+    /**
+     * Minimum payload size in characters or bytes for a <code>String</code> or <code>byte[]</code> body to
+     * be mapped on the executor when <code>asyncProcessing</code> is enabled, smaller bodies are mapped on
+     * the calling thread as the hand-off would cost more than the mapping. Bodies of any other type are
+     * always mapped on the executor. Defaults to 0, every exchange is mapped on the executor.
+     */
+    public void setAsyncThreshold(int asyncThreshold) {
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    public int getAsyncThreshold() {
+        return asyncThreshold;
+    }
+
+    /**
+     * The executor which runs the mapping when <code>asyncProcessing</code> is enabled, e.g. a virtual
+     * thread per task executor. A default Camel thread pool is created and shut down with the producer
+     * if none is given. An executor set here is not shut down by the endpoint.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    private String checkDocumentType(String type) {
+        if (!"String".equals(type) && !"bytes".equals(type) && !"InputStream".equals(type)) {
+            throw new IllegalArgumentException(String.format(
+                    "Unsupported document type '%s', expected one of String, bytes or InputStream", type));
+        }
+        return type;
+    }
+
     public AtlasEndpoint findOrCreateEndpoint(String uri, String newResourceUri) {
         String newUri = uri.replace(getResourceUri(), newResourceUri);
         log.debug("Getting endpoint with URI: {}", newUri);
@@ -186,31 +279,44 @@ public class AtlasEndpoint extends ResourceEndpoint {
             return;
         }
 
-        AtlasSession atlasSession = getOrCreateAtlasContext(incomingMessage).createSession();
-        populateSourceDocuments(exchange, atlasSession);
-        getAtlasContext().process(atlasSession);
-
-        List<Audit> errors = new ArrayList<>();
-        for (Audit audit : atlasSession.getAudits().getAudit()) {
-            switch (audit.getStatus()) {
-            case ERROR:
-                errors.add(audit);
-                break;
-            case WARN:
-                LOG.warn("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
-                break;
-            default:
-                LOG.info("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+        AtlasContext context = getOrCreateAtlasContext(incomingMessage);
+        try {
+            AtlasSession atlasSession = context.createSession();
+            if ("bytes".equals(targetDocumentType)) {
+                atlasSession.getProperties().put(TARGET_DOCUMENT_TYPE_PROPERTY, byte[].class);
+            } else if ("InputStream".equals(targetDocumentType)) {
+                atlasSession.getProperties().put(TARGET_DOCUMENT_TYPE_PROPERTY, InputStream.class);
+            }
+            populateSourceDocuments(exchange, atlasSession);
+            context.process(atlasSession);
+
+            List<Audit> errors = new ArrayList<>();
+            for (Audit audit : atlasSession.getAudits().getAudit()) {
+                switch (audit.getStatus()) {
+                case ERROR:
+                    errors.add(audit);
+                    break;
+                case WARN:
+                    LOG.warn("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+                    break;
+                default:
+                    LOG.info("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+                }
+            }
+            if (!errors.isEmpty()) {
+                StringBuilder buf = new StringBuilder("Errors: ");
+                errors.stream().forEach(a -> buf.append(
+                        String.format("[%s: docId='%s', path='%s'], ", a.getMessage(), a.getDocId(), a.getPath())));
+                throw new AtlasException(buf.toString());
             }
-        }
-        if (!errors.isEmpty()) {
-            StringBuilder buf = new StringBuilder("Errors: ");
-            errors.stream().forEach(a -> buf.append(
-                    String.format("[%s: docId='%s', path='%s'], ", a.getMessage(), a.getDocId(), a.getPath())));
-            throw new AtlasException(buf.toString());
-        }
 
-        populateTargetDocuments(atlasSession, exchange);
+            populateTargetDocuments(atlasSession, exchange);
+        } finally {
+            // a context created from the mapping header is only used for this exchange
+            if (context != getAtlasContext()) {
+                context.close();
+            }
+        }
     }
 
     private AtlasContext getOrCreateAtlasContext(Message incomingMessage) throws Exception {
@@ -234,23 +340,31 @@ public class AtlasEndpoint extends ResourceEndpoint {
                                     .getMappingService()
                                     .loadMapping(reader, mappingFormat);
             return ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory()).createContext(mapping);
-        } else if (getAtlasContext() != null) {
+        }
+
+        AtlasContext context = atlasContext;
+        if (context != null) {
             // no mapping specified in header, and found an existing context
-            return getAtlasContext();
+            return context;
         }
 
-        // No mapping in header, and no existing context. Create new one from resourceUri
-        if (log.isDebugEnabled()) {
-            log.debug("Atlas mapping content read from resourceUri: {} for endpoint {}",
-                    new Object[] { path, getEndpointUri() });
+        synchronized (atlasContextLock) {
+            if (atlasContext != null) {
+                return atlasContext;
+            }
+            // No mapping in header, and no existing context. Create new one from resourceUri
+            if (log.isDebugEnabled()) {
+                log.debug("Atlas mapping content read from resourceUri: {} for endpoint {}",
+                        new Object[] { path, getEndpointUri() });
+            }
+            reader = getEncoding() != null ? new InputStreamReader(getResourceAsInputStream(), getEncoding())
+                    : new InputStreamReader(getResourceAsInputStream());
+            AtlasMapping mapping = ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory())
+                    .getMappingService()
+                    .loadMapping(reader, mappingFormat);
+            atlasContext = ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory()).createContext(mapping);
+            return atlasContext;
         }
-        reader = getEncoding() != null ? new InputStreamReader(getResourceAsInputStream(), getEncoding())
-                : new InputStreamReader(getResourceAsInputStream());
-        AtlasMapping mapping = ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory())
-                .getMappingService()
-                .loadMapping(reader, mappingFormat);
-        atlasContext = ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory()).createContext(mapping);
-        return atlasContext;
     }
 
     private synchronized AtlasContextFactory getOrCreateAtlasContextFactory() throws Exception {
@@ -324,6 +438,15 @@ public class AtlasEndpoint extends ResourceEndpoint {
         if (dataSource != null && dataSource.getUri() != null
                 && !(dataSource.getUri().startsWith("atlas:core")
                         || dataSource.getUri().startsWith("atlas:java"))) {
+            Object body = message.getBody();
+            if (body instanceof StreamCache) {
+                ((StreamCache) body).reset();
+            }
+            if ("bytes".equals(sourceDocumentType)) {
+                return message.getBody(byte[].class);
+            } else if ("InputStream".equals(sourceDocumentType)) {
+                return message.getBody(InputStream.class);
+            }
             return message.getBody(String.class);
         }
         return message.getBody();
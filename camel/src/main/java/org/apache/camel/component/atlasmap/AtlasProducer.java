@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.atlasmap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+
+/**
+ * Runs the mapping of {@link AtlasEndpoint} either on the calling thread or, with
+ * <code>asyncProcessing=true</code>, on an executor and completes the exchange through the
+ * {@link AsyncCallback}. With <code>asyncThreshold</code> set, <code>String</code> and <code>byte[]</code>
+ * bodies below that size are still mapped on the calling thread.
+ */
+public class AtlasProducer extends DefaultAsyncProducer {
+
+    private ExecutorService executorService;
+    private boolean shutdownExecutorService;
+
+    public AtlasProducer(AtlasEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    public AtlasEndpoint getEndpoint() {
+        return (AtlasEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        ExecutorService executor = this.executorService;
+        if (executor == null || isBelowAsyncThreshold(exchange)) {
+            doProcess(exchange);
+            callback.done(true);
+            return true;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    doProcess(exchange);
+                } finally {
+                    callback.done(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isBelowAsyncThreshold(Exchange exchange) {
+        int threshold = getEndpoint().getAsyncThreshold();
+        if (threshold <= 0) {
+            return false;
+        }
+        Object body = exchange.getIn().getBody();
+        if (body instanceof String) {
+            return ((String) body).length() < threshold;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length < threshold;
+        }
+        // the size of streams and objects is not known up front
+        return false;
+    }
+
+    private void doProcess(Exchange exchange) {
+        try {
+            getEndpoint().onExchange(exchange);
+        } catch (Throwable t) {
+            exchange.setException(t);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getEndpoint().isAsyncProcessing()) {
+            executorService = getEndpoint().getExecutorService();
+            if (executorService == null) {
+                executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                        .newDefaultThreadPool(this, "AtlasProducer[" + getEndpoint().getResourceUri() + "]");
+                shutdownExecutorService = true;
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (shutdownExecutorService && executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+        }
+        executorService = null;
+        shutdownExecutorService = false;
+        super.doStop();
+    }
+}
@@ -44,6 +44,9 @@ public class AtlasMapComponentJavaToJsonTest {
     @EndpointInject(uri = "mock:result")
     protected MockEndpoint result;
 
+    @EndpointInject(uri = "mock:result-bytes")
+    protected MockEndpoint resultBytes;
+
     @Test
     @DirtiesContext
     public void testMocksAreValid() throws Exception {
@@ -61,4 +64,19 @@ public class AtlasMapComponentJavaToJsonTest {
         assertEquals("bobvila1982", sfJson.get("TwitterScreenName__c").asText());
     }
 
+    @Test
+    @DirtiesContext
+    public void testTargetDocumentTypeBytes() throws Exception {
+        resultBytes.setExpectedCount(1);
+
+        ProducerTemplate producerTemplate = camelContext.createProducerTemplate();
+        producerTemplate.sendBody("direct:start-bytes", Util.generateMockTwitterStatus());
+
+        MockEndpoint.assertIsSatisfied(camelContext);
+        Object body = resultBytes.getExchanges().get(0).getIn().getBody();
+        assertEquals(byte[].class, body.getClass());
+        JsonNode sfJson = new ObjectMapper().readTree((byte[]) body);
+        assertEquals("bobvila1982", sfJson.get("TwitterScreenName__c").asText());
+    }
+
 }
@@ -42,6 +42,9 @@ public class AtlasMapComponentJsonToJavaTest {
     @EndpointInject(uri = "mock:result")
     protected MockEndpoint result;
 
+    @EndpointInject(uri = "mock:result-stream")
+    protected MockEndpoint resultStream;
+
     @Test
     @DirtiesContext
     public void testMocksAreValid() throws Exception {
@@ -56,4 +59,18 @@ public class AtlasMapComponentJsonToJavaTest {
         assertEquals("value1", ((Pojo) body).getField1());
     }
 
+    @Test
+    @DirtiesContext
+    public void testSourceDocumentTypeInputStream() throws Exception {
+        resultStream.setExpectedCount(1);
+
+        final ProducerTemplate producerTemplate = camelContext.createProducerTemplate();
+        producerTemplate.sendBody("direct:start-stream", "{\"field1\":\"value1\"}".getBytes());
+
+        MockEndpoint.assertIsSatisfied(camelContext);
+        final Object body = resultStream.getExchanges().get(0).getIn().getBody();
+        assertEquals(Pojo.class, body.getClass());
+        assertEquals("value1", ((Pojo) body).getField1());
+    }
+
 }
@@ -0,0 +1,174 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.atlasmap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.SimpleRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class AtlasProducerTest {
+
+    private CamelContext camelContext;
+    private ExecutorService executor;
+    private SimpleRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+        registry = new SimpleRegistry();
+        registry.put("atlasExecutor", executor);
+        camelContext = new DefaultCamelContext(registry);
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:async").to("atlas:atlasmapping.xml?asyncProcessing=true&executorService=#atlasExecutor");
+                from("direct:asyncDefaultPool").to("atlas:atlasmapping.xml?asyncProcessing=true");
+                from("direct:sync").to("atlas:atlasmapping.xml");
+            }
+        });
+        camelContext.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        camelContext.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAsyncProcessing() throws Exception {
+        ProducerTemplate template = camelContext.createProducerTemplate();
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(template.asyncSend("direct:async", e -> e.getIn().setBody(Util.generateMockTwitterStatus())));
+        }
+        for (Future<Exchange> future : futures) {
+            assertBody(future.get());
+        }
+        AtlasEndpoint endpoint = camelContext.getEndpoint(
+                "atlas:atlasmapping.xml?asyncProcessing=true&executorService=#atlasExecutor", AtlasEndpoint.class);
+        assertTrue(endpoint.isAsyncProcessing());
+        assertEquals(executor, endpoint.getExecutorService());
+        assertNotNull(endpoint.getAtlasContext());
+    }
+
+    @Test
+    public void testAsyncProcessingDefaultPool() throws Exception {
+        Exchange exchange = camelContext.createProducerTemplate().send("direct:asyncDefaultPool",
+            e -> e.getIn().setBody(Util.generateMockTwitterStatus()));
+        assertBody(exchange);
+    }
+
+    @Test
+    public void testAsyncProcessingRunsOnExecutor() throws Exception {
+        final String caller = Thread.currentThread().getName();
+        final String[] worker = new String[1];
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:thread").to("atlas:atlasmapping.xml?asyncProcessing=true&executorService=#atlasExecutor")
+                        .process(e -> worker[0] = Thread.currentThread().getName());
+            }
+        });
+        assertBody(camelContext.createProducerTemplate().send("direct:thread",
+            e -> e.getIn().setBody(Util.generateMockTwitterStatus())));
+        assertNotEquals(caller, worker[0]);
+    }
+
+    @Test
+    public void testAsyncThreshold() throws Exception {
+        final AtomicInteger offloaded = new AtomicInteger();
+        ExecutorService counting = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                offloaded.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        registry.put("countingExecutor", counting);
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:threshold")
+                        .to("atlas:atlasmapping.xml?asyncProcessing=true&asyncThreshold=1024&executorService=#countingExecutor");
+            }
+        });
+        ProducerTemplate template = camelContext.createProducerTemplate();
+        template.send("direct:threshold", e -> e.getIn().setBody("{}"));
+        template.send("direct:threshold", e -> e.getIn().setBody(new byte[16]));
+        assertEquals(0, offloaded.get());
+
+        StringBuilder large = new StringBuilder();
+        while (large.length() < 1024) {
+            large.append("{}");
+        }
+        template.send("direct:threshold", e -> e.getIn().setBody(large.toString()));
+        assertEquals(1, offloaded.get());
+
+        assertBody(template.send("direct:threshold", e -> e.getIn().setBody(Util.generateMockTwitterStatus())));
+        assertEquals(2, offloaded.get());
+        counting.shutdownNow();
+    }
+
+    @Test
+    public void testAsyncProcessingError() throws Exception {
+        Exchange exchange = camelContext.createProducerTemplate().send("direct:async",
+            e -> e.getIn().setHeader(AtlasConstants.ATLAS_MAPPING, "not a mapping"));
+        assertNotNull(exchange.getException());
+    }
+
+    @Test
+    public void testSyncProcessing() throws Exception {
+        Exchange exchange = camelContext.createProducerTemplate().send("direct:sync",
+            e -> e.getIn().setBody(Util.generateMockTwitterStatus()));
+        assertBody(exchange);
+    }
+
+    private void assertBody(Exchange exchange) throws Exception {
+        if (exchange.getException() != null) {
+            throw exchange.getException();
+        }
+        Object body = exchange.hasOut() ? exchange.getOut().getBody() : exchange.getIn().getBody();
+        JsonNode outJson = new ObjectMapper().readTree((String) body);
+        assertEquals("Bob", outJson.get("FirstName").asText());
+        assertEquals("Vila", outJson.get("LastName").asText());
+    }
+}
@@ -19,6 +19,31 @@ public class AtlasConstants {
     public static final String DEFAULT_SOURCE_DOCUMENT_ID = "ATLAS_DEFAULT_SOURCE_DOC";
     public static final String DEFAULT_TARGET_DOCUMENT_ID = "ATLAS_DEFAULT_TARGET_DOC";
 
+    /**
+     * Session property which selects the type of the text based target documents, either the class
+     * {@code String} (default), {@code byte[]} or {@code java.io.InputStream}, or its simple name.
+     * Bytes are UTF-8 encoded.
+     */
+    public static final String TARGET_DOCUMENT_TYPE_PROPERTY = "Atlas.TargetDocumentType";
+
+    /**
+     * Session property with the minimum {@code AuditStatus} of the recorded audits, {@code All} by default.
+     * ERROR audits are always recorded.
+     */
+    public static final String AUDIT_LEVEL_PROPERTY = "Atlas.AuditLevel";
+
+    /**
+     * Session property which collapses repeated audits with the same status, docId, path and message
+     * into one audit annotated with its count. Disabled by default.
+     */
+    public static final String AUDIT_DEDUPLICATE_PROPERTY = "Atlas.AuditDeduplicate";
+
+    /**
+     * Session property with the maximum number of non-ERROR audits recorded per processing run,
+     * unlimited by default.
+     */
+    public static final String AUDIT_MAX_ENTRIES_PROPERTY = "Atlas.AuditMaxEntries";
+
     private AtlasConstants() {
     }
 }
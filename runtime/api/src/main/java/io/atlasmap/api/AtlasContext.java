@@ -15,7 +15,7 @@
  */
 package io.atlasmap.api;
 
-public interface AtlasContext {
+public interface AtlasContext extends AutoCloseable {
 
     AtlasContextFactory getContextFactory();
 
@@ -24,4 +24,11 @@ public interface AtlasContext {
     void process(AtlasSession session) throws AtlasException;
 
     void processValidation(AtlasSession session) throws AtlasException;
+
+    /**
+     * Releases the resources held by this context, such as its JMX registration. The context must not be
+     * used after it has been closed.
+     */
+    @Override
+    void close();
 }
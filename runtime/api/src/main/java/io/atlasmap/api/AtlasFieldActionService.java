@@ -17,6 +17,7 @@ package io.atlasmap.api;
 
 import java.util.List;
 
+import io.atlasmap.v2.Action;
 import io.atlasmap.v2.ActionDetail;
 import io.atlasmap.v2.Actions;
 import io.atlasmap.v2.Field;
@@ -28,4 +29,16 @@ public interface AtlasFieldActionService {
     void processActions(Actions actions, Field field) throws AtlasException;
     Object processActions(Actions actions, Object sourceValue, FieldType targetType) throws AtlasException;
 
+    /**
+     * Whether the action always produces the same result for the same input value, see
+     * {@link io.atlasmap.spi.AtlasFieldActionInfo#pure()}. The default implementation treats every action as
+     * impure.
+     *
+     * @param action action
+     * @return true if the action can be evaluated ahead of time
+     */
+    default boolean isPure(Action action) {
+        return false;
+    }
+
 }
@@ -15,6 +15,8 @@
  */
 package io.atlasmap.mxbean;
 
+import java.util.Map;
+
 public interface AtlasContextFactoryMXBean {
     public String getUuid();
 
@@ -24,4 +26,16 @@ public interface AtlasContextFactoryMXBean {
 
     public String getVersion();
 
+    public int getLiveContextCount();
+
+    public long getCreatedContextCount();
+
+    public long getEvictedContextCount();
+
+    public int getMaxContexts();
+
+    public long getContextIdleTimeout();
+
+    public Map<String, Long> getInitTimings();
+
 }
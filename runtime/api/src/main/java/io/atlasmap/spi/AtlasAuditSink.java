@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.spi;
+
+import io.atlasmap.v2.AuditStatus;
+
+/**
+ * Receives the audits raised while a session is processed. A sink may drop audits below a minimum level,
+ * collapse repeated audits and cap the number of recorded audits, and only formats the message of the
+ * audits it actually records.
+ */
+public interface AtlasAuditSink {
+
+    /**
+     * @param status audit status
+     * @return true if an audit with the status would be recorded, ignoring deduplication and limits
+     */
+    boolean isEnabled(AuditStatus status);
+
+    /**
+     * Records an audit.
+     *
+     * @param status audit status
+     * @param docId document ID, may be null
+     * @param path field path, may be null
+     * @param value field value, may be null
+     * @param message message, or a {@link String#format(String, Object...)} pattern if arguments are given
+     * @param args message arguments, only formatted if the audit is recorded
+     */
+    void audit(AuditStatus status, String docId, String path, String value, String message, Object... args);
+
+    /**
+     * Prepares the sink for a new processing run of the session.
+     */
+    void reset();
+
+    /**
+     * Completes the processing run, e.g. by annotating collapsed audits with their counts.
+     */
+    void flush();
+
+    /**
+     * @return the number of audits which were not recorded since the last {@link #reset()}
+     */
+    int getSuppressedCount();
+}
@@ -15,6 +15,7 @@
  */
 package io.atlasmap.spi;
 
+import java.util.HashMap;
 import java.util.Map;
 
 public interface AtlasCombineStrategy {
@@ -36,4 +37,23 @@ public interface AtlasCombineStrategy {
     String combineValues(Map<Integer, String> values, String delimiter);
 
     String combineValues(Map<Integer, String> values, String delimiter, Integer maxItems);
+
+    /**
+     * Combines the values held in index slots, which lets the caller reuse an array sized from the mapping
+     * instead of building a Map. A null element stands for a missing or null value.
+     *
+     * @param values values by index
+     * @param delimiter delimiter, or null to use the strategy delimiter
+     * @return combined value
+     */
+    default String combineValues(String[] values, String delimiter) {
+        if (values == null) {
+            return null;
+        }
+        Map<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            map.put(i, values[i]);
+        }
+        return delimiter != null ? combineValues(map, delimiter) : combineValues(map);
+    }
 }
@@ -33,4 +33,10 @@ public @interface AtlasFieldActionInfo {
     CollectionType sourceCollectionType();
 
     CollectionType targetCollectionType();
+
+    /**
+     * Whether the result only depends on the input value and the action parameters. Actions which read the
+     * clock or generate random values must set this to false, so that they are never evaluated ahead of time.
+     */
+    boolean pure() default true;
 }
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.spi;
+
+import io.atlasmap.api.AtlasException;
+
+/**
+ * Reads the records of a top-level collection one at a time, so that a large document can be mapped
+ * record by record without holding it in memory as a whole.
+ */
+public interface AtlasRecordReader extends AutoCloseable {
+
+    /**
+     * @return true if another record is available
+     * @throws AtlasException if the underlying document cannot be read
+     */
+    boolean hasNext() throws AtlasException;
+
+    /**
+     * @return the next record as a standalone source document
+     * @throws AtlasException if the underlying document cannot be read or there are no more records
+     */
+    Object next() throws AtlasException;
+
+    @Override
+    void close() throws AtlasException;
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.spi;
+
+import io.atlasmap.api.AtlasException;
+
+/**
+ * Appends mapped records to a top-level collection. {@link #close()} completes the collection.
+ */
+public interface AtlasRecordWriter extends AutoCloseable {
+
+    /**
+     * @param record the target document produced for a single record
+     * @throws AtlasException if the record cannot be written
+     */
+    void write(Object record) throws AtlasException;
+
+    @Override
+    void close() throws AtlasException;
+}
@@ -36,4 +36,22 @@ public interface AtlasSeparateStrategy {
     List<String> separateValue(String value, String delimiter);
 
     List<String> separateValue(String value, String delimiter, Integer limit);
+
+    /**
+     * Separates the value directly into the given slots, so only as many segments as the mapping targets
+     * need to be produced. The slot i receives the segment i.
+     *
+     * @param value value to separate
+     * @param delimiter delimiter, or null to use the strategy delimiter
+     * @param slots segments by index
+     * @return the number of slots filled, less than slots.length only when the value has fewer segments
+     */
+    default int separateValue(String value, String delimiter, String[] slots) {
+        List<String> values = delimiter != null ? separateValue(value, delimiter) : separateValue(value);
+        int count = Math.min(values.size(), slots.length);
+        for (int i = 0; i < count; i++) {
+            slots[i] = values.get(i);
+        }
+        return count;
+    }
 }
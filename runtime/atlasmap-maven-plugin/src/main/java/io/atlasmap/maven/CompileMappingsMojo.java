@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.AtlasMappingService;
+import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
+import io.atlasmap.core.AtlasMappingValidator;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationStatus;
+
+/**
+ * Validates mapping files at build time and writes them in the {@link AtlasMappingFormat#COMPILED} form,
+ * which is loaded at runtime without JAXB unmarshalling or Jackson parsing.
+ */
+@Mojo(name = "compile-mappings", defaultPhase = LifecyclePhase.PROCESS_RESOURCES)
+public class CompileMappingsMojo extends AbstractMojo {
+
+    public static final String COMPILED_MAPPING_EXTENSION = ".atlasmap";
+
+    /**
+     * The directory where compiled mappings get generated to.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File outputDir;
+
+    /**
+     * The mapping file to compile. The format is detected from the file extension, {@code .json} for JSON and
+     * XML otherwise.
+     */
+    @Parameter(property = "mappingFile")
+    private File mappingFile;
+
+    /**
+     * The mapping files to compile.
+     */
+    @Parameter
+    private List<File> mappingFiles;
+
+    /**
+     * Whether to fail the build when a mapping has validation errors.
+     */
+    @Parameter(property = "failOnValidationErrors", defaultValue = "true")
+    private boolean failOnValidationErrors = true;
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        List<File> files = new ArrayList<>();
+        if (mappingFile != null) {
+            files.add(mappingFile);
+        }
+        if (mappingFiles != null) {
+            files.addAll(mappingFiles);
+        }
+        if (files.isEmpty()) {
+            getLog().info("No mapping files configured, skipping");
+            return;
+        }
+        if (outputDir != null) {
+            outputDir.mkdirs();
+        }
+
+        DefaultAtlasContextFactory factory = new DefaultAtlasContextFactory();
+        factory.init();
+        try {
+            AtlasMappingValidator validator = new AtlasMappingValidator(factory);
+            for (File file : files) {
+                compileMapping(factory.getMappingService(), validator, file);
+            }
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    private void compileMapping(AtlasMappingService mappingService, AtlasMappingValidator validator, File file)
+            throws MojoExecutionException, MojoFailureException {
+        String name = file.getName();
+        AtlasMappingFormat format = name.toLowerCase().endsWith(".json")
+                ? AtlasMappingFormat.JSON : AtlasMappingFormat.XML;
+        int dot = name.lastIndexOf('.');
+        File target = new File(outputDir, (dot > 0 ? name.substring(0, dot) : name) + COMPILED_MAPPING_EXTENSION);
+
+        try {
+            AtlasMapping mapping = mappingService.loadMapping(file, format);
+            int errors = 0;
+            for (Validation v : validator.validateMapping(mapping)) {
+                String message = String.format("%s: [%s] %s", file, v.getId(), v.getMessage());
+                if (ValidationStatus.ERROR.equals(v.getStatus())) {
+                    getLog().error(message);
+                    errors++;
+                } else if (ValidationStatus.WARN.equals(v.getStatus())) {
+                    getLog().warn(message);
+                } else {
+                    getLog().debug(message);
+                }
+            }
+            if (errors > 0 && failOnValidationErrors) {
+                throw new MojoFailureException(String.format("Mapping %s has %s validation errors", file, errors));
+            }
+            mappingService.saveMappingAsFile(mapping, target, AtlasMappingFormat.COMPILED);
+            getLog().info("Created: " + target);
+        } catch (AtlasException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    public File getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public File getMappingFile() {
+        return mappingFile;
+    }
+
+    public void setMappingFile(File mappingFile) {
+        this.mappingFile = mappingFile;
+    }
+
+    public List<File> getMappingFiles() {
+        return mappingFiles;
+    }
+
+    public void setMappingFiles(List<File> mappingFiles) {
+        this.mappingFiles = mappingFiles;
+    }
+
+    public boolean isFailOnValidationErrors() {
+        return failOnValidationErrors;
+    }
+
+    public void setFailOnValidationErrors(boolean failOnValidationErrors) {
+        this.failOnValidationErrors = failOnValidationErrors;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.core.AtlasMappingService;
+import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
+import io.atlasmap.v2.AtlasMapping;
+
+public class CompileMappingsMojoTest {
+
+    private File outputDir;
+    private CompileMappingsMojo mojo;
+
+    @Before
+    public void setUp() {
+        outputDir = new File("target/compiled-mappings-" + System.nanoTime());
+        mojo = new CompileMappingsMojo();
+        mojo.setOutputDir(outputDir);
+    }
+
+    @Test
+    public void testCompileMapping() throws Exception {
+        mojo.setMappingFile(new File("src/test/resources/atlasmapping.xml"));
+        mojo.execute();
+
+        File compiled = new File(outputDir, "atlasmapping" + CompileMappingsMojo.COMPILED_MAPPING_EXTENSION);
+        assertTrue(compiled.exists());
+        AtlasMapping mapping = new AtlasMappingService().loadMapping(compiled, AtlasMappingFormat.COMPILED);
+        assertEquals("testname", mapping.getName());
+        assertEquals(2, mapping.getMappings().getMapping().size());
+    }
+
+    @Test(expected = MojoFailureException.class)
+    public void testCompileInvalidMapping() throws Exception {
+        mojo.setMappingFiles(Arrays.asList(new File("src/test/resources/atlasmapping-invalid.xml")));
+        try {
+            mojo.execute();
+        } finally {
+            assertFalse(new File(outputDir, "atlasmapping-invalid" + CompileMappingsMojo.COMPILED_MAPPING_EXTENSION)
+                    .exists());
+        }
+    }
+
+    @Test
+    public void testCompileInvalidMappingWithoutFailing() throws Exception {
+        mojo.setMappingFiles(Arrays.asList(new File("src/test/resources/atlasmapping-invalid.xml")));
+        mojo.setFailOnValidationErrors(false);
+        mojo.execute();
+        assertTrue(new File(outputDir, "atlasmapping-invalid" + CompileMappingsMojo.COMPILED_MAPPING_EXTENSION)
+                .exists());
+    }
+}
@@ -0,0 +1,339 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.actions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Capitalize;
+import io.atlasmap.v2.Lowercase;
+import io.atlasmap.v2.Normalize;
+import io.atlasmap.v2.PadStringLeft;
+import io.atlasmap.v2.PadStringRight;
+import io.atlasmap.v2.SeparateByDash;
+import io.atlasmap.v2.SeparateByUnderscore;
+import io.atlasmap.v2.Trim;
+import io.atlasmap.v2.TrimLeft;
+import io.atlasmap.v2.TrimRight;
+import io.atlasmap.v2.Uppercase;
+
+/**
+ * Applies a run of consecutive character level string field actions in one go. The value is copied once into
+ * a per-thread char buffer, each action edits the buffer in place and a single String is created at the end,
+ * instead of one intermediate String per action.
+ *
+ * The result is the same as chaining the {@link StringSimpleFieldActions} and {@link StringComplexFieldActions}
+ * methods. Case changes are done in place for ASCII text only, any other text goes through
+ * {@link String#toUpperCase()} / {@link String#toLowerCase()} like the actions themselves.
+ */
+public final class FusedStringActions {
+
+    static final int MAX_RETAINED_BUFFER = 8192;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private FusedStringActions() {
+    }
+
+    /**
+     * @param action field action
+     * @return true if the action can be part of a fused run
+     */
+    public static boolean isFusable(Action action) {
+        if (action instanceof PadStringLeft) {
+            PadStringLeft pad = (PadStringLeft) action;
+            return pad.getPadCharacter() != null && pad.getPadCount() != null;
+        }
+        if (action instanceof PadStringRight) {
+            PadStringRight pad = (PadStringRight) action;
+            return pad.getPadCharacter() != null && pad.getPadCount() != null;
+        }
+        return action instanceof Trim || action instanceof TrimLeft || action instanceof TrimRight
+                || action instanceof Lowercase || action instanceof Uppercase || action instanceof Capitalize
+                || action instanceof SeparateByDash || action instanceof SeparateByUnderscore
+                || action instanceof Normalize;
+    }
+
+    /**
+     * @param actions field actions
+     * @param from index of the first action to apply
+     * @param to index after the last action to apply, all the actions in between must be {@link #isFusable(Action)}
+     * @param input value
+     * @return the value after applying the actions
+     */
+    public static String apply(List<Action> actions, int from, int to, String input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Fused string actions require a non null input");
+        }
+        boolean asciiCase = isAsciiCaseLocale(Locale.getDefault());
+        Buffer buffer = BUFFER.get();
+        buffer.load(input);
+        try {
+            for (int i = from; i < to; i++) {
+                apply(buffer, actions.get(i), asciiCase);
+            }
+            return buffer.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static void apply(Buffer buffer, Action action, boolean asciiCase) {
+        if (action instanceof Trim) {
+            buffer.trim();
+        } else if (action instanceof TrimLeft) {
+            buffer.trimLeft();
+        } else if (action instanceof TrimRight) {
+            buffer.trimRight();
+        } else if (action instanceof Lowercase) {
+            if (!asciiCase || !buffer.lowercaseAscii()) {
+                buffer.load(buffer.toString().toLowerCase());
+            }
+        } else if (action instanceof Uppercase) {
+            if (!asciiCase || !buffer.uppercaseAscii()) {
+                buffer.load(buffer.toString().toUpperCase());
+            }
+        } else if (action instanceof Capitalize) {
+            if (!asciiCase || !buffer.capitalizeAscii()) {
+                buffer.load(StringSimpleFieldActions.capitalize(action, buffer.toString()));
+            }
+        } else if (action instanceof SeparateByDash) {
+            buffer.separate('-');
+        } else if (action instanceof SeparateByUnderscore) {
+            buffer.separate('_');
+        } else if (action instanceof Normalize) {
+            buffer.normalize();
+        } else if (action instanceof PadStringLeft) {
+            PadStringLeft pad = (PadStringLeft) action;
+            buffer.padLeft(pad.getPadCharacter(), pad.getPadCount());
+        } else if (action instanceof PadStringRight) {
+            PadStringRight pad = (PadStringRight) action;
+            buffer.padRight(pad.getPadCharacter(), pad.getPadCount());
+        } else {
+            throw new IllegalArgumentException("Field action " + action.getDisplayName() + " can't be fused");
+        }
+    }
+
+    /**
+     * Turkish and Azeri map the ASCII i / I to non ASCII letters, and so need the locale aware conversion.
+     */
+    static boolean isAsciiCaseLocale(Locale locale) {
+        String language = locale.getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+
+    private static boolean isSeparator(char c) {
+        switch (c) {
+        case ' ': case '\t': case '\n': case '\u000B': case '\f': case '\r':
+        case '+': case ':': case '_': case '=': case '-':
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Value being processed, kept in {@code chars} between {@code start} and {@code end}, so trimming and
+     * left padding into the free space before {@code start} don't need to move the value.
+     */
+    private static final class Buffer {
+        private char[] chars = new char[64];
+        private int start;
+        private int end;
+
+        void load(String value) {
+            int length = value.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            value.getChars(0, length, chars, 0);
+            start = 0;
+            end = length;
+        }
+
+        void release() {
+            if (chars.length > MAX_RETAINED_BUFFER) {
+                chars = new char[64];
+            }
+        }
+
+        void trim() {
+            while (start < end && chars[start] <= ' ') {
+                start++;
+            }
+            while (end > start && chars[end - 1] <= ' ') {
+                end--;
+            }
+        }
+
+        void trimLeft() {
+            while (start < end && Character.isWhitespace(chars[start])) {
+                start++;
+            }
+        }
+
+        void trimRight() {
+            while (end > start && Character.isWhitespace(chars[end - 1])) {
+                end--;
+            }
+        }
+
+        boolean lowercaseAscii() {
+            for (int i = start; i < end; i++) {
+                if (chars[i] >= 0x80) {
+                    return false;
+                }
+            }
+            for (int i = start; i < end; i++) {
+                char c = chars[i];
+                if (c >= 'A' && c <= 'Z') {
+                    chars[i] = (char) (c + ('a' - 'A'));
+                }
+            }
+            return true;
+        }
+
+        boolean uppercaseAscii() {
+            for (int i = start; i < end; i++) {
+                if (chars[i] >= 0x80) {
+                    return false;
+                }
+            }
+            for (int i = start; i < end; i++) {
+                char c = chars[i];
+                if (c >= 'a' && c <= 'z') {
+                    chars[i] = (char) (c - ('a' - 'A'));
+                }
+            }
+            return true;
+        }
+
+        boolean capitalizeAscii() {
+            if (start == end) {
+                return true;
+            }
+            char c = chars[start];
+            if (c >= 0x80) {
+                return false;
+            }
+            if (c >= 'a' && c <= 'z') {
+                chars[start] = (char) (c - ('a' - 'A'));
+            }
+            return true;
+        }
+
+        /**
+         * Same as replacing {@link StringSimpleFieldActions#STRING_SEPARATOR_REGEX} with the separator.
+         */
+        void separate(char separator) {
+            int w = start;
+            boolean inRun = false;
+            for (int r = start; r < end; r++) {
+                char c = chars[r];
+                if (isSeparator(c)) {
+                    if (!inRun) {
+                        chars[w++] = separator;
+                        inRun = true;
+                    }
+                } else {
+                    chars[w++] = c;
+                    inRun = false;
+                }
+            }
+            end = w;
+        }
+
+        /**
+         * Same as replacing {@code \s+} with a space and trimming.
+         */
+        void normalize() {
+            int w = start;
+            boolean inRun = false;
+            for (int r = start; r < end; r++) {
+                char c = chars[r];
+                if (isRegexWhitespace(c)) {
+                    if (!inRun) {
+                        chars[w++] = ' ';
+                        inRun = true;
+                    }
+                } else {
+                    chars[w++] = c;
+                    inRun = false;
+                }
+            }
+            end = w;
+            trim();
+        }
+
+        void padLeft(String padCharacter, int padCount) {
+            int padLength = padLength(padCharacter, padCount);
+            if (padLength == 0) {
+                return;
+            }
+            if (start < padLength) {
+                int length = end - start;
+                char[] target = chars;
+                if (chars.length < padLength + length) {
+                    target = new char[Math.max(padLength + length, chars.length * 2)];
+                }
+                System.arraycopy(chars, start, target, padLength, length);
+                chars = target;
+                start = padLength;
+                end = padLength + length;
+            }
+            for (int i = 0; i < padCount; i++) {
+                start -= padCharacter.length();
+                padCharacter.getChars(0, padCharacter.length(), chars, start);
+            }
+        }
+
+        void padRight(String padCharacter, int padCount) {
+            int padLength = padLength(padCharacter, padCount);
+            if (padLength == 0) {
+                return;
+            }
+            if (chars.length - end < padLength) {
+                chars = Arrays.copyOf(chars, Math.max(end + padLength, chars.length * 2));
+            }
+            for (int i = 0; i < padCount; i++) {
+                padCharacter.getChars(0, padCharacter.length(), chars, end);
+                end += padCharacter.length();
+            }
+        }
+
+        private int padLength(String padCharacter, int padCount) {
+            if (padCount <= 0) {
+                return 0;
+            }
+            long padLength = (long) padCount * padCharacter.length();
+            if (padLength + chars.length > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Padded string is too long");
+            }
+            return (int) padLength;
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, end - start);
+        }
+    }
+}
@@ -187,26 +187,7 @@ public class NumberFieldActions implements AtlasFieldAction {
             return 0;
         }
 
-        Collection<?> inputs = collection(input);
-
-        Number sum = 0L;
-        for (Object entry : inputs) {
-            if (entry instanceof Number) {
-                if (sum instanceof BigDecimal) {
-                    sum = ((BigDecimal) sum).add(BigDecimal.valueOf(((Number) entry).doubleValue()));
-                } else if (entry instanceof BigDecimal) {
-                    sum = BigDecimal.valueOf(sum.doubleValue()).add((BigDecimal) entry);
-                } else if (requiresDoubleResult(sum) || requiresDoubleResult(entry)) {
-                    sum = sum.doubleValue() + ((Number) entry).doubleValue();
-                } else {
-                    sum = sum.longValue() + ((Number) entry).longValue();
-                }
-            } else {
-                throw new IllegalArgumentException(COLLECTION_MUST_CONTAIN_NUMBERS_ERR_MSG);
-            }
-        }
-
-        return sum;
+        return sum(input).getSum();
     }
 
     @AtlasFieldActionInfo(name = "Average", sourceType = FieldType.NUMBER, targetType = FieldType.NUMBER, sourceCollectionType = CollectionType.ALL, targetCollectionType = CollectionType.NONE)
@@ -214,8 +195,9 @@ public class NumberFieldActions implements AtlasFieldAction {
         if (input == null) {
             return 0;
         }
-        Collection<?> inputs = collection(input);
-        return add(null, input).doubleValue() / inputs.size();
+
+        Sum sum = sum(input);
+        return sum.getSum().doubleValue() / sum.count;
     }
 
     @AtlasFieldActionInfo(name = "Ceiling", sourceType = FieldType.NUMBER, targetType = FieldType.NUMBER, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
@@ -332,22 +314,7 @@ public class NumberFieldActions implements AtlasFieldAction {
             return 0;
         }
 
-        Collection<?> inputs = collection(input);
-
-        Number max = null;
-        for (Object entry : inputs) {
-            if (entry instanceof Number) {
-                if (max instanceof BigDecimal && entry instanceof BigDecimal) {
-                    max = ((BigDecimal) entry).max((BigDecimal)max);
-                } else if (max == null || ((Number) entry).doubleValue() > max.doubleValue()) {
-                    max = (Number) entry;
-                }
-            } else {
-                throw new IllegalArgumentException(COLLECTION_MUST_CONTAIN_NUMBERS_ERR_MSG);
-            }
-        }
-
-        return max;
+        return extremum(input, 1);
     }
 
     @AtlasFieldActionInfo(name = "Minimum", sourceType = FieldType.NUMBER, targetType = FieldType.NUMBER, sourceCollectionType = CollectionType.ALL, targetCollectionType = CollectionType.NONE)
@@ -356,22 +323,7 @@ public class NumberFieldActions implements AtlasFieldAction {
             return 0;
         }
 
-        Collection<?> inputs = collection(input);
-
-        Number min = null;
-        for (Object entry : inputs) {
-            if (entry instanceof Number) {
-                if (min instanceof BigDecimal && entry instanceof BigDecimal) {
-                    min = ((BigDecimal) entry).min((BigDecimal)min);
-                } else if (min == null || ((Number) entry).doubleValue() < min.doubleValue()) {
-                    min = (Number) entry;
-                }
-            } else {
-                throw new IllegalArgumentException(COLLECTION_MUST_CONTAIN_NUMBERS_ERR_MSG);
-            }
-        }
-
-        return min;
+        return extremum(input, -1);
     }
 
     @AtlasFieldActionInfo(name = "Multiply", sourceType = FieldType.NUMBER, targetType = FieldType.NUMBER, sourceCollectionType = CollectionType.ALL, targetCollectionType = CollectionType.NONE)
@@ -437,6 +389,123 @@ public class NumberFieldActions implements AtlasFieldAction {
         return difference;
     }
 
+    /**
+     * Sums in a single pass. Primitive arrays are summed in a primitive loop, other inputs go through a
+     * {@link Sum} which keeps a primitive accumulator until a wider type is required.
+     */
+    private static Sum sum(Object input) {
+        Sum sum = new Sum();
+        if (input instanceof int[]) {
+            for (int value : (int[]) input) {
+                sum.longSum += value;
+            }
+            sum.count = ((int[]) input).length;
+        } else if (input instanceof long[]) {
+            for (long value : (long[]) input) {
+                sum.longSum += value;
+            }
+            sum.count = ((long[]) input).length;
+        } else if (input instanceof double[] && ((double[]) input).length > 0) {
+            sum.state = Sum.DOUBLE;
+            for (double value : (double[]) input) {
+                sum.doubleSum += value;
+            }
+            sum.count = ((double[]) input).length;
+        } else if (input instanceof float[] && ((float[]) input).length > 0) {
+            sum.state = Sum.DOUBLE;
+            for (float value : (float[]) input) {
+                sum.doubleSum += value;
+            }
+            sum.count = ((float[]) input).length;
+        } else {
+            sum.addAll(collection(input));
+        }
+        return sum;
+    }
+
+    /**
+     * Picks the largest value when {@code order} is 1 and the smallest one when it is -1. Primitive arrays are
+     * compared in primitive loops, other inputs as boxed numbers.
+     */
+    private static Number extremum(Object input, int order) {
+        if (input instanceof int[]) {
+            int[] values = (int[]) input;
+            if (values.length == 0) {
+                return null;
+            }
+            int result = values[0];
+            for (int i = 1; i < values.length; i++) {
+                if (Integer.compare(values[i], result) * order > 0) {
+                    result = values[i];
+                }
+            }
+            return result;
+        }
+        if (input instanceof long[]) {
+            long[] values = (long[]) input;
+            if (values.length == 0) {
+                return null;
+            }
+            long result = values[0];
+            for (int i = 1; i < values.length; i++) {
+                if (Long.compare(values[i], result) * order > 0) {
+                    result = values[i];
+                }
+            }
+            return result;
+        }
+        if (input instanceof double[]) {
+            double[] values = (double[]) input;
+            if (values.length == 0) {
+                return null;
+            }
+            double result = values[0];
+            for (int i = 1; i < values.length; i++) {
+                if (precedes(values[i], result, order)) {
+                    result = values[i];
+                }
+            }
+            return result;
+        }
+        if (input instanceof float[]) {
+            float[] values = (float[]) input;
+            if (values.length == 0) {
+                return null;
+            }
+            float result = values[0];
+            for (int i = 1; i < values.length; i++) {
+                if (precedes(values[i], result, order)) {
+                    result = values[i];
+                }
+            }
+            return result;
+        }
+
+        Number result = null;
+        for (Object entry : collection(input)) {
+            if (!(entry instanceof Number)) {
+                throw new IllegalArgumentException(COLLECTION_MUST_CONTAIN_NUMBERS_ERR_MSG);
+            }
+            if (result instanceof BigDecimal && entry instanceof BigDecimal) {
+                // ties keep the later entry, like BigDecimal.max() / min()
+                if (((BigDecimal) entry).compareTo((BigDecimal) result) * order >= 0) {
+                    result = (Number) entry;
+                }
+            } else if (result == null || precedes(((Number) entry).doubleValue(), result.doubleValue(), order)) {
+                result = (Number) entry;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plain comparison rather than {@link Double#compare(double, double)}, so NaN and signed zeros are
+     * handled the same as in the boxed comparison.
+     */
+    private static boolean precedes(double value, double current, int order) {
+        return order > 0 ? value > current : value < current;
+    }
+
     private static Collection<?> collection(Object input) {
         if (input instanceof Collection) {
             return (Collection<?>) input;
@@ -501,4 +570,80 @@ public class NumberFieldActions implements AtlasFieldAction {
     private static boolean requiresDoubleResult(Object object) {
         return object instanceof Double || object instanceof Float;
     }
+
+    /**
+     * Running sum, starting as a long and widened to a double or a BigDecimal with the same rules as the
+     * boxed arithmetic it replaces.
+     */
+    private static final class Sum {
+        private static final int LONG = 0;
+        private static final int DOUBLE = 1;
+        private static final int BIG_DECIMAL = 2;
+
+        private int state = LONG;
+        private long longSum;
+        private double doubleSum;
+        private BigDecimal bigSum;
+        private int count;
+
+        private void add(Object entry) {
+            if (!(entry instanceof Number)) {
+                throw new IllegalArgumentException(COLLECTION_MUST_CONTAIN_NUMBERS_ERR_MSG);
+            }
+            Number value = (Number) entry;
+            count++;
+            switch (state) {
+            case LONG:
+                if (value instanceof BigDecimal) {
+                    bigSum = BigDecimal.valueOf((double) longSum).add((BigDecimal) value);
+                    state = BIG_DECIMAL;
+                } else if (requiresDoubleResult(value)) {
+                    doubleSum = (double) longSum + value.doubleValue();
+                    state = DOUBLE;
+                } else {
+                    longSum += value.longValue();
+                }
+                break;
+            case DOUBLE:
+                if (value instanceof BigDecimal) {
+                    bigSum = BigDecimal.valueOf(doubleSum).add((BigDecimal) value);
+                    state = BIG_DECIMAL;
+                } else {
+                    doubleSum += value.doubleValue();
+                }
+                break;
+            default:
+                bigSum = bigSum.add(BigDecimal.valueOf(value.doubleValue()));
+            }
+        }
+
+        /**
+         * Adds all the entries. The element class is taken from the first entry, and following entries of the
+         * same class skip the type checks in {@link #add(Object)}.
+         */
+        private void addAll(Collection<?> entries) {
+            Class<?> type = null;
+            for (Object entry : entries) {
+                if (type == null || entry == null || entry.getClass() != type || state == BIG_DECIMAL) {
+                    add(entry);
+                    if (type == null) {
+                        type = entry.getClass();
+                    }
+                } else if (state == LONG) {
+                    longSum += ((Number) entry).longValue();
+                    count++;
+                } else {
+                    doubleSum += ((Number) entry).doubleValue();
+                    count++;
+                }
+            }
+        }
+
+        private Number getSum() {
+            if (state == LONG) {
+                return longSum;
+            }
+            return state == DOUBLE ? doubleSum : bigSum;
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.actions;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the compiled regular expressions and parsed format templates of the string field actions, so
+ * they are compiled once per distinct pattern instead of on every invocation. The model {@code Action}s
+ * are generated classes, so the cache is keyed by the pattern itself. The validation warms the cache when
+ * the mapping is loaded.
+ */
+public final class StringActionCache {
+
+    static final int MAX_ENTRIES = 1024;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<String, FormatTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private StringActionCache() {
+    }
+
+    /**
+     * @param regex regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid, invalid expressions are not cached
+     */
+    public static Pattern getPattern(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            if (PATTERNS.size() >= MAX_ENTRIES) {
+                PATTERNS.clear();
+            }
+            PATTERNS.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * @param template {@link String#format(String, Object...)} template
+     * @return the parsed template
+     */
+    public static FormatTemplate getFormatTemplate(String template) {
+        FormatTemplate answer = TEMPLATES.get(template);
+        if (answer == null) {
+            answer = new FormatTemplate(template);
+            if (TEMPLATES.size() >= MAX_ENTRIES) {
+                TEMPLATES.clear();
+            }
+            TEMPLATES.put(template, answer);
+        }
+        return answer;
+    }
+
+    static void clear() {
+        PATTERNS.clear();
+        TEMPLATES.clear();
+    }
+
+    static int size() {
+        return PATTERNS.size() + TEMPLATES.size();
+    }
+
+    /**
+     * A format template applied to a single argument. Templates which consist of literal text, {@code %%},
+     * {@code %n} and at most one plain {@code %s} are split into segments once and concatenated, any
+     * other template is delegated to {@link String#format(String, Object...)}.
+     */
+    public static final class FormatTemplate {
+        private final String template;
+        private final String[] segments;
+
+        FormatTemplate(String template) {
+            this.template = template;
+            this.segments = parse(template);
+        }
+
+        public String format(Object input) {
+            if (segments == null || input instanceof Formattable) {
+                return String.format(template, input);
+            }
+            if (segments.length == 1) {
+                return segments[0];
+            }
+            return segments[0].concat(String.valueOf(input)).concat(segments[1]);
+        }
+
+        /**
+         * @return true if the template is handled without {@link String#format(String, Object...)}
+         */
+        public boolean isSimple() {
+            return segments != null;
+        }
+
+        private static String[] parse(String template) {
+            List<String> answer = new ArrayList<>(2);
+            StringBuilder buffer = new StringBuilder(template.length());
+            for (int i = 0; i < template.length(); i++) {
+                char c = template.charAt(i);
+                if (c != '%') {
+                    buffer.append(c);
+                    continue;
+                }
+                if (++i == template.length()) {
+                    return null;
+                }
+                char conversion = template.charAt(i);
+                if (conversion == '%') {
+                    buffer.append('%');
+                } else if (conversion == 'n') {
+                    buffer.append(System.lineSeparator());
+                } else if (conversion == 's' && answer.isEmpty()) {
+                    answer.add(buffer.toString());
+                    buffer.setLength(0);
+                } else {
+                    return null;
+                }
+            }
+            answer.add(buffer.toString());
+            return answer.toArray(new String[answer.size()]);
+        }
+    }
+}
@@ -124,10 +124,10 @@ public class StringComplexFieldActions implements AtlasFieldAction {
             throw new IllegalArgumentException("Format must be specfied with a template");
         }
 
-        return String.format(format.getTemplate(), input);
+        return StringActionCache.getFormatTemplate(format.getTemplate()).format(input);
     }
 
-    @AtlasFieldActionInfo(name = "GenerateUUID", sourceType = FieldType.ALL, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
+    @AtlasFieldActionInfo(name = "GenerateUUID", sourceType = FieldType.ALL, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE, pure = false)
     public static String genareteUUID(Action action, Object input) {
         return UUID.randomUUID().toString();
     }
@@ -230,7 +230,8 @@ public class StringComplexFieldActions implements AtlasFieldAction {
         }
 
         String newString = replaceAll.getNewString();
-        return input == null ? null : input.replaceAll(match, newString == null ? "" : newString);
+        return input == null ? null
+                : StringActionCache.getPattern(match).matcher(input).replaceAll(newString == null ? "" : newString);
     }
 
     @AtlasFieldActionInfo(name = "ReplaceFirst", sourceType = FieldType.STRING, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
@@ -246,7 +247,8 @@ public class StringComplexFieldActions implements AtlasFieldAction {
         }
 
         String newString = replaceFirst.getNewString();
-        return input == null ? null : input.replaceFirst(match, newString == null ? "" : newString);
+        return input == null ? null
+                : StringActionCache.getPattern(match).matcher(input).replaceFirst(newString == null ? "" : newString);
     }
 
     @AtlasFieldActionInfo(name = "StartsWith", sourceType = FieldType.STRING, targetType = FieldType.BOOLEAN, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
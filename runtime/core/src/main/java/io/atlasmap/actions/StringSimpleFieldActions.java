@@ -28,6 +28,7 @@ public class StringSimpleFieldActions implements AtlasFieldAction {
 
     public static final String STRING_SEPARATOR_REGEX = "[\\s+\\:\\_\\+\\=\\-]+";
     public static final Pattern STRING_SEPARATOR_PATTERN = Pattern.compile(STRING_SEPARATOR_REGEX);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
     @AtlasFieldActionInfo(name = "Capitalize", sourceType = FieldType.STRING, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
     public static String capitalize(Action action, String input) {
@@ -61,7 +62,7 @@ public class StringSimpleFieldActions implements AtlasFieldAction {
 
     @AtlasFieldActionInfo(name = "Normalize", sourceType = FieldType.STRING, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
     public static String normalize(Action action, String input) {
-        return input == null ? null : input.replaceAll("\\s+", " ").trim();
+        return input == null ? null : WHITESPACE_PATTERN.matcher(input).replaceAll(" ").trim();
     }
 
     @AtlasFieldActionInfo(name = "RemoveFileExtension", sourceType = FieldType.STRING, targetType = FieldType.STRING, sourceCollectionType = CollectionType.NONE, targetCollectionType = CollectionType.NONE)
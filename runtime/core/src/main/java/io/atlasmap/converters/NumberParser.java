@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.converters;
+
+/**
+ * Single pass parsers for the plain ASCII number formats, i.e. an optional sign followed by digits
+ * and an optional fraction. These never throw; when the String is not in a plain format or has too
+ * many digits to be converted exactly, a sentinel is returned and the caller falls back to the JDK
+ * parsers which handle exponents, non-ASCII digits and the range errors.
+ */
+final class NumberParser {
+
+    /** Returned by {@link #parseLong(String)} when the String can't be parsed on the fast path. */
+    static final long NOT_PARSED = Long.MIN_VALUE;
+
+    // 18 digits always fit in a long, Long.MIN_VALUE itself has 19
+    private static final int MAX_LONG_DIGITS = 18;
+    // mantissas below 2^53 and 2^24 are exact in double and float respectively
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final int MAX_FLOAT_DIGITS = 7;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15 };
+    private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f };
+
+    private NumberParser() {
+    }
+
+    /**
+     * @param value the String to parse
+     * @return the value, or {@link #NOT_PARSED} if it's not a signed ASCII integer of up to 18 digits
+     */
+    static long parseLong(String value) {
+        int len = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (len > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        if (len == i || len - i > MAX_LONG_DIGITS) {
+            return NOT_PARSED;
+        }
+        long result = 0;
+        for (; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_PARSED;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * @param value the String to parse
+     * @return the correctly rounded value, or {@link Double#NaN} if it's not a plain ASCII decimal
+     *         of up to 15 digits
+     */
+    static double parseDouble(String value) {
+        long scanned = scanDecimal(value, MAX_DOUBLE_DIGITS);
+        if (scanned < 0) {
+            return Double.NaN;
+        }
+        // both operands are exact, so the single division is correctly rounded
+        double result = (scanned >>> 6) / DOUBLE_POWERS_OF_TEN[(int) (scanned >>> 1) & 0x1F];
+        return (scanned & 1) != 0 ? -result : result;
+    }
+
+    /**
+     * @param value the String to parse
+     * @return the correctly rounded value, or {@link Float#NaN} if it's not a plain ASCII decimal
+     *         of up to 7 digits
+     */
+    static float parseFloat(String value) {
+        long scanned = scanDecimal(value, MAX_FLOAT_DIGITS);
+        if (scanned < 0) {
+            return Float.NaN;
+        }
+        float result = (scanned >>> 6) / FLOAT_POWERS_OF_TEN[(int) (scanned >>> 1) & 0x1F];
+        return (scanned & 1) != 0 ? -result : result;
+    }
+
+    /**
+     * @param value the String to check
+     * @return true if the String is a non empty sequence of ASCII digits
+     */
+    static boolean isDigits(String value) {
+        int len = value.length();
+        if (len == 0) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scans [+-]digits[.digits] with at most maxDigits digits in total.
+     * @return -1 if the format doesn't match, otherwise the mantissa, the count of fraction digits
+     *         and the sign packed as (mantissa << 6) | (fractionDigits << 1) | negative
+     */
+    private static long scanDecimal(String value, int maxDigits) {
+        int len = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (len > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > maxDigits) {
+                return -1;
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            if (fraction) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            return -1;
+        }
+        return (mantissa << 6) | (fractionDigits << 1) | (negative ? 1 : 0);
+    }
+}
@@ -61,6 +61,14 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
         if (value == null) {
             return null;
         }
+        long l = NumberParser.parseLong(value);
+        if (l != NumberParser.NOT_PARSED) {
+            if (l < Byte.MIN_VALUE || l > Byte.MAX_VALUE) {
+                throw new AtlasConversionException(String
+                        .format("String %s cannont be converted to a Byte as it is not in a numerical format", value));
+            }
+            return (byte) l;
+        }
         try {
             return Byte.parseByte(value);
         } catch (NumberFormatException nfex) {
@@ -104,21 +112,25 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
             return null;
         }
 
-        try {
-            Double.parseDouble(value);
-        } catch (NumberFormatException nfe) {
-            throw new AtlasConversionException(nfe);
+        double d = NumberParser.parseDouble(value);
+        if (Double.isNaN(d)) {
+            try {
+                d = Double.parseDouble(value);
+            } catch (NumberFormatException nfe) {
+                throw new AtlasConversionException(nfe);
+            }
         }
 
-        if (Double.valueOf(value) == 0.0d || Double.valueOf(value) == -0.0d) {
-            return Double.valueOf(value);
+        // 0.0d == -0.0d
+        if (d == 0.0d) {
+            return d;
         }
-        if (Double.valueOf(value) < Double.MIN_VALUE || Double.valueOf(value) > Double.MAX_VALUE) {
+        if (d < Double.MIN_VALUE || d > Double.MAX_VALUE) {
             throw new AtlasConversionException(
                     String.format("String %s is greater than Double.MAX_VALUE  or less than Double.MIN_VALUE", value));
         }
 
-        return Double.valueOf(value);
+        return d;
     }
 
     /**
@@ -133,6 +145,15 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
         if (value == null) {
             return null;
         }
+        float f = NumberParser.parseFloat(value);
+        if (!Float.isNaN(f)) {
+            if (f != 0.0f && f < Float.MIN_VALUE) {
+                throw new AtlasConversionException(
+                        String.format("String %s is greater than Float.MAX_VALUE  or less than Float.MIN_VALUE", value));
+            }
+            return f;
+        }
+
         // check we can make a float of the String
         try {
             Float.parseFloat(value);
@@ -168,20 +189,27 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
             return null;
         }
 
-        BigDecimal bd = null;
-        Integer i = null;
+        long parsed = NumberParser.parseLong(value);
+        if (parsed != NumberParser.NOT_PARSED && parsed >= Integer.MIN_VALUE && parsed <= Integer.MAX_VALUE) {
+            return (int) parsed;
+        }
+
+        // exponent, fraction, too many digits or non ASCII digits
+        BigDecimal bd;
         try {
-            i = Integer.parseInt(value);
+            bd = new BigDecimal(value);
         } catch (NumberFormatException nfe) {
+            // the BigDecimal exception has no message, report the Integer failure instead
             try {
-                bd = new BigDecimal(value);
-                i = bd.intValue();
-            } catch (NumberFormatException nfe2) {
-                throw new AtlasConversionException(nfe);
+                Integer.parseInt(value);
+            } catch (NumberFormatException parseFailure) {
+                throw new AtlasConversionException(parseFailure);
             }
+            throw new AtlasConversionException(nfe);
         }
+        int i = bd.intValue();
 
-        if (bd != null && bd.compareTo(BigDecimal.valueOf(i)) != 0) {
+        if (bd.compareTo(BigDecimal.valueOf(i)) != 0) {
             throw new AtlasConversionException(String
                     .format("String %s is greater than Integer.MAX_VALUE  or less than Integer.MIN_VALUE", value));
         }
@@ -202,20 +230,27 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
             return null;
         }
 
-        BigDecimal bd = null;
-        Long l = null;
+        long parsed = NumberParser.parseLong(value);
+        if (parsed != NumberParser.NOT_PARSED) {
+            return parsed;
+        }
+
+        // exponent, fraction, too many digits or non ASCII digits
+        BigDecimal bd;
         try {
-            l = Long.parseLong(value);
+            bd = new BigDecimal(value);
         } catch (NumberFormatException nfe) {
+            // the BigDecimal exception has no message, report the Long failure instead
             try {
-                bd = new BigDecimal(value);
-                l = bd.longValue();
-            } catch (NumberFormatException nfe2) {
-                throw new AtlasConversionException(nfe);
+                Long.parseLong(value);
+            } catch (NumberFormatException parseFailure) {
+                throw new AtlasConversionException(parseFailure);
             }
+            throw new AtlasConversionException(nfe);
         }
+        long l = bd.longValue();
 
-        if (bd != null && bd.compareTo(BigDecimal.valueOf(l)) != 0) {
+        if (bd.compareTo(BigDecimal.valueOf(l)) != 0) {
             throw new AtlasConversionException(
                     String.format("String %s is greater than Long.MAX_VALUE  or less than Long.MIN_VALUE", value));
         }
@@ -235,6 +270,10 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
         if (value == null) {
             return null;
         }
+        long l = NumberParser.parseLong(value);
+        if (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) {
+            return (short) l;
+        }
         // check we can make a short of the String
         Short shortty;
         try {
@@ -266,7 +305,7 @@ public class StringConverter implements AtlasPrimitiveConverter<String> {
         if (value == null || value.trim().isEmpty()) {
             return null;
         }
-        if (value.matches("\\d+")) {
+        if (NumberParser.isDigits(value)) {
             return new BigInteger(value);
         }
         try {
@@ -0,0 +1,207 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the live {@link DefaultAtlasContext}s created by a {@link DefaultAtlasContextFactory}.
+ *
+ * The registry can be bounded by {@code maxContexts}: registering a context beyond the limit evicts the least
+ * recently used one. Contexts which have not created a session for {@code idleTimeoutMillis} are evicted as
+ * well whenever a context is registered or {@link #evictIdleContexts()} is invoked. Eviction only unregisters
+ * the context from JMX and from this registry, an evicted context which is still referenced keeps working but
+ * is no longer visible through JMX. Both limits are therefore opt-in, the registry is unbounded by default.
+ *
+ * Contexts are kept in access order, {@link DefaultAtlasContext#createSession()} moves a context to the end.
+ * The registry only holds weak references, so a context which is neither closed nor registered with JMX is
+ * dropped once the caller no longer references it.
+ */
+public class AtlasContextRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AtlasContextRegistry.class);
+
+    private final Map<String, ContextReference> contexts = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<DefaultAtlasContext> collected = new ReferenceQueue<>();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final int maxContexts;
+    private final long idleTimeoutMillis;
+
+    /**
+     * @param maxContexts maximum number of live contexts to track, or 0 for unbounded
+     * @param idleTimeoutMillis time after which a context without new sessions is evicted, or 0 to disable
+     */
+    public AtlasContextRegistry(int maxContexts, long idleTimeoutMillis) {
+        this.maxContexts = maxContexts;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public void register(DefaultAtlasContext context) {
+        List<DefaultAtlasContext> evicted;
+        synchronized (contexts) {
+            expungeCollected();
+            contexts.put(context.getUuid(), new ContextReference(context, collected));
+            createdCount.incrementAndGet();
+            evicted = collectEvictions(System.currentTimeMillis());
+        }
+        evict(evicted);
+    }
+
+    /**
+     * Marks the context as most recently used, only needed when the registry evicts contexts.
+     */
+    public void touch(DefaultAtlasContext context) {
+        if (maxContexts <= 0 && idleTimeoutMillis <= 0) {
+            return;
+        }
+        synchronized (contexts) {
+            contexts.get(context.getUuid());
+        }
+    }
+
+    public void unregister(DefaultAtlasContext context) {
+        synchronized (contexts) {
+            contexts.remove(context.getUuid());
+        }
+    }
+
+    public void evictIdleContexts() {
+        List<DefaultAtlasContext> evicted;
+        synchronized (contexts) {
+            expungeCollected();
+            evicted = collectEvictions(System.currentTimeMillis());
+        }
+        evict(evicted);
+    }
+
+    /**
+     * Unregisters all the tracked contexts from JMX and clears the registry.
+     */
+    public void clear() {
+        List<DefaultAtlasContext> all = new ArrayList<>();
+        synchronized (contexts) {
+            for (ContextReference ref : contexts.values()) {
+                DefaultAtlasContext context = ref.get();
+                if (context != null) {
+                    all.add(context);
+                }
+            }
+            contexts.clear();
+            expungeCollected();
+        }
+        for (DefaultAtlasContext context : all) {
+            context.unregisterJmx();
+        }
+    }
+
+    public int size() {
+        synchronized (contexts) {
+            expungeCollected();
+            return contexts.size();
+        }
+    }
+
+    public boolean contains(DefaultAtlasContext context) {
+        synchronized (contexts) {
+            ContextReference ref = contexts.get(context.getUuid());
+            return ref != null && ref.get() == context;
+        }
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public int getMaxContexts() {
+        return maxContexts;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    private List<DefaultAtlasContext> collectEvictions(long now) {
+        List<DefaultAtlasContext> answer = new ArrayList<>();
+        Iterator<ContextReference> it = contexts.values().iterator();
+        if (idleTimeoutMillis > 0) {
+            // least recently used first, stop at the first context which is not idle
+            while (it.hasNext()) {
+                DefaultAtlasContext context = it.next().get();
+                if (context != null && now - context.getLastAccessTime() <= idleTimeoutMillis) {
+                    break;
+                }
+                it.remove();
+                if (context != null) {
+                    answer.add(context);
+                }
+            }
+            it = contexts.values().iterator();
+        }
+        while (maxContexts > 0 && contexts.size() > maxContexts) {
+            DefaultAtlasContext context = it.next().get();
+            it.remove();
+            if (context != null) {
+                answer.add(context);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Removes the entries of the contexts which have been garbage collected.
+     */
+    private void expungeCollected() {
+        Reference<? extends DefaultAtlasContext> ref;
+        while ((ref = collected.poll()) != null) {
+            contexts.remove(((ContextReference) ref).uuid, ref);
+        }
+    }
+
+    private void evict(List<DefaultAtlasContext> evicted) {
+        for (DefaultAtlasContext context : evicted) {
+            context.unregisterJmx();
+            evictedCount.incrementAndGet();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Evicted AtlasContext {} for mapping '{}'", context.getUuid(), context.getMappingName());
+            }
+        }
+    }
+
+    private static final class ContextReference extends WeakReference<DefaultAtlasContext> {
+        private final String uuid;
+
+        private ContextReference(DefaultAtlasContext context, ReferenceQueue<DefaultAtlasContext> queue) {
+            super(context, queue);
+            this.uuid = context.getUuid();
+        }
+    }
+}
@@ -15,16 +15,39 @@
  */
 package io.atlasmap.core;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -47,11 +70,19 @@ public class AtlasMappingService implements Serializable {
     private static final long serialVersionUID = 1668362984516180517L;
     private static final Logger LOG = LoggerFactory.getLogger(AtlasMappingService.class);
     private static final String CONFIG_V2_PACKAGE = "io.atlasmap.v2";
-    private transient JAXBContext ctx = null;
+    private static final int COMPILED_MAPPING_MAGIC = 0x41544C4D;
+    private static final int COMPILED_MAPPING_FORMAT_VERSION = 1;
+    private transient volatile JAXBContext ctx = null;
+    private String contextPath = null;
+    private long jaxbInitTime = -1L;
     private transient ObjectMapper jsonMapper = null;
 
+    /**
+     * Mapping file formats. {@link #COMPILED} is the binary form written by the atlasmap-maven-plugin
+     * {@code compile-mappings} goal, which is loaded without JAXB or Jackson and has been validated at build time.
+     */
     public enum AtlasMappingFormat {
-        XML("xml"), JSON("json");
+        XML("xml"), JSON("json"), COMPILED("atlasmap");
 
         private String value;
 
@@ -84,23 +115,55 @@ public class AtlasMappingService implements Serializable {
         }
     }
 
+    /**
+     * Verifies the JAXB packages and prepares the JSON mapper. The {@link JAXBContext} itself is created
+     * when XML is first marshalled or unmarshalled, so JSON and compiled mappings never pay for it.
+     *
+     * @param packages JAXB packages
+     * @throws JAXBException if one of the packages is not a JAXB package
+     */
     protected void initialize(List<String> packages) throws JAXBException {
-
-        if (getJAXBContext() == null) {
-            setJAXBContext(JAXBContext.newInstance(stringListToColonSeparated(packages)));
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Initialized JAXBContext: " + stringListToColonSeparated(packages));
+        if (ctx == null) {
+            String path = stringListToColonSeparated(packages);
+            if (path == null) {
+                throw new JAXBException("JAXB packages must be specified");
+            }
+            for (String pkg : path.split(":")) {
+                if (!pkg.isEmpty() && !isJAXBPackage(pkg)) {
+                    throw new JAXBException(String.format("\"%s\" doesnt contain ObjectFactory.class or jaxb.index",
+                            pkg));
+                }
             }
+            this.contextPath = path;
         }
 
         jsonMapper = new AtlasJsonMapper();
     }
 
+    private boolean isJAXBPackage(String pkg) {
+        String resource = pkg.replace('.', '/');
+        for (ClassLoader loader : new ClassLoader[] {Thread.currentThread().getContextClassLoader(),
+                getClass().getClassLoader()}) {
+            if (loader != null && (loader.getResource(resource + "/ObjectFactory.class") != null
+                    || loader.getResource(resource + "/jaxb.index") != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public AtlasMapping loadMapping(File file) throws AtlasValidationException {
         return loadMapping(file, AtlasMappingFormat.XML);
     }
 
     public AtlasMapping loadMapping(File file, AtlasMappingFormat format) throws AtlasValidationException {
+        if (format == AtlasMappingFormat.COMPILED) {
+            try (InputStream in = new FileInputStream(file)) {
+                return loadCompiledMapping(in);
+            } catch (IOException e) {
+                throw new AtlasValidationException(e.getMessage(), e);
+            }
+        }
         try {
             AtlasMapping atlasMapping;
             switch (format) {
@@ -126,6 +189,10 @@ public class AtlasMappingService implements Serializable {
     }
 
     public AtlasMapping loadMapping(Reader reader, AtlasMappingFormat format) throws AtlasValidationException {
+        if (format == AtlasMappingFormat.COMPILED) {
+            throw new AtlasValidationException(
+                    "Compiled AtlasMapping is a binary format and cannot be read from a Reader, use an InputStream");
+        }
         try {
             AtlasMapping atlasMapping;
             switch (format) {
@@ -160,9 +227,51 @@ public class AtlasMappingService implements Serializable {
 
     public AtlasMapping loadMapping(InputStream inputStream, AtlasMappingFormat format)
             throws AtlasValidationException {
+        if (format == AtlasMappingFormat.COMPILED) {
+            return loadCompiledMapping(inputStream);
+        }
         return loadMapping(new InputStreamReader(inputStream), format);
     }
 
+    /**
+     * Loads a mapping written by {@link #saveMappingAsFile(AtlasMapping, File, AtlasMappingFormat)} with
+     * {@link AtlasMappingFormat#COMPILED}. The mapping has been validated when it was compiled, so
+     * {@link #validate(AtlasMapping)} is not invoked.
+     *
+     * @param inputStream compiled mapping
+     * @return mapping
+     * @throws AtlasValidationException if the stream is not a compiled mapping of this version, or contains
+     *         classes other than the mapping model and the JDK value and collection types
+     */
+    public AtlasMapping loadCompiledMapping(InputStream inputStream) throws AtlasValidationException {
+        try {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(inputStream));
+            if (data.readInt() != COMPILED_MAPPING_MAGIC) {
+                throw new AtlasValidationException("Not a compiled AtlasMapping");
+            }
+            int formatVersion = data.readInt();
+            if (formatVersion != COMPILED_MAPPING_FORMAT_VERSION) {
+                throw new AtlasValidationException(String.format(
+                        "Unsupported compiled AtlasMapping format version %s, expected %s",
+                        formatVersion, COMPILED_MAPPING_FORMAT_VERSION));
+            }
+            String compiledBy = data.readUTF();
+            String runtimeVersion = getImplementationVersion();
+            if (!compiledBy.isEmpty() && runtimeVersion != null && !compiledBy.equals(runtimeVersion)) {
+                throw new AtlasValidationException(String.format(
+                        "AtlasMapping was compiled by AtlasMap %s and cannot be loaded by %s, recompile it",
+                        compiledBy, runtimeVersion));
+            }
+            Object mapping = new CompiledMappingInputStream(data).readObject();
+            if (!(mapping instanceof AtlasMapping)) {
+                throw new AtlasValidationException("Compiled AtlasMapping does not contain an AtlasMapping");
+            }
+            return (AtlasMapping) mapping;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new AtlasValidationException(e.getMessage(), e);
+        }
+    }
+
     public AtlasMapping loadMapping(URI uri) throws AtlasValidationException {
         return loadMapping(uri, AtlasMappingFormat.XML);
     }
@@ -196,6 +305,9 @@ public class AtlasMappingService implements Serializable {
         case XML:
             saveMappingAsXmlFile(atlasMapping, file);
             break;
+        case COMPILED:
+            saveMappingAsCompiledFile(atlasMapping, file);
+            break;
         default:
             saveMappingAsXmlFile(atlasMapping, file);
             break;
@@ -218,6 +330,21 @@ public class AtlasMappingService implements Serializable {
         }
     }
 
+    protected void saveMappingAsCompiledFile(AtlasMapping atlasMapping, File file) throws AtlasException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(COMPILED_MAPPING_MAGIC);
+            data.writeInt(COMPILED_MAPPING_FORMAT_VERSION);
+            String version = getImplementationVersion();
+            data.writeUTF(version != null ? version : "");
+            ObjectOutputStream objects = new ObjectOutputStream(data);
+            objects.writeObject(atlasMapping);
+            objects.flush();
+        } catch (IOException e) {
+            throw new AtlasValidationException(e.getMessage(), e);
+        }
+    }
+
     public void validate(AtlasMapping atlasMapping) throws AtlasValidationException {
         // if(atlasMapping == null || atlasMapping.getName() == null) {
         // throw new AtlasValidationException("AtlasMapping and name must be
@@ -225,8 +352,43 @@ public class AtlasMappingService implements Serializable {
         // }
     }
 
+    /**
+     * @return the {@link JAXBContext}, created on first access
+     * @throws IllegalStateException if the {@link JAXBContext} cannot be created
+     */
     public JAXBContext getJAXBContext() {
-        return ctx;
+        try {
+            return initJAXBContext();
+        } catch (JAXBException e) {
+            LOG.error("Error initializing JAXB: " + e.getMessage(), e);
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private JAXBContext initJAXBContext() throws JAXBException {
+        JAXBContext answer = ctx;
+        if (answer == null) {
+            synchronized (this) {
+                answer = ctx;
+                if (answer == null) {
+                    long start = System.nanoTime();
+                    answer = JAXBContext.newInstance(contextPath);
+                    jaxbInitTime = (System.nanoTime() - start) / 1000000L;
+                    ctx = answer;
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Initialized JAXBContext: {} in {} ms", contextPath, jaxbInitTime);
+                    }
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * @return milliseconds spent creating the {@link JAXBContext}, or -1 if it has not been created
+     */
+    public long getJAXBInitTime() {
+        return jaxbInitTime;
     }
 
     public void setJAXBContext(JAXBContext ctx) {
@@ -234,13 +396,13 @@ public class AtlasMappingService implements Serializable {
     }
 
     public Marshaller createMarshaller() throws JAXBException {
-        Marshaller marshaller = getJAXBContext().createMarshaller();
+        Marshaller marshaller = initJAXBContext().createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         return marshaller;
     }
 
     public Unmarshaller createUnmarshaller() throws JAXBException {
-        return getJAXBContext().createUnmarshaller();
+        return initJAXBContext().createUnmarshaller();
     }
 
     public ObjectMapper getObjectMapper() {
@@ -251,6 +413,10 @@ public class AtlasMappingService implements Serializable {
         this.jsonMapper = mapper;
     }
 
+    private String getImplementationVersion() {
+        return AtlasMapping.class.getPackage().getImplementationVersion();
+    }
+
     private String stringListToColonSeparated(List<String> items) {
         StringBuilder buffer = new StringBuilder(CONFIG_V2_PACKAGE);
 
@@ -279,4 +445,53 @@ public class AtlasMappingService implements Serializable {
 
         return buffer.toString();
     }
+
+    /**
+     * Only resolves the mapping model classes of the core and the modules ({@code io.atlasmap.*.v2}) and the JDK
+     * value and collection types they use, so that a compiled mapping can't instantiate arbitrary classes.
+     */
+    private static class CompiledMappingInputStream extends ObjectInputStream {
+        private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+                Object.class.getName(), String.class.getName(), Boolean.class.getName(),
+                Character.class.getName(), Byte.class.getName(), Short.class.getName(),
+                Integer.class.getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(),
+                Number.class.getName(), Enum.class.getName(), BigInteger.class.getName(),
+                BigDecimal.class.getName(), Date.class.getName(), ArrayList.class.getName(),
+                LinkedList.class.getName(), HashMap.class.getName(), LinkedHashMap.class.getName(),
+                TreeMap.class.getName(), HashSet.class.getName(), LinkedHashSet.class.getName()));
+
+        CompiledMappingInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            int dimensions = 0;
+            while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+                dimensions++;
+            }
+            String component = name.substring(dimensions);
+            boolean allowed;
+            if (dimensions > 0 && component.length() == 1) {
+                // primitive array
+                allowed = true;
+            } else {
+                if (dimensions > 0) {
+                    component = component.substring(1, component.length() - 1);
+                }
+                allowed = ALLOWED_CLASSES.contains(component)
+                        || (component.startsWith("io.atlasmap.") && component.contains(".v2."));
+            }
+            if (!allowed) {
+                throw new InvalidClassException(name, "Class is not allowed in a compiled AtlasMapping");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("Proxy classes are not allowed in a compiled AtlasMapping");
+        }
+    }
 }
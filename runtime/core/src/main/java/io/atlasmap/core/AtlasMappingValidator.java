@@ -0,0 +1,245 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasModule;
+import io.atlasmap.spi.AtlasModuleInfo;
+import io.atlasmap.spi.AtlasModuleMode;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.Mappings;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationScope;
+
+/**
+ * Validates an {@link AtlasMapping} in memory through the core {@link io.atlasmap.api.AtlasValidationService}
+ * and the module validation services, without creating an {@link DefaultAtlasContext}.
+ *
+ * When a fingerprint function is given, module validation results are cached per mapping ID and only
+ * re-computed for the mappings whose fingerprint has changed since the previous call.
+ */
+public class AtlasMappingValidator {
+
+    public static final int DEFAULT_MAX_CACHED_MAPPINGS = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AtlasMappingValidator.class);
+
+    private final DefaultAtlasContextFactory factory;
+    private final Function<BaseMapping, String> fingerprint;
+    private final Map<String, CachedValidations> cache;
+
+    public AtlasMappingValidator(DefaultAtlasContextFactory factory) {
+        this(factory, null, 0);
+    }
+
+    public AtlasMappingValidator(DefaultAtlasContextFactory factory, Function<BaseMapping, String> fingerprint) {
+        this(factory, fingerprint, DEFAULT_MAX_CACHED_MAPPINGS);
+    }
+
+    public AtlasMappingValidator(DefaultAtlasContextFactory factory, Function<BaseMapping, String> fingerprint,
+            final int maxCachedMappings) {
+        this.factory = factory;
+        this.fingerprint = fingerprint;
+        this.cache = new LinkedHashMap<String, CachedValidations>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValidations> eldest) {
+                return size() > maxCachedMappings;
+            }
+        };
+    }
+
+    public List<Validation> validateMapping(AtlasMapping mapping) throws AtlasException {
+        if (mapping == null) {
+            throw new AtlasException("AtlasMapping must be specified");
+        }
+
+        List<Validation> validations = new ArrayList<>();
+        List<Validation> coreValidations = factory.getValidationService().validateMapping(mapping);
+        if (coreValidations != null) {
+            validations.addAll(coreValidations);
+        }
+
+        List<AtlasModule> modules = createModules(mapping);
+        StringBuilder moduleSignature = new StringBuilder();
+        for (AtlasModule module : modules) {
+            moduleSignature.append(module.getMode()).append(':').append(module.getDocId()).append(':')
+                    .append(module.getUri()).append(';');
+        }
+
+        // DataSource level notices, independent from the mapping entries
+        AtlasMapping header = createMappingView(mapping, null);
+        for (AtlasModule module : modules) {
+            validations.addAll(validateWithModule(module, header, false));
+        }
+
+        if (mapping.getMappings() == null || mapping.getMappings().getMapping() == null) {
+            return validations;
+        }
+
+        int cacheHits = 0;
+        for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+            String mappingId = baseMapping instanceof Mapping ? ((Mapping) baseMapping).getId() : null;
+            String cacheKey = mappingId != null && fingerprint != null ? mapping.getName() + "/" + mappingId : null;
+            String cacheFingerprint = null;
+            if (cacheKey != null) {
+                String mappingFingerprint = fingerprint.apply(baseMapping);
+                cacheFingerprint = mappingFingerprint != null ? moduleSignature + mappingFingerprint : null;
+            }
+
+            CachedValidations cached = null;
+            if (cacheFingerprint != null) {
+                synchronized (cache) {
+                    cached = cache.get(cacheKey);
+                }
+            }
+            if (cached != null && cached.fingerprint.equals(cacheFingerprint)) {
+                validations.addAll(cached.validations);
+                cacheHits++;
+                continue;
+            }
+
+            AtlasMapping view = createMappingView(mapping, baseMapping);
+            List<Validation> entryValidations = new ArrayList<>();
+            for (AtlasModule module : modules) {
+                entryValidations.addAll(validateWithModule(module, view, true));
+            }
+            validations.addAll(entryValidations);
+            if (cacheFingerprint != null) {
+                synchronized (cache) {
+                    cache.put(cacheKey, new CachedValidations(cacheFingerprint, entryValidations));
+                }
+            }
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validated mapping '{}': {} notices, {} of {} mapping entries served from cache",
+                    mapping.getName(), validations.size(), cacheHits, mapping.getMappings().getMapping().size());
+        }
+        return validations;
+    }
+
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private List<AtlasModule> createModules(AtlasMapping mapping) throws AtlasException {
+        List<AtlasModule> modules = new ArrayList<>();
+        Set<String> sourceDocIds = new HashSet<>();
+        Set<String> targetDocIds = new HashSet<>();
+        for (DataSource ds : mapping.getDataSource()) {
+            AtlasModuleInfo moduleInfo = factory.getModuleInfoRegistry().lookupByUri(ds.getUri());
+            if (moduleInfo == null) {
+                LOG.warn("Cannot find module info for the DataSource uri '{}'", ds.getUri());
+                continue;
+            }
+            if (ds.getDataSourceType() != DataSourceType.SOURCE && ds.getDataSourceType() != DataSourceType.TARGET) {
+                LOG.warn("Unsupported DataSource type '{}'", ds.getDataSourceType());
+                continue;
+            }
+
+            String docId = ds.getId();
+            if (docId == null || docId.isEmpty()) {
+                docId = ds.getDataSourceType() == DataSourceType.SOURCE
+                        ? AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID : AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID;
+            }
+            // same as DefaultAtlasContext.init(), only the first DataSource of a docId gets a module
+            Set<String> docIds = ds.getDataSourceType() == DataSourceType.SOURCE ? sourceDocIds : targetDocIds;
+            if (!docIds.add(docId)) {
+                LOG.warn("Duplicated {} DataSource ID '{}' was detected, ignoring...", ds.getDataSourceType(), docId);
+                continue;
+            }
+
+            try {
+                // Validation only needs the mode, docId and services - skip module init() and JMX
+                AtlasModule module = moduleInfo.getModuleClass().newInstance();
+                module.setConversionService(factory.getConversionService());
+                module.setFieldActionService(factory.getFieldActionService());
+                module.setUri(ds.getUri());
+                module.setMode(ds.getDataSourceType() == DataSourceType.SOURCE
+                        ? AtlasModuleMode.SOURCE : AtlasModuleMode.TARGET);
+                module.setDocId(docId);
+                modules.add(module);
+            } catch (Throwable t) {
+                throw new AtlasException(String.format("Unable to create %s module for validation: %s",
+                        ds.getDataSourceType(), moduleInfo.toString()), t);
+            }
+        }
+        return modules;
+    }
+
+    private List<Validation> validateWithModule(AtlasModule module, AtlasMapping view, boolean entryOnly)
+            throws AtlasException {
+        DefaultAtlasSession session = new DefaultAtlasSession(view);
+        module.processPreValidation(session);
+        List<Validation> answer = new ArrayList<>();
+        for (Validation v : session.getValidations().getValidation()) {
+            if (entryOnly && v.getScope() == ValidationScope.DATA_SOURCE) {
+                continue;
+            }
+            answer.add(v);
+        }
+        return answer;
+    }
+
+    private AtlasMapping createMappingView(AtlasMapping mapping, BaseMapping entry) {
+        AtlasMapping view = new AtlasMapping();
+        view.setName(mapping.getName());
+        view.getDataSource().addAll(mapping.getDataSource());
+        view.setLookupTables(mapping.getLookupTables());
+        view.setProperties(mapping.getProperties());
+        if (entry != null) {
+            view.setMappings(new Mappings());
+            view.getMappings().getMapping().add(entry);
+        }
+        return view;
+    }
+
+    private static class CachedValidations {
+        private final String fingerprint;
+        private final List<Validation> validations;
+
+        CachedValidations(String fingerprint, List<Validation> validations) {
+            this.fingerprint = fingerprint;
+            this.validations = validations;
+        }
+    }
+}
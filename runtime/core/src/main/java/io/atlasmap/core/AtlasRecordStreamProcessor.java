@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.api.AtlasValidationException;
+import io.atlasmap.spi.AtlasRecordReader;
+import io.atlasmap.spi.AtlasRecordWriter;
+import io.atlasmap.v2.Audit;
+import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationStatus;
+
+/**
+ * Maps a document whose root is a collection of records, one record at a time. Each record read from the
+ * {@link AtlasRecordReader} is processed in its own {@link AtlasSession} as the default source document and
+ * the resulting default target document is handed to the {@link AtlasRecordWriter}, so the memory use stays
+ * flat regardless of the document size. The mapping is written against a single record.
+ *
+ * The mapping is validated once up front rather than for each record. Closing the reader and the writer is
+ * left to the caller.
+ */
+public class AtlasRecordStreamProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AtlasRecordStreamProcessor.class);
+
+    private final AtlasContext context;
+    private final Map<String, Object> sessionProperties = new HashMap<>();
+    private boolean failOnError = true;
+    private long processedCount;
+    private long failedCount;
+
+    public AtlasRecordStreamProcessor(AtlasContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Processes all the remaining records.
+     *
+     * @param reader the source records
+     * @param writer the target records
+     * @return the number of records written
+     * @throws AtlasException if the mapping is invalid, or a record fails while failOnError is enabled
+     */
+    public long process(AtlasRecordReader reader, AtlasRecordWriter writer) throws AtlasException {
+        if (reader == null || writer == null) {
+            throw new AtlasException("AtlasRecordReader and AtlasRecordWriter must be specified");
+        }
+
+        boolean validated = validate();
+        long written = 0;
+        long index = 0;
+        while (reader.hasNext()) {
+            Object record = reader.next();
+            AtlasSession session = context.createSession();
+            session.getProperties().putAll(sessionProperties);
+            session.setDefaultSourceDocument(record);
+            if (validated) {
+                ((DefaultAtlasContext) context).doProcess((DefaultAtlasSession) session, false);
+            } else {
+                context.process(session);
+            }
+
+            if (session.hasErrors()) {
+                failedCount++;
+                String message = String.format("Record %s failed with %s errors, first: %s", index,
+                        session.errorCount(), getFirstError(session));
+                if (failOnError) {
+                    throw new AtlasException(message);
+                }
+                LOG.warn(message);
+            } else {
+                Object target = session.getDefaultTargetDocument();
+                if (target != null) {
+                    writer.write(target);
+                    written++;
+                }
+                processedCount++;
+            }
+            index++;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processed {} records, {} written, {} failed", index, written, failedCount);
+        }
+        return written;
+    }
+
+    private boolean validate() throws AtlasException {
+        if (!(context instanceof DefaultAtlasContext)) {
+            // validated for each record by AtlasContext.process()
+            return false;
+        }
+
+        AtlasSession session = context.createSession();
+        context.processValidation(session);
+        int errors = 0;
+        Validation first = null;
+        for (Validation v : session.getValidations().getValidation()) {
+            if (ValidationStatus.ERROR.equals(v.getStatus())) {
+                errors++;
+                first = first == null ? v : first;
+            }
+        }
+        if (errors > 0) {
+            throw new AtlasValidationException(String.format("Mapping has %s validation errors, first: %s",
+                    errors, first.getMessage()));
+        }
+        return true;
+    }
+
+    private String getFirstError(AtlasSession session) {
+        for (Audit audit : session.getAudits().getAudit()) {
+            if (AuditStatus.ERROR.equals(audit.getStatus())) {
+                return audit.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the session properties applied to the session of every record
+     */
+    public Map<String, Object> getSessionProperties() {
+        return sessionProperties;
+    }
+
+    public boolean isFailOnError() {
+        return failOnError;
+    }
+
+    /**
+     * @param failOnError true to abort on the first failed record (default), false to skip it with a warning
+     */
+    public void setFailOnError(boolean failOnError) {
+        this.failOnError = failOnError;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+}
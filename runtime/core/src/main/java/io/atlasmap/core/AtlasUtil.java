@@ -265,6 +265,10 @@ public class AtlasUtil {
 
     public static void addAudit(AtlasSession session, String docId, String message, String path, AuditStatus status,
             String value) {
+        if (session instanceof DefaultAtlasSession) {
+            ((DefaultAtlasSession) session).getAuditSink().audit(status, docId, path, value, message);
+            return;
+        }
         Audit audit = new Audit();
         audit.setDocId(docId);
         audit.setMessage(message);
@@ -274,6 +278,19 @@ public class AtlasUtil {
         session.getAudits().getAudit().add(audit);
     }
 
+    /**
+     * Adds an audit whose message is only formatted with {@link String#format(String, Object...)} if the audit
+     * sink of the session records it.
+     */
+    public static void addAudit(AtlasSession session, AuditStatus status, String docId, String path, String value,
+            String format, Object... args) {
+        if (session instanceof DefaultAtlasSession) {
+            ((DefaultAtlasSession) session).getAuditSink().audit(status, docId, path, value, format, args);
+            return;
+        }
+        addAudit(session, docId, String.format(format, args), path, status, value);
+    }
+
     public static void addAudit(AtlasSession session, Validation validation) {
         Audit audit = new Audit();
         audit.setDocId(validation.getId());
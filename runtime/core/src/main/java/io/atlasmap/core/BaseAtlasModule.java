@@ -15,6 +15,7 @@
  */
 package io.atlasmap.core;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -91,6 +92,62 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
         targetField.setValue(targetValue);
     }
 
+    /**
+     * Evaluates what a constant source value turns into when it's mapped to the target field, i.e. the
+     * auto-conversion and the target field actions done by {@link #processTargetFieldMapping(AtlasInternalSession)}.
+     * The context uses it to fold the mappings from a constant once, when all the target field actions are pure.
+     *
+     * @param sourceField constant source field, with its value and field type
+     * @param targetField target field
+     * @return a field holding the value and the field type to write, or null if the mapping can't be folded
+     * @throws AtlasException if the conversion or a field action fails
+     */
+    public Field foldConstant(Field sourceField, Field targetField) throws AtlasException {
+        if (sourceField.getValue() == null || targetField.getFieldType() == null) {
+            return null;
+        }
+
+        SimpleField folded = new SimpleField();
+        if (sourceField.getFieldType() != null && sourceField.getFieldType().equals(targetField.getFieldType())) {
+            folded.setValue(sourceField.getValue());
+        } else {
+            folded.setValue(getConversionService().convertType(sourceField.getValue(), sourceField.getFieldType(),
+                    targetField.getFieldType()));
+        }
+        folded.setFieldType(targetField.getFieldType());
+        if (isAutomaticallyProcessOutputFieldActions() && targetField.getActions() != null
+                && targetField.getActions().getActions() != null) {
+            getFieldActionService().processActions(targetField.getActions(), folded);
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the target document type requested with {@link AtlasConstants#TARGET_DOCUMENT_TYPE_PROPERTY},
+     * one of {@code String.class}, {@code byte[].class} or {@code InputStream.class}.
+     *
+     * @param session session
+     * @return target document type
+     */
+    protected Class<?> getTargetDocumentType(AtlasInternalSession session) {
+        Object type = session.getProperties() != null
+                ? session.getProperties().get(AtlasConstants.TARGET_DOCUMENT_TYPE_PROPERTY) : null;
+        if (type == null || type == String.class) {
+            return String.class;
+        }
+        if (type == byte[].class || "byte[]".equals(type)) {
+            return byte[].class;
+        }
+        if (type instanceof Class && InputStream.class.isAssignableFrom((Class<?>) type)
+                || "InputStream".equals(type)) {
+            return InputStream.class;
+        }
+        if (!"String".equals(type)) {
+            LOG.warn("Unsupported {} '{}', using String", AtlasConstants.TARGET_DOCUMENT_TYPE_PROPERTY, type);
+        }
+        return String.class;
+    }
+
     protected boolean isDocIdMatched(Field field) {
         String fieldDocId = field.getDocId();
         if ((atlasModuleMode == AtlasModuleMode.SOURCE && AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID.equals(docId))
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.spi.AtlasAuditSink;
+import io.atlasmap.v2.Audit;
+import io.atlasmap.v2.AuditStatus;
+
+/**
+ * Records audits into the {@link io.atlasmap.v2.Audits} of a session. The minimum level, deduplication and
+ * the maximum number of entries are read from the session properties on every {@link #reset()}, see
+ * {@link AtlasConstants#AUDIT_LEVEL_PROPERTY}, {@link AtlasConstants#AUDIT_DEDUPLICATE_PROPERTY} and
+ * {@link AtlasConstants#AUDIT_MAX_ENTRIES_PROPERTY}.
+ *
+ * ERROR audits are never filtered nor dropped by the limit, as the session error detection relies on them.
+ */
+public class DefaultAtlasAuditSink implements AtlasAuditSink {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasAuditSink.class);
+
+    private final AtlasSession session;
+    private AuditStatus minimumStatus = AuditStatus.ALL;
+    private boolean deduplicate;
+    private int maxEntries = -1;
+    private Map<String, Occurrence> occurrences;
+    private int entries;
+    private int dropped;
+    private int suppressed;
+
+    public DefaultAtlasAuditSink(AtlasSession session) {
+        this.session = session;
+        configure();
+    }
+
+    @Override
+    public boolean isEnabled(AuditStatus status) {
+        return status == AuditStatus.ERROR || status == null || status.ordinal() >= minimumStatus.ordinal();
+    }
+
+    @Override
+    public void audit(AuditStatus status, String docId, String path, String value, String message,
+            Object... args) {
+        if (!isEnabled(status)) {
+            suppressed++;
+            return;
+        }
+
+        String formatted = args == null || args.length == 0 ? message : String.format(message, args);
+        String key = null;
+        if (deduplicate) {
+            // keyed on the formatted message so that only identical entries are folded together
+            key = status + "|" + docId + "|" + path + "|" + formatted;
+            Occurrence occurrence = occurrences.get(key);
+            if (occurrence != null) {
+                occurrence.count++;
+                suppressed++;
+                return;
+            }
+        }
+
+        if (status != AuditStatus.ERROR && maxEntries >= 0 && entries >= maxEntries) {
+            dropped++;
+            suppressed++;
+            return;
+        }
+
+        Audit audit = new Audit();
+        audit.setDocId(docId);
+        audit.setMessage(formatted);
+        audit.setPath(path);
+        audit.setStatus(status);
+        audit.setValue(value);
+        session.getAudits().getAudit().add(audit);
+        if (status != AuditStatus.ERROR) {
+            entries++;
+        }
+        if (key != null) {
+            occurrences.put(key, new Occurrence(audit));
+        }
+    }
+
+    @Override
+    public void reset() {
+        configure();
+        entries = 0;
+        dropped = 0;
+        suppressed = 0;
+    }
+
+    @Override
+    public void flush() {
+        if (occurrences != null) {
+            for (Occurrence occurrence : occurrences.values()) {
+                if (occurrence.count > 1) {
+                    occurrence.audit.setMessage(String.format("%s (repeated %s times)",
+                            occurrence.audit.getMessage(), occurrence.count));
+                }
+            }
+            occurrences.clear();
+        }
+        if (dropped > 0) {
+            Audit audit = new Audit();
+            audit.setMessage(String.format("Audit limit of %s entries reached, %s further entries were dropped",
+                    maxEntries, dropped));
+            audit.setStatus(AuditStatus.WARN);
+            session.getAudits().getAudit().add(audit);
+            dropped = 0;
+        }
+        if (LOG.isDebugEnabled() && suppressed > 0) {
+            LOG.debug("{} audits were not recorded", suppressed);
+        }
+    }
+
+    @Override
+    public int getSuppressedCount() {
+        return suppressed;
+    }
+
+    private void configure() {
+        Map<String, Object> properties = session.getProperties();
+        Object level = properties != null ? properties.get(AtlasConstants.AUDIT_LEVEL_PROPERTY) : null;
+        Object dedup = properties != null ? properties.get(AtlasConstants.AUDIT_DEDUPLICATE_PROPERTY) : null;
+        Object max = properties != null ? properties.get(AtlasConstants.AUDIT_MAX_ENTRIES_PROPERTY) : null;
+
+        minimumStatus = toAuditStatus(level);
+        deduplicate = dedup instanceof Boolean ? (Boolean) dedup : dedup != null && Boolean.parseBoolean(dedup.toString());
+        if (deduplicate && occurrences == null) {
+            occurrences = new HashMap<>();
+        } else if (occurrences != null) {
+            occurrences.clear();
+        }
+        maxEntries = -1;
+        if (max instanceof Number) {
+            maxEntries = ((Number) max).intValue();
+        } else if (max != null) {
+            try {
+                maxEntries = Integer.parseInt(max.toString().trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring invalid {} value '{}'", AtlasConstants.AUDIT_MAX_ENTRIES_PROPERTY, max);
+            }
+        }
+    }
+
+    private static AuditStatus toAuditStatus(Object level) {
+        if (level instanceof AuditStatus) {
+            return (AuditStatus) level;
+        }
+        if (level == null) {
+            return AuditStatus.ALL;
+        }
+        for (AuditStatus status : AuditStatus.values()) {
+            if (status.name().equalsIgnoreCase(level.toString()) || status.value().equalsIgnoreCase(level.toString())) {
+                return status;
+            }
+        }
+        LOG.warn("Ignoring invalid {} value '{}'", AtlasConstants.AUDIT_LEVEL_PROPERTY, level);
+        return AuditStatus.ALL;
+    }
+
+    private static final class Occurrence {
+        private final Audit audit;
+        private int count = 1;
+
+        private Occurrence(Audit audit) {
+            this.audit = audit;
+        }
+    }
+}
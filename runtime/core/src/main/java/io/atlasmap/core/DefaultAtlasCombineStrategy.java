@@ -16,7 +16,6 @@
 package io.atlasmap.core;
 
 import java.util.Map;
-import java.util.TreeMap;
 
 import io.atlasmap.spi.AtlasCombineStrategy;
 
@@ -81,64 +80,74 @@ public class DefaultAtlasCombineStrategy implements AtlasCombineStrategy {
             return null;
         }
 
-        String combinedString = new String();
         if (values.size() == 1) {
-            combinedString = values.get(0);
-            return combinedString;
+            return values.get(0);
         }
 
-        Map<Integer, String> sortedMap = sortByKey(values);
-        Integer last = sortedMap.keySet().toArray(new Integer[0])[sortedMap.size()-1];
+        int last = -1;
+        for (Integer key : values.keySet()) {
+            if (key != null && key > last) {
+                last = key;
+            }
+        }
+        if (last < 0) {
+            return "";
+        }
+        String[] slots = new String[last + 1];
+        for (Map.Entry<Integer, String> entry : values.entrySet()) {
+            if (entry.getKey() != null && entry.getKey() >= 0) {
+                slots[entry.getKey()] = entry.getValue();
+            }
+        }
+        return combineValues(slots, delimiter, limit);
+    }
 
-        boolean first = true;
+    @Override
+    public String combineValues(String[] values, String delimiter) {
+        return combineValues(values, delimiter != null ? delimiter : getDelimiter(), getLimit());
+    }
+
+    /**
+     * Combines the values held in index slots into a single {@link StringBuilder}, a null element stands for
+     * a missing or null value.
+     *
+     * @param values values by index
+     * @param delimiter delimiter
+     * @param limit maximum number of slots to combine
+     * @return combined value
+     */
+    public String combineValues(String[] values, String delimiter, Integer limit) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        if (values.length == 1) {
+            return values[0];
+        }
+
+        String separator = delimiter != null ? delimiter : DEFAULT_COMBINE_DELIMITER;
+        int max = limit != null ? limit : DEFAULT_COMBINE_LIMIT;
+        StringBuilder combined = new StringBuilder();
         int count = 0;
-        for (int i=0; i<=last; i++) {
-            String value = sortedMap.get(i);
-            if (first) {
-                first = false;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (i == 0) {
                 if (value == null) {
                     continue;
-                } else if (isDisableAutoTrim()) {
-                    combinedString = combinedString.concat(value);
-                } else {
-                    combinedString = combinedString.concat(value.trim());
                 }
-            } else {
-                if (value == null) {
-                    if (!disableAddDelimiterOnNull) {
-                        combinedString = combinedString.concat((delimiter != null ? delimiter : DEFAULT_COMBINE_DELIMITER));
-                    }
-                } else if (isDisableAutoTrim()) {
-                    combinedString = combinedString.concat((delimiter != null ? delimiter : DEFAULT_COMBINE_DELIMITER))
-                            .concat(value);
-                } else {
-                    combinedString = combinedString.concat((delimiter != null ? delimiter : DEFAULT_COMBINE_DELIMITER))
-                            .concat(value.trim());
+                combined.append(isDisableAutoTrim() ? value : value.trim());
+            } else if (value == null) {
+                if (!disableAddDelimiterOnNull) {
+                    combined.append(separator);
                 }
+            } else {
+                combined.append(separator).append(isDisableAutoTrim() ? value : value.trim());
             }
 
             count++;
-            if (count >= (limit != null ? limit : DEFAULT_COMBINE_LIMIT)) {
+            if (count >= max) {
                 break;
             }
         }
-
-        return combinedString;
-    }
-
-    protected static Map<Integer, String> sortByKey(Map<Integer, String> map) {
-        TreeMap<Integer, String> treeMap = new TreeMap<>((key1, key2) -> {
-            if (key1 == null && key2 == null) {
-                return 0;
-            } else if (key1 == null) {
-                return -1;// 1 or -1; whatever, the null value can be retrieved only with .get(null)
-            } else if (key2 == null) {
-                return 1;
-            } else {
-                return key1.compareTo(key2);
-            }
-        });
-        treeMap.putAll(map);
-        return treeMap;
+        return combined.toString();
     }
 }
@@ -16,13 +16,17 @@
 package io.atlasmap.core;
 
 import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URI;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -42,11 +46,13 @@ import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasSession;
 import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
 import io.atlasmap.mxbean.AtlasContextMXBean;
+import io.atlasmap.spi.AtlasCombineStrategy;
 import io.atlasmap.spi.AtlasModule;
 import io.atlasmap.spi.AtlasModuleInfo;
 import io.atlasmap.spi.AtlasModuleInfoRegistry;
 import io.atlasmap.spi.AtlasModuleMode;
 import io.atlasmap.spi.FieldDirection;
+import io.atlasmap.v2.Action;
 import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.AuditStatus;
@@ -81,6 +87,11 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
     private Map<String, AtlasModule> sourceModules = new HashMap<>();
     private Map<String, AtlasModule> targetModules = new HashMap<>();
     private Map<String, LookupTable> lookupTables = new HashMap<>();
+    private SharedSourceReads sharedSourceReads = SharedSourceReads.compile(null, null);
+    private Map<Mapping, FoldedMapping> foldedMappings = new IdentityHashMap<>();
+    private volatile long lastAccessTime = System.currentTimeMillis();
+    private volatile boolean closed;
+    private boolean registered;
 
     public DefaultAtlasContext(URI atlasMappingUri) throws AtlasException {
         this(DefaultAtlasContextFactory.getInstance(), atlasMappingUri, AtlasMappingFormat.XML);
@@ -105,14 +116,16 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
     }
 
     /**
-     * TODO: For dynamic re-load. This needs lock()
+     * Loads the mapping definition and initializes the modules. This is not meant to be called again on
+     * a context which is serving sessions; use {@link ReloadableAtlasContext} to swap in a new mapping.
      *
      * @throws AtlasException
      */
     protected void init() throws AtlasException {
 
-        registerJmx(this);
-
+        if (closed) {
+            throw new AtlasException("AtlasContext has been closed");
+        }
         if (this.atlasMappingUri != null) {
             this.mappingDefinition = factory.getMappingService().loadMapping(this.atlasMappingUri, atlasMappingFormat);
         }
@@ -126,6 +139,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         propSource.setMode(AtlasModuleMode.SOURCE);
         propSource.setConversionService(factory.getConversionService());
         propSource.setFieldActionService(factory.getFieldActionService());
+        propSource.refreshProperties(mappingDefinition);
         sourceModules.put(PROPERTIES_DOCUMENT_ID, propSource);
         targetModules.clear();
 
@@ -182,9 +196,102 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 throw new AtlasException(String.format("Unable to initialize %s module: %s", ds.getDataSourceType(), moduleInfo.toString()), t) ;
             }
         }
+
+        compileMappings();
+
+        // only a context which initialized successfully is made visible
+        registerJmx(this);
+        if (!registered && factory.getContextRegistry() != null) {
+            factory.getContextRegistry().register(this);
+            registered = true;
+        }
     }
 
-    protected void registerJmx(DefaultAtlasContext context) {
+    /**
+     * Pre-computes what doesn't depend on the documents: the source fields read by more than one mapping, and
+     * the value of the mappings from a constant whose target field actions are all pure.
+     */
+    void compileMappings() {
+        sharedSourceReads = SharedSourceReads.compile(mappingDefinition, factory.getFieldActionService());
+        foldedMappings = new IdentityHashMap<>();
+        if (mappingDefinition.getMappings() != null && mappingDefinition.getMappings().getMapping() != null) {
+            for (BaseMapping baseMapping : mappingDefinition.getMappings().getMapping()) {
+                if (baseMapping instanceof Mapping) {
+                    foldConstantMapping((Mapping) baseMapping);
+                }
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Compiled mapping: {} source fields share their read, {} constant mappings folded",
+                    sharedSourceReads.size(), foldedMappings.size());
+        }
+    }
+
+    private void foldConstantMapping(Mapping mapping) {
+        if (!MappingType.MAP.equals(mapping.getMappingType()) || mapping.getLookupTableName() != null
+                || mapping.getInputField().size() != 1 || mapping.getOutputField().size() != 1
+                || !(mapping.getInputField().get(0) instanceof ConstantField)) {
+            return;
+        }
+        Field sourceField = mapping.getInputField().get(0);
+        Field targetField = mapping.getOutputField().get(0);
+        AtlasModule module = resolveModule(FieldDirection.TARGET, targetField);
+        if (sourceField.getValue() == null || !(module instanceof BaseAtlasModule)
+                || !module.isSupportedField(targetField)) {
+            return;
+        }
+        if (targetField.getActions() != null && targetField.getActions().getActions() != null) {
+            for (Action action : targetField.getActions().getActions()) {
+                if (!factory.getFieldActionService().isPure(action)) {
+                    return;
+                }
+            }
+        }
+
+        try {
+            // same as ConstantModule.processSourceFieldMapping()
+            ConstantField constant = new ConstantField();
+            constant.setPath(sourceField.getPath());
+            constant.setValue(sourceField.getValue());
+            constant.setFieldType(sourceField.getFieldType() != null ? sourceField.getFieldType()
+                    : factory.getConversionService().fieldTypeFromClass(sourceField.getValue().getClass()));
+            Field folded = ((BaseAtlasModule) module).foldConstant(constant, targetField);
+            Field foldedTarget = folded != null ? module.cloneField(targetField) : null;
+            if (foldedTarget == null) {
+                return;
+            }
+            if (!isFoldableValue(folded.getValue())) {
+                return;
+            }
+            constant.setValue(folded.getValue());
+            constant.setFieldType(folded.getFieldType());
+            foldedTarget.setActions(null);
+            foldedTarget.setFieldType(folded.getFieldType());
+            foldedMappings.put(mapping, new FoldedMapping(constant, foldedTarget, module));
+        } catch (Exception e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Constant mapping to '{}' is evaluated per session: {}", targetField.getPath(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A folded value is handed to every session, so it has to be immutable, or a Date / Calendar which is
+     * cloned per session.
+     */
+    private static boolean isFoldableValue(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double || value instanceof BigDecimal
+                || value instanceof BigInteger || value instanceof Enum || value instanceof Date
+                || value instanceof Calendar || value.getClass().getName().startsWith("java.time.");
+    }
+
+    protected synchronized void registerJmx(DefaultAtlasContext context) {
+        if (getJmxObjectName() != null || !getDefaultAtlasContextFactory().isContextJmxEnabled()) {
+            return;
+        }
         try {
             setJmxObjectName(new ObjectName(
                     getDefaultAtlasContextFactory().getJmxObjectName() + ",context=Contexts,uuid=" + uuid.toString()));
@@ -195,9 +302,67 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         } catch (Throwable t) {
             LOG.warn("Failed to register AtlasContext {} with JMX", context.getUuid());
             LOG.warn(t.getMessage(), t);
+            setJmxObjectName(null);
         }
     }
 
+    protected synchronized void unregisterJmx() {
+        if (getJmxObjectName() == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(getJmxObjectName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unregistered AtlasContext {} from JMX", getUuid());
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to unregister AtlasContext {} from JMX", getUuid());
+            LOG.warn(e.getMessage(), e);
+        }
+        setJmxObjectName(null);
+    }
+
+    /**
+     * Unregisters this context from JMX and from the factory's {@link AtlasContextRegistry}, and destroys the
+     * modules. Sessions can no longer be created nor processed afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        release();
+        for (AtlasModule module : getSourceModules().values()) {
+            module.destroy();
+        }
+        for (AtlasModule module : getTargetModules().values()) {
+            module.destroy();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Closed AtlasContext {}", getUuid());
+        }
+    }
+
+    /**
+     * Unregisters this context from JMX and from the {@link AtlasContextRegistry}, while keeping it usable
+     * for the sessions it has already created.
+     */
+    void release() {
+        if (factory.getContextRegistry() != null) {
+            factory.getContextRegistry().unregister(this);
+        }
+        unregisterJmx();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
     /**
      * Process session lifecycle
      *
@@ -211,7 +376,17 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             throw new AtlasException("Cannot execute AtlasSession created by the other AtlasContext");
         }
 
-        DefaultAtlasSession session = (DefaultAtlasSession)userSession;
+        doProcess((DefaultAtlasSession) userSession, true);
+    }
+
+    /**
+     * Processes the session, optionally skipping the pre-validation. {@link AtlasRecordStreamProcessor}
+     * validates the mapping once and then processes every record without re-validating it.
+     */
+    void doProcess(DefaultAtlasSession session, boolean validate) throws AtlasException {
+        if (closed) {
+            throw new AtlasException("AtlasContext has been closed");
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Begin process {}", (session == null ? null : session.toString()));
         }
@@ -219,16 +394,31 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         session.head().unset();
         session.getAudits().getAudit().clear();
         session.getValidations().getValidation().clear();
+        session.getAuditSink().reset();
 
-        processValidation(session);
-        for (Validation v : session.getValidations().getValidation()) {
-            AtlasUtil.addAudit(session, v);
+        try {
+            processMappings(session, validate);
+        } finally {
+            session.getAuditSink().flush();
         }
-        if (session.hasErrors()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.error("Aborting due to {} errors in pre-validation", session.errorCount());
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("End process {}", session == null ? null : session.toString());
+        }
+    }
+
+    private void processMappings(DefaultAtlasSession session, boolean validate) throws AtlasException {
+        if (validate) {
+            processValidation(session);
+            for (Validation v : session.getValidations().getValidation()) {
+                AtlasUtil.addAudit(session, v);
+            }
+            if (session.hasErrors()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.error("Aborting due to {} errors in pre-validation", session.errorCount());
+                }
+                return;
             }
-            return;
         }
 
         for (AtlasModule module : getSourceModules().values()) {
@@ -245,26 +435,34 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             return;
         }
 
+        // source values read in this run, by the read key shared with identical source fields
+        Map<String, Field> readFields = sharedSourceReads.isEmpty() ? null : new HashMap<>();
         for (BaseMapping baseMapping : session.getMapping().getMappings().getMapping()) {
             for (Mapping mapping : extractCollectionMappings(session, baseMapping)) {
                 session.head().setMapping(mapping)
                               .setLookupTable(lookupTables.get(mapping.getLookupTableName()));
 
                 if (mapping.getOutputField() == null || mapping.getOutputField().isEmpty()) {
-                    AtlasUtil.addAudit(session, null,
-                            String.format("Mapping does not contain at least one output field: alias=%s desc=%s",
-                                    mapping.getAlias(), mapping.getDescription()),
-                            null, AuditStatus.WARN, null);
+                    AtlasUtil.addAudit(session, AuditStatus.WARN, null, null, null,
+                            "Mapping does not contain at least one output field: alias=%s desc=%s",
+                            mapping.getAlias(), mapping.getDescription());
+                    continue;
+                }
+
+                FoldedMapping folded = foldedMappings.isEmpty() ? null : foldedMappings.get(mapping);
+                if (folded != null) {
+                    session.head().setSourceField(folded.getSourceField())
+                                  .setTargetField(folded.targetField);
+                    folded.module.processTargetFieldMapping(session);
                     continue;
                 }
 
                 if (mapping.getInputField() == null || mapping.getInputField().isEmpty()) {
-                    AtlasUtil.addAudit(session, null,
-                            String.format("Mapping does not contain at least one source field: alias=%s desc=%s",
-                                    mapping.getAlias(), mapping.getDescription()),
-                            null, AuditStatus.WARN, null);
+                    AtlasUtil.addAudit(session, AuditStatus.WARN, null, null, null,
+                            "Mapping does not contain at least one source field: alias=%s desc=%s",
+                            mapping.getAlias(), mapping.getDescription());
                 } else {
-                    processSourceFieldMappings(session, mapping.getInputField());
+                    processSourceFieldMappings(session, mapping.getInputField(), readFields);
                 }
 
                 processTargetFieldMappings(session, mapping);
@@ -284,10 +482,6 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         for (AtlasModule module : getTargetModules().values()) {
             module.processPostTargetExecution(session);
         }
-
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("End process {}", session == null ? null : session.toString());
-        }
     }
 
     private List<Mapping> extractCollectionMappings(DefaultAtlasSession session, BaseMapping baseMapping) throws AtlasException {
@@ -374,7 +568,8 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return direction == FieldDirection.SOURCE ? sourceModules.get(docId) : targetModules.get(docId);
     }
 
-    private void processSourceFieldMappings(DefaultAtlasSession session, List<Field> sourceFields) throws AtlasException {
+    private void processSourceFieldMappings(DefaultAtlasSession session, List<Field> sourceFields,
+            Map<String, Field> readFields) throws AtlasException {
         for (Field sourceField : sourceFields) {
             session.head().setSourceField(sourceField);
             AtlasModule module = resolveModule(FieldDirection.SOURCE, sourceField);
@@ -392,7 +587,23 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 return;
             }
 
+            String readKey = readFields != null ? sharedSourceReads.getReadKey(sourceField) : null;
+            if (readKey == null) {
+                module.processSourceFieldMapping(session);
+                continue;
+            }
+            Field readField = readFields.get(readKey);
+            if (readField != null) {
+                sourceField.setValue(readField.getValue());
+                sourceField.setFieldType(readField.getFieldType());
+                continue;
+            }
+            // only reuse a read which didn't raise any audit, so that a failed read is reported per mapping
+            int auditCount = session.getAudits().getAudit().size() + session.getAuditSink().getSuppressedCount();
             module.processSourceFieldMapping(session);
+            if (auditCount == session.getAudits().getAudit().size() + session.getAuditSink().getSuppressedCount()) {
+                readFields.put(readKey, sourceField);
+            }
         }
     }
 
@@ -433,12 +644,18 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             if ((sourceFieldsep.getFieldType() != null && !FieldType.STRING.equals(sourceFieldsep.getFieldType())
                     || (sourceFieldsep.getValue() == null
                             || !sourceFieldsep.getValue().getClass().isAssignableFrom(String.class)))) {
-                AtlasUtil.addAudit(session, sourceFieldsep.getDocId(), String
-                        .format("Separate requires String field type for sourceField.path=%s", sourceFieldsep.getPath()),
-                        sourceFieldsep.getPath(), AuditStatus.WARN, null);
+                AtlasUtil.addAudit(session, AuditStatus.WARN, sourceFieldsep.getDocId(), sourceFieldsep.getPath(), null,
+                        "Separate requires String field type for sourceField.path=%s", sourceFieldsep.getPath());
                 return;
             }
-            List<Field> separatedFields = processSeparateField(session, mapping, sourceFields.get(0));
+            int maxIndex = -1;
+            for (Field f : targetFields) {
+                if (f.getIndex() != null) {
+                    maxIndex = Math.max(maxIndex, f.getIndex());
+                }
+            }
+            String[] segments = new String[maxIndex + 1];
+            int segmentCount = processSeparateField(session, mapping, sourceFieldsep, segments);
             for (Field f : targetFields) {
                 targetField = f;
                 module = resolveModule(FieldDirection.TARGET, targetField);
@@ -446,20 +663,23 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                     continue;
                 }
                 if (targetField.getIndex() == null || targetField.getIndex() < 0) {
-                    AtlasUtil.addAudit(session, targetField.getDocId(),
-                            String.format("Separate requires zero or positive Index value to be set on targetField targetField.path=%s",
-                                    targetField.getPath()),
-                            targetField.getPath(), AuditStatus.WARN, null);
+                    AtlasUtil.addAudit(session, AuditStatus.WARN, targetField.getDocId(), targetField.getPath(), null,
+                            "Separate requires zero or positive Index value to be set on targetField targetField.path=%s",
+                            targetField.getPath());
                     continue;
                 }
-                if (separatedFields.size() <= targetField.getIndex()) {
+                if (segmentCount <= targetField.getIndex()) {
                     String errorMessage = String.format(
                             "Separate returned fewer segments count=%s when targetField.path=%s requested index=%s",
-                            separatedFields.size(), targetField.getPath(), targetField.getIndex());
+                            segmentCount, targetField.getPath(), targetField.getIndex());
                     AtlasUtil.addAudit(session, targetField.getDocId(), errorMessage, targetField.getPath(), AuditStatus.WARN, null);
                     break;
                 }
-                session.head().setSourceField(separatedFields.get(targetField.getIndex()))
+                // only the segments requested by the target fields are turned into fields
+                SimpleField separatedField = AtlasModelFactory.cloneFieldToSimpleField(sourceFieldsep);
+                separatedField.setValue(segments[targetField.getIndex()]);
+                separatedField.setFieldType(FieldType.STRING);
+                session.head().setSourceField(separatedField)
                               .setTargetField(targetField);
                 module.processTargetFieldMapping(session);
             }
@@ -492,19 +712,24 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
 
     private Field processCombineField(DefaultAtlasSession session, Mapping mapping,
             List<Field> sourceFields, Field targetField) throws AtlasException {
-        Map<Integer, String> combineValues = null;
+        int maxIndex = -1;
         for (Field sourceField : sourceFields) {
             if (sourceField.getIndex() == null || sourceField.getIndex() < 0) {
-                AtlasUtil.addAudit(session, targetField.getDocId(),
-                        String.format("Combine requires zero or positive Index value to be set on all sourceFields sourceField.path=%s",
-                                sourceField.getPath()),
-                        targetField.getPath(), AuditStatus.WARN, null);
+                AtlasUtil.addAudit(session, AuditStatus.WARN, targetField.getDocId(), targetField.getPath(), null,
+                        "Combine requires zero or positive Index value to be set on all sourceFields sourceField.path=%s",
+                        sourceField.getPath());
                 continue;
             }
+            maxIndex = Math.max(maxIndex, sourceField.getIndex());
+        }
 
-            if (combineValues == null) {
-                // We need to support a sorted map w/ null values
-                combineValues = new HashMap<Integer, String>();
+        // index slots sized from the mapping, a null slot is a missing or null value
+        String[] combineValues = maxIndex < 0 ? null : new String[maxIndex + 1];
+        int valueCount = 0;
+        int lastIndex = -1;
+        for (Field sourceField : sourceFields) {
+            if (combineValues == null || sourceField.getIndex() == null || sourceField.getIndex() < 0) {
+                continue;
             }
 
             if ((sourceField.getFieldType() != null) || (sourceField.getValue() != null)) {
@@ -513,24 +738,32 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                     sourceValue = (String) factory.getConversionService().convertType(sourceField.getValue(),
                         sourceField.getFieldType(), FieldType.STRING);
                 } catch (AtlasConversionException e) {
-                    AtlasUtil.addAudit(session, targetField.getDocId(), String
-                            .format("Suitable converter for sourceField.path=%s hasn't been found", sourceField.getPath()),
-                        targetField.getPath(), AuditStatus.WARN, null);
+                    AtlasUtil.addAudit(session, AuditStatus.WARN, targetField.getDocId(), targetField.getPath(), null,
+                            "Suitable converter for sourceField.path=%s hasn't been found", sourceField.getPath());
 
                     sourceValue = sourceField.getValue() != null ? sourceField.getValue().toString() : null;
                 }
-                combineValues.put(sourceField.getIndex(), sourceValue);
-                continue;
+                combineValues[sourceField.getIndex()] = sourceValue;
+                valueCount++;
+                lastIndex = Math.max(lastIndex, sourceField.getIndex());
             }
         }
 
-        String combinedValue = null;
-        if (mapping.getDelimiter() != null) {
-            combinedValue = session.getAtlasContext().getContextFactory().getCombineStrategy()
-                    .combineValues(combineValues, mapping.getDelimiter());
+        AtlasCombineStrategy combineStrategy = session.getAtlasContext().getContextFactory().getCombineStrategy();
+        String combinedValue;
+        if (valueCount == 1) {
+            // a single value is handed over as is, the same as combining a one entry map
+            Map<Integer, String> singleValue = Collections.singletonMap(lastIndex, combineValues[lastIndex]);
+            combinedValue = mapping.getDelimiter() != null
+                    ? combineStrategy.combineValues(singleValue, mapping.getDelimiter())
+                    : combineStrategy.combineValues(singleValue);
         } else {
-            combinedValue = session.getAtlasContext().getContextFactory().getCombineStrategy()
-                    .combineValues(combineValues);
+            // slots after the last source field that produced a value don't add a trailing delimiter
+            if (valueCount > 0 && lastIndex + 1 < combineValues.length) {
+                combineValues = Arrays.copyOf(combineValues, lastIndex + 1);
+            }
+            combinedValue = combineStrategy.combineValues(valueCount == 0 ? null : combineValues,
+                    mapping.getDelimiter());
         }
 
         Field answer = AtlasModelFactory.cloneFieldToSimpleField(sourceFields.get(0));
@@ -543,41 +776,30 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return answer;
     }
 
-    protected List<Field> processSeparateField(DefaultAtlasSession session, Mapping mapping,
-            Field sourceField) throws AtlasException {
-        List<Field> answer = new ArrayList<>();
-
+    /**
+     * Separates the source value directly into the segment slots requested by the target fields.
+     *
+     * @return the number of segments, less than segments.length only when the value has fewer segments
+     */
+    protected int processSeparateField(DefaultAtlasSession session, Mapping mapping,
+            Field sourceField, String[] segments) throws AtlasException {
         String sourceValue;
         try {
             sourceValue = (String) factory.getConversionService().convertType(sourceField.getValue(),
                 sourceField.getFieldType(), FieldType.STRING);
         } catch (AtlasConversionException e) {
-            AtlasUtil.addAudit(session, sourceField.getDocId(), String.format(
-                    "Suitable converter for sourceField.path=%s hasn't been found", sourceField.getPath()),
-                    sourceField.getPath(), AuditStatus.WARN, null);
+            AtlasUtil.addAudit(session, AuditStatus.WARN, sourceField.getDocId(), sourceField.getPath(), null,
+                    "Suitable converter for sourceField.path=%s hasn't been found", sourceField.getPath());
             sourceValue = sourceField.getValue().toString();
         }
-        List<String> separatedValues = null;
-        if (mapping.getDelimiter() != null) {
-            separatedValues = session.getAtlasContext().getContextFactory().getSeparateStrategy()
-                    .separateValue(sourceValue, mapping.getDelimiter());
-        } else {
-            separatedValues = session.getAtlasContext().getContextFactory().getSeparateStrategy()
-                    .separateValue(sourceValue);
-        }
 
-        if (separatedValues == null || separatedValues.isEmpty()) {
+        int count = session.getAtlasContext().getContextFactory().getSeparateStrategy()
+                .separateValue(sourceValue, mapping.getDelimiter(), segments);
+        if (count == 0) {
             LOG.debug(
                     String.format("Empty string for Separate mapping sourceField.path=%s", sourceField.getPath()));
-        } else {
-            for (String separatedValue : separatedValues) {
-                SimpleField simpleField = AtlasModelFactory.cloneFieldToSimpleField(sourceField);
-                simpleField.setValue(separatedValue);
-                simpleField.setFieldType(FieldType.STRING);
-                answer.add(simpleField);
-            }
         }
-        return answer;
+        return count;
     }
 
     @Override
@@ -615,6 +837,17 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
     }
 
+    /**
+     * Re-reads the environment variables, Java system properties and mapping defined properties which are
+     * captured when the context is initialized and used to resolve the property fields.
+     */
+    public void refreshProperties() {
+        AtlasModule module = sourceModules.get(PROPERTIES_DOCUMENT_ID);
+        if (module instanceof PropertyModule) {
+            ((PropertyModule) module).refreshProperties(mappingDefinition);
+        }
+    }
+
     protected DefaultAtlasContextFactory getDefaultAtlasContextFactory() {
         return this.factory;
     }
@@ -643,7 +876,14 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return doCreateSession();
     }
 
-    private AtlasSession doCreateSession() {
+    private AtlasSession doCreateSession() throws AtlasException {
+        if (closed) {
+            throw new AtlasException("AtlasContext has been closed");
+        }
+        lastAccessTime = System.currentTimeMillis();
+        if (registered && factory.getContextRegistry() != null) {
+            factory.getContextRegistry().touch(this);
+        }
         AtlasSession session = new DefaultAtlasSession(mappingDefinition);
         session.setAtlasContext(this);
         session.setAudits(new Audits());
@@ -731,4 +971,31 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 + ", mappingName=" + getMappingName() + ", mappingUri=" + getMappingUri() + ", sourceModules="
                 + sourceModules + ", targetModules=" + targetModules +"]";
     }
+
+    private static final class FoldedMapping {
+        private final Field sourceField;
+        private final Field targetField;
+        private final AtlasModule module;
+
+        private FoldedMapping(Field sourceField, Field targetField, AtlasModule module) {
+            this.sourceField = sourceField;
+            this.targetField = targetField;
+            this.module = module;
+        }
+
+        /**
+         * @return the folded source field, with its own copy of a mutable Date or Calendar value
+         */
+        private Field getSourceField() {
+            Object value = sourceField.getValue();
+            if (!(value instanceof Date) && !(value instanceof Calendar)) {
+                return sourceField;
+            }
+            ConstantField copy = new ConstantField();
+            copy.setPath(sourceField.getPath());
+            copy.setFieldType(sourceField.getFieldType());
+            copy.setValue(value instanceof Date ? ((Date) value).clone() : ((Calendar) value).clone());
+            return copy;
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -56,8 +57,28 @@ import io.atlasmap.v2.AtlasMapping;
 
 public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasContextFactoryMXBean {
 
+    /** JMX registration mode, one of {@link JmxMode}, case insensitive. */
+    public static final String JMX_MODE_PROPERTY = "atlasmap.jmx.mode";
+    /**
+     * Maximum number of live contexts tracked by the {@link AtlasContextRegistry}, 0 for unbounded. Evicted
+     * contexts lose their JMX registration while they may still be in use, so the bound is off by default.
+     */
+    public static final String MAX_CONTEXTS_PROPERTY = "atlasmap.context.max";
+    /** Idle time in milliseconds after which a context is evicted from the registry, 0 (default) to disable. */
+    public static final String CONTEXT_IDLE_TIMEOUT_PROPERTY = "atlasmap.context.idleTimeout";
+    public static final int DEFAULT_MAX_CONTEXTS = 0;
+
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasContextFactory.class);
 
+    public enum JmxMode {
+        /** Register the factory and each context. */
+        CONTEXT,
+        /** Register the factory only, which aggregates the context counts. */
+        FACTORY,
+        /** Do not register with JMX. */
+        NONE
+    }
+
     private static DefaultAtlasContextFactory factory = null;
     private String uuid = null;
     private String threadName = null;
@@ -71,6 +92,9 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
     private AtlasValidationService atlasValidationService = new DefaultAtlasValidationService();
     private AtlasModuleInfoRegistry moduleInfoRegistry;
     private Map<String, String> properties = null;
+    private JmxMode jmxMode = JmxMode.CONTEXT;
+    private AtlasContextRegistry contextRegistry;
+    private final Map<String, Long> initTimings = new LinkedHashMap<>();
 
     public DefaultAtlasContextFactory() {
     }
@@ -112,15 +136,50 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
     }
 
     public void init(Map<String, String> properties) {
+        long start = System.nanoTime();
+        this.initTimings.clear();
         this.uuid = UUID.randomUUID().toString();
         this.threadName = Thread.currentThread().getName();
+        // converters and field actions are loaded on first use
         this.atlasConversionService = DefaultAtlasConversionService.getInstance();
         this.atlasFieldActionService = new DefaultAtlasFieldActionService(this.atlasConversionService);
-        this.atlasFieldActionService.init();
+        this.jmxMode = readJmxMode();
+        this.contextRegistry = new AtlasContextRegistry(
+                (int) readLongProperty(MAX_CONTEXTS_PROPERTY, DEFAULT_MAX_CONTEXTS),
+                readLongProperty(CONTEXT_IDLE_TIMEOUT_PROPERTY, 0L));
+        start = recordInitTiming("services", start);
         registerFactoryJmx(this);
+        start = recordInitTiming("jmx", start);
         this.moduleInfoRegistry = new DefaultAtlasModuleInfoRegistry(this);
         loadModules("moduleClass", AtlasModule.class);
+        start = recordInitTiming("modules", start);
+        // the JAXBContext is created when the first XML mapping is loaded
         setMappingService(new AtlasMappingService(getAllModuleConfigPackages(getModuleInfoRegistry())));
+        recordInitTiming("mappingService", start);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Initialized AtlasContextFactory {}, phase timings in ms: {}", uuid, initTimings);
+        }
+    }
+
+    private long recordInitTiming(String phase, long start) {
+        long now = System.nanoTime();
+        initTimings.put(phase, (now - start) / 1000000L);
+        return now;
+    }
+
+    /**
+     * Returns the milliseconds spent in each phase of {@link #init()}. The {@code jaxb} phase shows up once
+     * the first XML mapping has been loaded.
+     *
+     * @return phase timings
+     */
+    @Override
+    public Map<String, Long> getInitTimings() {
+        Map<String, Long> answer = new LinkedHashMap<>(initTimings);
+        if (atlasMappingService != null && atlasMappingService.getJAXBInitTime() >= 0) {
+            answer.put("jaxb", atlasMappingService.getJAXBInitTime());
+        }
+        return answer;
     }
 
     @Override
@@ -128,13 +187,19 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
 
         unloadModules();
 
-        try {
-            ManagementFactory.getPlatformMBeanServer().unregisterMBean(getJmxObjectName());
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Unregistered AtlasContextFactory with JMX");
+        if (contextRegistry != null) {
+            contextRegistry.clear();
+        }
+
+        if (getJmxObjectName() != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(getJmxObjectName());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unregistered AtlasContextFactory with JMX");
+                }
+            } catch (Exception e) {
+                LOG.warn("Unable to unregister with JMX", e);
             }
-        } catch (Exception e) {
-            LOG.warn("Unable to unregister with JMX", e);
         }
 
         this.uuid = null;
@@ -143,6 +208,7 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
         this.atlasMappingService = null;
         this.atlasFieldActionService = null;
         this.atlasConversionService = null;
+        this.contextRegistry = null;
         this.atlasPropertyStrategy = null;
         this.moduleInfoRegistry = null;
         this.threadName = null;
@@ -179,6 +245,32 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
         return context;
     }
 
+    /**
+     * Creates an {@link AtlasContext} which reloads the mapping from the URI when it is modified.
+     *
+     * @param atlasMappingUri mapping URI
+     * @param format mapping format
+     * @param watchIntervalMillis interval to check the last modified time, or 0 to reload only on
+     *        {@link ReloadableAtlasContext#reload()}
+     * @return the reloadable context
+     * @throws AtlasException if the initial mapping cannot be loaded or has validation errors
+     */
+    public ReloadableAtlasContext createReloadableContext(URI atlasMappingUri, AtlasMappingFormat format,
+            long watchIntervalMillis) throws AtlasException {
+        if (atlasMappingUri == null) {
+            throw new AtlasException("AtlasMappingUri must be specified");
+        }
+        if (getMappingService() == null) {
+            throw new AtlasException("AtlasMappingService is not set");
+        }
+        ReloadableAtlasContext context = new ReloadableAtlasContext(this, atlasMappingUri, format);
+        context.init();
+        if (watchIntervalMillis > 0) {
+            context.startWatching(watchIntervalMillis);
+        }
+        return context;
+    }
+
     public AtlasContext createContext(AtlasMapping mapping) throws AtlasException {
         DefaultAtlasContext context = new DefaultAtlasContext(this, mapping);
         context.init();
@@ -213,6 +305,43 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
         return this.objectName;
     }
 
+    public AtlasContextRegistry getContextRegistry() {
+        return contextRegistry;
+    }
+
+    public JmxMode getJmxMode() {
+        return jmxMode;
+    }
+
+    public boolean isContextJmxEnabled() {
+        return jmxMode == JmxMode.CONTEXT && getJmxObjectName() != null;
+    }
+
+    @Override
+    public int getLiveContextCount() {
+        return contextRegistry != null ? contextRegistry.size() : 0;
+    }
+
+    @Override
+    public long getCreatedContextCount() {
+        return contextRegistry != null ? contextRegistry.getCreatedCount() : 0L;
+    }
+
+    @Override
+    public long getEvictedContextCount() {
+        return contextRegistry != null ? contextRegistry.getEvictedCount() : 0L;
+    }
+
+    @Override
+    public int getMaxContexts() {
+        return contextRegistry != null ? contextRegistry.getMaxContexts() : 0;
+    }
+
+    @Override
+    public long getContextIdleTimeout() {
+        return contextRegistry != null ? contextRegistry.getIdleTimeoutMillis() : 0L;
+    }
+
     public AtlasMappingService getMappingService() {
         return this.atlasMappingService;
     }
@@ -454,6 +583,9 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
     }
 
     protected void registerFactoryJmx(DefaultAtlasContextFactory factory) {
+        if (jmxMode == JmxMode.NONE) {
+            return;
+        }
         try {
             setObjectName(factory.uuid);
             ManagementFactory.getPlatformMBeanServer().registerMBean(factory, factory.getJmxObjectName());
@@ -465,6 +597,39 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
         }
     }
 
+    private JmxMode readJmxMode() {
+        String value = readProperty(JMX_MODE_PROPERTY);
+        if (value == null) {
+            return JmxMode.CONTEXT;
+        }
+        try {
+            return JmxMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid {} '{}', using {}", JMX_MODE_PROPERTY, value, JmxMode.CONTEXT);
+            return JmxMode.CONTEXT;
+        }
+    }
+
+    private long readLongProperty(String name, long defaultValue) {
+        String value = readProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid {} '{}', using {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private String readProperty(String name) {
+        if (properties != null && properties.get(name) != null) {
+            return properties.get(name);
+        }
+        return System.getProperty(name);
+    }
+
     protected void setObjectName(String name) throws MalformedObjectNameException {
         String objectName = String.format("io.atlasmap:type=AtlasServiceFactory,factoryUuid=%s", getUuid());
         this.objectName = new ObjectName(objectName);
@@ -19,6 +19,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,16 +52,34 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
             Arrays.asList("java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Double",
                     "java.lang.Float", "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.String")));
 
+    private static final Map<Class<?>, Class<?>> BOX_OR_UNBOX = new IdentityHashMap<>();
+    static {
+        Class<?>[][] pairs = new Class<?>[][] { { boolean.class, Boolean.class }, { byte.class, Byte.class },
+            { char.class, Character.class }, { double.class, Double.class }, { float.class, Float.class },
+            { int.class, Integer.class }, { long.class, Long.class }, { short.class, Short.class } };
+        for (Class<?>[] pair : pairs) {
+            BOX_OR_UNBOX.put(pair[0], pair[1]);
+            BOX_OR_UNBOX.put(pair[1], pair[0]);
+        }
+    }
+    /** Classification per class, computed once instead of comparing class names on every value */
+    private static final ClassValue<ClassInfo> CLASS_INFO = new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> clazz) {
+            return new ClassInfo(clazz);
+        }
+    };
+
     private static DefaultAtlasConversionService instance = null;
-    private Map<String, AtlasConverter<?>> converters = null;
+    private volatile Map<String, AtlasConverter<?>> converters = null;
 
     private DefaultAtlasConversionService() {
     }
 
-    public static DefaultAtlasConversionService getInstance() {
+    public static synchronized DefaultAtlasConversionService getInstance() {
         if (instance == null) {
+            // converters are loaded on first lookup
             instance = new DefaultAtlasConversionService();
-            instance.init();
         }
         return instance;
     }
@@ -72,12 +91,12 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
     @Override
     public Optional<AtlasConverter<?>> findMatchingConverter(FieldType source, FieldType target) {
 
-        List<AtlasPrimitiveConverter<?>> primitiveConverters = converters.values().stream()
+        List<AtlasPrimitiveConverter<?>> primitiveConverters = getConverters().values().stream()
                 .filter(p -> p instanceof AtlasPrimitiveConverter).map(p -> (AtlasPrimitiveConverter<?>) p)
                 .collect(Collectors.toList());
         Optional<AtlasConverter<?>> primitiveConverter = checkPrimitiveConverters(primitiveConverters, source, target);
 
-        List<AtlasConverter<?>> customConverters = converters.values().stream()
+        List<AtlasConverter<?>> customConverters = getConverters().values().stream()
                 .filter(not(p -> p instanceof AtlasPrimitiveConverter)).collect(Collectors.toList());
         Optional<AtlasConverter<?>> customConverter = checkCustomConverters(customConverters, source, target);
 
@@ -92,7 +111,7 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
     public Optional<AtlasConverter<?>> findMatchingConverter(String sourceClassName, String targetClassName) {
         // assuming only custom converters define sourceClassName / targetClassName and
         // must match exactly.
-        List<AtlasConverter<?>> customConverters = converters.values().stream()
+        List<AtlasConverter<?>> customConverters = getConverters().values().stream()
                 .filter(not(p -> p instanceof AtlasPrimitiveConverter)).collect(Collectors.toList());
         for (AtlasConverter<?> converter : customConverters) {
             if (findConverterByMethodAnnotationClassName(sourceClassName, targetClassName, converter)) {
@@ -165,12 +184,22 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
                         && atlasConversionInfo.targetClassName().equals(targetClassName)));
     }
 
-    private void init() {
-        loadConverters();
+    private Map<String, AtlasConverter<?>> getConverters() {
+        Map<String, AtlasConverter<?>> answer = converters;
+        if (answer == null) {
+            synchronized (this) {
+                answer = converters;
+                if (answer == null) {
+                    answer = loadConverters();
+                    converters = answer;
+                }
+            }
+        }
+        return answer;
     }
 
     @SuppressWarnings("rawtypes")
-    private void loadConverters() {
+    private Map<String, AtlasConverter<?>> loadConverters() {
         ClassLoader classLoader = this.getClass().getClassLoader();
         final ServiceLoader<AtlasConverter> converterServiceLoader = ServiceLoader.load(AtlasConverter.class,
                 classLoader);
@@ -181,9 +210,7 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
             }
             tmp.put(atlasConverter.getClass().getCanonicalName(), atlasConverter);
         }
-        if (!tmp.isEmpty()) {
-            converters = Collections.unmodifiableMap(tmp);
-        }
+        return Collections.unmodifiableMap(tmp);
     }
 
     private static <R> Predicate<R> not(Predicate<R> predicate) {
@@ -192,49 +219,7 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
 
     @Override
     public Object copyPrimitive(Object sourceValue) {
-
-        if (sourceValue == null) {
-            return null;
-        }
-
-        Class<?> clazz = sourceValue.getClass();
-        if (clazz == null) {
-            return clazz;
-        } else if (boolean.class.getName().equals(clazz.getName())) {
-            return Boolean.valueOf((boolean) sourceValue);
-        } else if (Boolean.class.getName().equals(clazz.getName())) {
-            return Boolean.valueOf((Boolean) sourceValue);
-        } else if (byte.class.getName().equals(clazz.getName())) {
-            return Byte.valueOf((byte) sourceValue);
-        } else if (Byte.class.getName().equals(clazz.getName())) {
-            return Byte.valueOf((Byte) sourceValue);
-        } else if (char.class.getName().equals(clazz.getName())) {
-            return Character.valueOf((char) sourceValue);
-        } else if (Character.class.getName().equals(clazz.getName())) {
-            return Character.valueOf((Character) sourceValue);
-        } else if (double.class.getName().equals(clazz.getName())) {
-            return Double.valueOf((double) sourceValue);
-        } else if (Double.class.getName().equals(clazz.getName())) {
-            return Double.valueOf((Double) sourceValue);
-        } else if (float.class.getName().equals(clazz.getName())) {
-            return Float.valueOf((float) sourceValue);
-        } else if (Float.class.getName().equals(clazz.getName())) {
-            return Float.valueOf((Float) sourceValue);
-        } else if (int.class.getName().equals(clazz.getName())) {
-            return Integer.valueOf((int) sourceValue);
-        } else if (Integer.class.getName().equals(clazz.getName())) {
-            return Integer.valueOf((Integer) sourceValue);
-        } else if (long.class.getName().equals(clazz.getName())) {
-            return Long.valueOf((long) sourceValue);
-        } else if (Long.class.getName().equals(clazz.getName())) {
-            return Long.valueOf((Long) sourceValue);
-        } else if (short.class.getName().equals(clazz.getName())) {
-            return Short.valueOf((short) sourceValue);
-        } else if (Short.class.getName().equals(clazz.getName())) {
-            return Short.valueOf((Short) sourceValue);
-        }
-
-        // can't count on java copy
+        // a primitive passed as Object is always boxed, and the boxed types are immutable
         return sourceValue;
     }
 
@@ -317,10 +302,7 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
         if (clazz == null) {
             return false;
         }
-        if (PRIMITIVE_CLASSNAMES.contains(clazz.getCanonicalName())) {
-            return true;
-        }
-        return false;
+        return CLASS_INFO.get(clazz).primitive;
     }
 
     @Override
@@ -336,47 +318,15 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
         if (clazz == null) {
             return false;
         }
-        return BOXED_PRIMITIVE_CLASSNAMES.contains(clazz.getCanonicalName());
+        return CLASS_INFO.get(clazz).boxedPrimitive;
     }
 
     @Override
     public Class<?> boxOrUnboxPrimitive(Class<?> clazz) {
         if (clazz == null) {
             return clazz;
-        } else if (boolean.class.getName().equals(clazz.getName())) {
-            return Boolean.class;
-        } else if (Boolean.class.getName().equals(clazz.getName())) {
-            return boolean.class;
-        } else if (byte.class.getName().equals(clazz.getName())) {
-            return Byte.class;
-        } else if (Byte.class.getName().equals(clazz.getName())) {
-            return byte.class;
-        } else if (char.class.getName().equals(clazz.getName())) {
-            return Character.class;
-        } else if (Character.class.getName().equals(clazz.getName())) {
-            return char.class;
-        } else if (double.class.getName().equals(clazz.getName())) {
-            return Double.class;
-        } else if (Double.class.getName().equals(clazz.getName())) {
-            return double.class;
-        } else if (float.class.getName().equals(clazz.getName())) {
-            return Float.class;
-        } else if (Float.class.getName().equals(clazz.getName())) {
-            return float.class;
-        } else if (int.class.getName().equals(clazz.getName())) {
-            return Integer.class;
-        } else if (Integer.class.getName().equals(clazz.getName())) {
-            return int.class;
-        } else if (long.class.getName().equals(clazz.getName())) {
-            return Long.class;
-        } else if (Long.class.getName().equals(clazz.getName())) {
-            return long.class;
-        } else if (short.class.getName().equals(clazz.getName())) {
-            return Short.class;
-        } else if (Short.class.getName().equals(clazz.getName())) {
-            return short.class;
         }
-        return clazz;
+        return CLASS_INFO.get(clazz).boxOrUnbox;
     }
 
     @Override
@@ -385,11 +335,15 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
             return null;
         }
 
-        return fieldTypeFromClass(clazz.getName());
+        return CLASS_INFO.get(clazz).fieldType;
     }
 
     @Override
     public FieldType fieldTypeFromClass(String className) {
+        return fieldTypeFromClassName(className);
+    }
+
+    private static FieldType fieldTypeFromClassName(String className) {
         if (className == null || className.isEmpty()) {
             return null;
         }
@@ -489,4 +443,19 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
         }
     }
 
+    private static final class ClassInfo {
+        private final FieldType fieldType;
+        private final boolean primitive;
+        private final boolean boxedPrimitive;
+        private final Class<?> boxOrUnbox;
+
+        private ClassInfo(Class<?> clazz) {
+            this.fieldType = fieldTypeFromClassName(clazz.getName());
+            String canonicalName = clazz.getCanonicalName();
+            this.primitive = canonicalName != null && PRIMITIVE_CLASSNAMES.contains(canonicalName);
+            this.boxedPrimitive = canonicalName != null && BOXED_PRIMITIVE_CLASSNAMES.contains(canonicalName);
+            Class<?> other = BOX_OR_UNBOX.get(clazz);
+            this.boxOrUnbox = other != null ? other : clazz;
+        }
+    }
 }
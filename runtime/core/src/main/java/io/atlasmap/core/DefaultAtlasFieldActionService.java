@@ -6,12 +6,17 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.atlasmap.actions.FusedStringActions;
+import io.atlasmap.actions.StringComplexFieldActions;
+import io.atlasmap.actions.StringSimpleFieldActions;
 import io.atlasmap.api.AtlasConversionService;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasFieldAction;
@@ -31,14 +36,30 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasFieldActionService.class);
     private ActionDetails actionDetails = new ActionDetails();
+    private Set<String> impureActionNames = new HashSet<>();
     private AtlasConversionService conversionService = null;
+    private volatile boolean loaded = false;
 
     public DefaultAtlasFieldActionService(AtlasConversionService conversionService) {
         this.conversionService = conversionService;
     }
 
+    /**
+     * Loads the field actions. This is also done on first access, so calling it is optional.
+     */
     public void init() {
-        loadFieldActions();
+        ensureLoaded();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    loadFieldActions();
+                    loaded = true;
+                }
+            }
+        }
     }
 
     protected void loadFieldActions() {
@@ -72,21 +93,35 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
                     if (LOG.isTraceEnabled()) {
                         LOG.trace("Loaded FieldAction: " + det.getName());
                     }
-                    listActionDetails().add(det);
+                    actionDetails.getActionDetail().add(det);
+                    if (!annotation.pure()) {
+                        impureActionNames.add(annotation.name());
+                    }
                 }
             }
         }
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Loaded %s Field Actions", listActionDetails().size()));
+            LOG.debug(String.format("Loaded %s Field Actions", actionDetails.getActionDetail().size()));
         }
     }
 
     @Override
     public List<ActionDetail> listActionDetails() {
+        ensureLoaded();
         return actionDetails.getActionDetail();
     }
 
+    @Override
+    public boolean isPure(Action action) {
+        if (action == null) {
+            return false;
+        }
+        ensureLoaded();
+        String name = action.getDisplayName();
+        return !impureActionNames.contains(name) && findActionDetail(name, null) != null;
+    }
+
     /*
      * TODO: getActionDetailByActionName() when all references are updated to use
      *
@@ -163,6 +198,10 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         return tmpField.getValue();
     }
 
+    /**
+     * Applies the actions in order, each action gets the result of the previous one, converted to the
+     * source type of the action where needed. The first action gets the source value.
+     */
     protected Field internalProcessActions(Actions actions, Object sourceObject, FieldType targetType) throws AtlasException {
 
         Field processedField = new SimpleField();
@@ -186,13 +225,25 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         }
 
         FieldType currentType = sourceType;
-        for(Action action : actions.getActions()) {
+        List<Action> actionList = actions.getActions();
+        for(int i = 0; i < actionList.size(); i++) {
+            int fusedEnd = findFusedRun(actionList, i, currentType, tmpSourceObject);
+            if(fusedEnd - i > 1) {
+                tmpSourceObject = FusedStringActions.apply(actionList, i, fusedEnd, (String) tmpSourceObject);
+                processedField.setValue(tmpSourceObject);
+                processedField.setFieldType(FieldType.STRING);
+                i = fusedEnd - 1;
+                continue;
+            }
+
+            Action action = actionList.get(i);
             ActionDetail detail = findActionDetail(action.getDisplayName(), currentType);
             if(!detail.getSourceType().equals(currentType) && !FieldType.ALL.equals(detail.getSourceType())) {
-                tmpSourceObject = getConversionService().convertType(sourceObject, currentType, detail.getSourceType());
+                tmpSourceObject = getConversionService().convertType(tmpSourceObject, currentType, detail.getSourceType());
             }
 
-            processedField.setValue(processAction(action, detail, tmpSourceObject));
+            tmpSourceObject = processAction(action, detail, tmpSourceObject);
+            processedField.setValue(tmpSourceObject);
             processedField.setFieldType(detail.getTargetType());
             currentType = detail.getTargetType();
         }
@@ -200,6 +251,32 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         return processedField;
     }
 
+    /**
+     * Finds the run of consecutive built-in string actions starting at {@code from} which can be applied
+     * by {@link FusedStringActions} on the current String value.
+     *
+     * @return index after the last action of the run, {@code from} if the action at {@code from} can't be fused
+     */
+    protected int findFusedRun(List<Action> actionList, int from, FieldType currentType, Object value) {
+        if(!(value instanceof String) || !FieldType.STRING.equals(currentType)) {
+            return from;
+        }
+
+        int end = from;
+        while(end < actionList.size() && FusedStringActions.isFusable(actionList.get(end))
+                && isBuiltInStringAction(findActionDetail(actionList.get(end).getDisplayName(), FieldType.STRING))) {
+            end++;
+        }
+        return end;
+    }
+
+    private boolean isBuiltInStringAction(ActionDetail detail) {
+        return detail != null && FieldType.STRING.equals(detail.getSourceType())
+                && FieldType.STRING.equals(detail.getTargetType())
+                && (StringSimpleFieldActions.class.getName().equals(detail.getClassName())
+                        || StringComplexFieldActions.class.getName().equals(detail.getClassName()));
+    }
+
     protected Object processAction(Action action, ActionDetail actionDetail, Object sourceObject) throws AtlasException {
         Object targetObject = null;
         if(actionDetail != null) {
@@ -15,10 +15,16 @@
  */
 package io.atlasmap.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +87,100 @@ public class DefaultAtlasPropertyStrategy implements AtlasPropertyStrategy {
         }
     }
 
+    /**
+     * Resolves the property field against a {@link Snapshot} created by {@link #createSnapshot(AtlasMapping)}.
+     * Only the runtime properties are looked up per call, the environment variables, Java system properties
+     * and mapping defined properties are taken from the snapshot. As with
+     * {@link #processPropertyField(AtlasMapping, PropertyField, Map)}, the last source in the property order
+     * which defines the property wins.
+     */
+    public void resolvePropertyField(Snapshot snapshot, PropertyField propertyField,
+            Map<String, Object> runtimeProperties) throws AtlasUnsupportedException, AtlasConversionException {
+        if (propertyField == null || propertyField.getName() == null || propertyField.getName().trim().length() == 0) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Null or empty PropertyField specified popertyField=%s",
+                        AtlasModelFactory.toString(propertyField)));
+            }
+            return;
+        }
+
+        String name = propertyField.getName();
+        List<AtlasPropertyType> order = snapshot.propertyOrder;
+        for (int i = order.size() - 1; i >= 0; i--) {
+            AtlasPropertyType propType = order.get(i);
+            switch (propType) {
+            case ENVIRONMENT_VARIABLES:
+                String envValue = isEnvironmentPropertiesEnabled() ? snapshot.environmentVariables.get(name) : null;
+                if (envValue != null) {
+                    propertyField.setValue(envValue);
+                    return;
+                }
+                break;
+            case JAVA_SYSTEM_PROPERTIES:
+                String sysValue = isSystemPropertiesEnabled() ? snapshot.systemProperties.get(name) : null;
+                if (sysValue != null) {
+                    propertyField.setValue(sysValue);
+                    return;
+                }
+                break;
+            case MAPPING_DEFINED_PROPERTIES:
+                Property prop = isMappingDefinedPropertiesEnabled() ? snapshot.mappingDefinedProperties.get(name) : null;
+                if (prop != null) {
+                    propertyField.setValue(snapshot.getMappingDefinedValue(prop, propertyField.getFieldType(),
+                            getAtlasConversionService()));
+                    return;
+                }
+                break;
+            case RUNTIME_PROPERTIES:
+                if (isRuntimePropertiesEnabled() && runtimeProperties != null && runtimeProperties.containsKey(name)) {
+                    processRuntimeProperties(propertyField, runtimeProperties);
+                    return;
+                }
+                break;
+            default:
+                throw new AtlasUnsupportedException(
+                        String.format("Unsupported PropertyType detected type=%s for field=%s", propType,
+                                AtlasModelFactory.toString(propertyField)));
+            }
+        }
+    }
+
+    /**
+     * Captures the environment variables, Java system properties and the properties defined in the mapping.
+     * The snapshot does not see later changes, create a new one to refresh.
+     */
+    public Snapshot createSnapshot(AtlasMapping atlasMapping) {
+        Map<String, String> env = Collections.emptyMap();
+        try {
+            env = System.getenv();
+        } catch (SecurityException e) {
+            LOG.error("SecurityException while reading environment variables", e);
+        }
+
+        Map<String, String> sys = new HashMap<>();
+        try {
+            Properties properties = System.getProperties();
+            for (String key : properties.stringPropertyNames()) {
+                sys.put(key, properties.getProperty(key));
+            }
+        } catch (SecurityException e) {
+            LOG.error("SecurityException while reading Java system properties", e);
+        }
+
+        Map<String, Property> mappingDefined = new HashMap<>();
+        if (atlasMapping != null && atlasMapping.getProperties() != null
+                && atlasMapping.getProperties().getProperty() != null) {
+            for (Property prop : atlasMapping.getProperties().getProperty()) {
+                if (prop.getName() != null && !mappingDefined.containsKey(prop.getName())) {
+                    mappingDefined.put(prop.getName(), prop);
+                }
+            }
+        }
+
+        return new Snapshot(atlasMapping, new ArrayList<>(getPropertyOrder()), env, Collections.unmodifiableMap(sys),
+                Collections.unmodifiableMap(mappingDefined));
+    }
+
     protected void processEnvironmentVariable(PropertyField propertyField) {
 
         if (!isEnvironmentPropertiesEnabled()) {
@@ -171,28 +271,20 @@ public class DefaultAtlasPropertyStrategy implements AtlasPropertyStrategy {
             return;
         }
 
-        for (String key : runtimeProperties.keySet()) {
-            if (propertyField.getName().equals(key)) {
-                if (getAtlasConversionService() != null && propertyField.getFieldType() != null) {
-                    propertyField.setValue(getAtlasConversionService().convertType(runtimeProperties.get(key),
-                            getAtlasConversionService().fieldTypeFromClass(runtimeProperties.get(key).getClass()),
-                            propertyField.getFieldType()));
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(
-                                String.format("Assigned Runtime defined property for property field name=%s value=%s",
-                                        propertyField.getName(), propertyField.getValue()));
-                    }
-                    return;
-                } else {
-                    propertyField.setValue(runtimeProperties.get(key));
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(
-                                String.format("Assigned Runtime defined property for property field name=%s value=%s",
-                                        propertyField.getName(), propertyField.getValue()));
-                    }
-                    return;
-                }
-            }
+        String key = propertyField.getName();
+        if (!runtimeProperties.containsKey(key)) {
+            return;
+        }
+        Object value = runtimeProperties.get(key);
+        if (getAtlasConversionService() != null && propertyField.getFieldType() != null) {
+            propertyField.setValue(getAtlasConversionService().convertType(value,
+                    getAtlasConversionService().fieldTypeFromClass(value.getClass()), propertyField.getFieldType()));
+        } else {
+            propertyField.setValue(value);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Assigned Runtime defined property for property field name=%s value=%s",
+                    propertyField.getName(), propertyField.getValue()));
         }
     }
 
@@ -263,4 +355,49 @@ public class DefaultAtlasPropertyStrategy implements AtlasPropertyStrategy {
         this.atlasConversionService = atlasConversionService;
     }
 
+    /**
+     * Immutable view of the environment variables, Java system properties and mapping defined properties.
+     * Mapping defined values are converted once per requested field type and then reused.
+     */
+    public static final class Snapshot {
+        private final AtlasMapping atlasMapping;
+        private final List<AtlasPropertyType> propertyOrder;
+        private final Map<String, String> environmentVariables;
+        private final Map<String, String> systemProperties;
+        private final Map<String, Property> mappingDefinedProperties;
+        private final Map<String, Object> convertedValues = new ConcurrentHashMap<>();
+
+        private Snapshot(AtlasMapping atlasMapping, List<AtlasPropertyType> propertyOrder,
+                Map<String, String> environmentVariables, Map<String, String> systemProperties,
+                Map<String, Property> mappingDefinedProperties) {
+            this.atlasMapping = atlasMapping;
+            this.propertyOrder = propertyOrder;
+            this.environmentVariables = environmentVariables;
+            this.systemProperties = systemProperties;
+            this.mappingDefinedProperties = mappingDefinedProperties;
+        }
+
+        public AtlasMapping getAtlasMapping() {
+            return atlasMapping;
+        }
+
+        private Object getMappingDefinedValue(Property prop, FieldType fieldType,
+                AtlasConversionService conversionService) throws AtlasConversionException {
+            FieldType targetType = fieldType != null ? fieldType : prop.getFieldType();
+            if (conversionService == null || targetType == null) {
+                return prop.getValue();
+            }
+            String key = prop.getName() + "|" + targetType.value();
+            Object value = convertedValues.get(key);
+            if (value == null) {
+                value = conversionService.convertType(prop.getValue(), FieldType.STRING, targetType);
+                if (value == null) {
+                    return null;
+                }
+                convertedValues.put(key, value);
+            }
+            // Date is the only mutable type the converters hand out
+            return value instanceof Date ? ((Date) value).clone() : value;
+        }
+    }
 }
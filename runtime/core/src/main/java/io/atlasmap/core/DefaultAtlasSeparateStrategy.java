@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import io.atlasmap.actions.StringActionCache;
 import io.atlasmap.spi.AtlasSeparateStrategy;
 
 public class DefaultAtlasSeparateStrategy implements AtlasSeparateStrategy {
@@ -26,6 +27,8 @@ public class DefaultAtlasSeparateStrategy implements AtlasSeparateStrategy {
     public static final Integer DEFAULT_SEPARATE_LIMIT = new Integer(512);
     public static final String DEFAULT_SEPARATE_DELIMITER = StringDelimiter.MULTISPACE.getValue();
 
+    private static final String REGEX_METACHARACTERS = ".$|()[]{}^?*+\\";
+
     private String delimiter = DEFAULT_SEPARATE_DELIMITER;
     private Integer limit = DEFAULT_SEPARATE_LIMIT;
 
@@ -61,13 +64,128 @@ public class DefaultAtlasSeparateStrategy implements AtlasSeparateStrategy {
 
     @Override
     public List<String> separateValue(String value, String delimiter, Integer limit) {
-        List<String> values = new ArrayList<String>();
         if (value == null || value.isEmpty()) {
-            return values;
+            return new ArrayList<String>();
+        }
+
+        String regex = delimiter == null ? DEFAULT_SEPARATE_DELIMITER : delimiter;
+        int max = limit == null ? DEFAULT_SEPARATE_LIMIT : limit;
+        Splitter splitter = Splitter.of(regex);
+        if (splitter == null) {
+            return new ArrayList<String>(Arrays.asList(StringActionCache.getPattern(regex).split(value, max)));
         }
 
-        values.addAll(Arrays.asList(((String) value).split((delimiter == null ? DEFAULT_SEPARATE_DELIMITER : delimiter),
-                (limit == null ? DEFAULT_SEPARATE_LIMIT : limit))));
+        List<String> values = new ArrayList<String>();
+        splitter.split(value, regex, max, null, values);
+        if (max == 0) {
+            // same as String.split(), trailing empty strings are removed with a zero limit
+            int size = values.size();
+            while (size > 0 && values.get(size - 1).isEmpty()) {
+                values.remove(--size);
+            }
+        }
         return values;
     }
+
+    /**
+     * Separates the value into the slots, stopping as soon as the slots are filled when the delimiter is a
+     * literal or one of the whitespace {@link StringDelimiter}s.
+     */
+    @Override
+    public int separateValue(String value, String delimiter, String[] slots) {
+        if (value == null || value.isEmpty() || slots.length == 0) {
+            return 0;
+        }
+
+        String regex = delimiter != null ? delimiter : getDelimiter();
+        regex = regex == null ? DEFAULT_SEPARATE_DELIMITER : regex;
+        int max = getLimit() == null ? DEFAULT_SEPARATE_LIMIT : getLimit();
+        Splitter splitter = Splitter.of(regex);
+        if (splitter == null || max == 0) {
+            return AtlasSeparateStrategy.super.separateValue(value, delimiter, slots);
+        }
+        return splitter.split(value, regex, max, slots, null);
+    }
+
+    /**
+     * Splits without a regex with the same results as {@link String#split(String, int)} for a non-zero limit.
+     */
+    private enum Splitter {
+        LITERAL, WHITESPACE, MULTI_WHITESPACE;
+
+        static Splitter of(String regex) {
+            if (StringDelimiter.MULTISPACE.getValue().equals(regex)) {
+                return MULTI_WHITESPACE;
+            } else if (StringDelimiter.SPACE.getValue().equals(regex)) {
+                return WHITESPACE;
+            } else if (regex.isEmpty()) {
+                return null;
+            }
+            for (int i = 0; i < regex.length(); i++) {
+                if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                    return null;
+                }
+            }
+            return LITERAL;
+        }
+
+        int split(String value, String delimiter, int limit, String[] slots, List<String> values) {
+            int maxSegments = limit > 0 ? limit : Integer.MAX_VALUE;
+            int count = 0;
+            int start = 0;
+            while (count < maxSegments - 1) {
+                int end;
+                int next;
+                if (this == LITERAL) {
+                    end = value.indexOf(delimiter, start);
+                    next = end + delimiter.length();
+                } else {
+                    end = indexOfWhitespace(value, start);
+                    next = end + 1;
+                    if (this == MULTI_WHITESPACE) {
+                        while (next < value.length() && isWhitespace(value.charAt(next))) {
+                            next++;
+                        }
+                    }
+                }
+                if (end < 0) {
+                    break;
+                }
+
+                String segment = value.substring(start, end);
+                if (slots != null) {
+                    slots[count++] = segment;
+                    if (count == slots.length) {
+                        return count;
+                    }
+                } else {
+                    values.add(segment);
+                    count++;
+                }
+                start = next;
+            }
+
+            String segment = value.substring(start);
+            if (slots != null) {
+                slots[count] = segment;
+            } else {
+                values.add(segment);
+            }
+            return count + 1;
+        }
+
+        private static int indexOfWhitespace(String value, int start) {
+            for (int i = start; i < value.length(); i++) {
+                if (isWhitespace(value.charAt(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // the characters matched by the \s regex
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+    }
 }
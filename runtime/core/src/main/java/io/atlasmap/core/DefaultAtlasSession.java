@@ -22,6 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import io.atlasmap.api.AtlasConstants;
 import io.atlasmap.api.AtlasContext;
+import io.atlasmap.spi.AtlasAuditSink;
 import io.atlasmap.spi.AtlasFieldReader;
 import io.atlasmap.spi.AtlasFieldWriter;
 import io.atlasmap.spi.AtlasInternalSession;
@@ -39,6 +40,7 @@ public class DefaultAtlasSession implements AtlasInternalSession {
     private AtlasContext atlasContext;
     private final AtlasMapping mapping;
     private Audits audits;
+    private AtlasAuditSink auditSink;
     private Validations validations;
     private Map<String, Object> properties;
     private Map<String, Object> sourceMap = new HashMap<>();
@@ -95,6 +97,17 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         this.audits = audits;
     }
 
+    public AtlasAuditSink getAuditSink() {
+        if (auditSink == null) {
+            auditSink = new DefaultAtlasAuditSink(this);
+        }
+        return auditSink;
+    }
+
+    public void setAuditSink(AtlasAuditSink auditSink) {
+        this.auditSink = auditSink;
+    }
+
     @Override
     public Object getDefaultSourceDocument() {
         return sourceMap.get(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID);
@@ -108,13 +121,12 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         if (sourceMap.containsKey(docId)) {
             return sourceMap.get(docId);
         } else if (sourceMap.size() == 1 && sourceMap.containsKey(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID)) {
-            AtlasUtil.addAudit(this, null, String.format(
-                    "There's no source document with docId='%s', returning default", docId),
-                    null, AuditStatus.WARN, null);
+            AtlasUtil.addAudit(this, AuditStatus.WARN, null, null, null,
+                    "There's no source document with docId='%s', returning default", docId);
             return getDefaultSourceDocument();
         }
-        AtlasUtil.addAudit(this, null, String.format(
-                "There's no source document with docId='%s'", docId), null, AuditStatus.WARN, null);
+        AtlasUtil.addAudit(this, AuditStatus.WARN, null, null, null,
+                "There's no source document with docId='%s'", docId);
         return null;
     }
 
@@ -144,13 +156,12 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         if (targetMap.containsKey(docId)) {
             return targetMap.get(docId);
         } else if (targetMap.size() == 1 && targetMap.containsKey(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID)) {
-            AtlasUtil.addAudit(this, null, String.format(
-                    "There's no target document with docId='%s', returning default", docId),
-                    null, AuditStatus.WARN, null);
+            AtlasUtil.addAudit(this, AuditStatus.WARN, null, null, null,
+                    "There's no target document with docId='%s', returning default", docId);
             return getDefaultTargetDocument();
         }
-        AtlasUtil.addAudit(this, null, String.format(
-                "There's no target document with docId='%s'", docId), null, AuditStatus.WARN, null);
+        AtlasUtil.addAudit(this, AuditStatus.WARN, null, null, null,
+                "There's no target document with docId='%s'", docId);
         return null;
     }
 
@@ -39,6 +39,7 @@ import io.atlasmap.v2.Validation;
 import io.atlasmap.v2.ValidationScope;
 import io.atlasmap.v2.ValidationStatus;
 import io.atlasmap.validators.CompositeValidator;
+import io.atlasmap.validators.FieldActionsValidator;
 import io.atlasmap.validators.LookupTableNameValidator;
 import io.atlasmap.validators.NonNullValidator;
 import io.atlasmap.validators.NotEmptyValidator;
@@ -132,6 +133,10 @@ public class DefaultAtlasValidationService implements AtlasValidationService {
 
         LOOKUPTABLE_NAME_CHECK_FOR_DUPLICATE (() ->
             new LookupTableNameValidator("LookupTables contain duplicated LookupTable names '%s'.")
+        ),
+
+        FIELD_ACTIONS (() ->
+            new FieldActionsValidator(ValidationScope.MAPPING)
         );
 
         private final AtlasValidator validator;
@@ -190,6 +195,7 @@ public class DefaultAtlasValidationService implements AtlasValidationService {
                 validateCombineMapping(combineFieldMappings, validations, usedIds);
                 validateSeparateMapping(separateFieldMappings, validations, usedIds);
                 validateLookupTables(lookupFieldMappings, lookupTables, validations, usedIds);
+                validateFieldActions(fieldMappings, validations);
             }
         }
     }
@@ -338,6 +344,19 @@ public class DefaultAtlasValidationService implements AtlasValidationService {
         }
     }
 
+    private void validateFieldActions(List<BaseMapping> fieldMappings, List<Validation> validations) {
+        for (BaseMapping baseMapping : fieldMappings) {
+            if (!(baseMapping instanceof Mapping)) {
+                continue;
+            }
+            Mapping fieldMapping = (Mapping) baseMapping;
+            Stream.of(fieldMapping.getInputField(), fieldMapping.getOutputField())
+                    .filter(fields -> fields != null)
+                    .flatMap(List::stream)
+                    .forEach(field -> Validators.FIELD_ACTIONS.get().validate(field, validations, fieldMapping.getId()));
+        }
+    }
+
     private void validateMappingId(String id, Set<String> usedIds, List<Validation> validations) {
         if (id == null) {
             return;
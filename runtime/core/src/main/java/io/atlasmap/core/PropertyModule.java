@@ -28,6 +28,7 @@ import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasModule;
 import io.atlasmap.spi.AtlasModuleMode;
 import io.atlasmap.spi.AtlasPropertyStrategy;
+import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.PropertyField;
 
@@ -37,11 +38,23 @@ public class PropertyModule implements AtlasModule {
     private AtlasPropertyStrategy propertyStrategy;
     private AtlasConversionService conversionService;
     private AtlasFieldActionService fieldActionService;
+    private volatile DefaultAtlasPropertyStrategy.Snapshot propertySnapshot;
 
     public PropertyModule(AtlasPropertyStrategy propertyStrategy) {
         this.propertyStrategy = propertyStrategy;
     }
 
+    /**
+     * Captures the environment variables, Java system properties and the properties defined in the mapping,
+     * so that only the runtime properties are looked up per message. Call again to pick up changes.
+     * This is a no-op unless the property strategy is a {@link DefaultAtlasPropertyStrategy}.
+     */
+    public void refreshProperties(AtlasMapping mapping) {
+        if (propertyStrategy instanceof DefaultAtlasPropertyStrategy) {
+            propertySnapshot = ((DefaultAtlasPropertyStrategy) propertyStrategy).createSnapshot(mapping);
+        }
+    }
+
     @Override
     public void init() {
         // no-op
@@ -66,8 +79,14 @@ public class PropertyModule implements AtlasModule {
     public void processSourceFieldMapping(AtlasInternalSession session) throws AtlasException {
         Field sourceField = session.head().getSourceField();
         if (sourceField instanceof PropertyField) {
+            DefaultAtlasPropertyStrategy.Snapshot snapshot = propertySnapshot;
+            if (snapshot != null && snapshot.getAtlasMapping() == session.getMapping()) {
+                ((DefaultAtlasPropertyStrategy) propertyStrategy).resolvePropertyField(snapshot,
+                        (PropertyField) sourceField, session.getProperties());
+            } else {
                 propertyStrategy.processPropertyField(session.getMapping(), (PropertyField) sourceField,
                         session.getProperties());
+            }
         }
 
         if (LOG.isDebugEnabled()) {
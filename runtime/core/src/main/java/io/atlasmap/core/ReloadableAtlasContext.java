@@ -0,0 +1,460 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasContextFactory;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.api.AtlasValidationException;
+import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
+import io.atlasmap.mxbean.ReloadableAtlasContextMXBean;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationStatus;
+
+/**
+ * An {@link AtlasContext} which serves sessions from a compiled {@link DefaultAtlasContext} and atomically
+ * swaps it for a new one when the mapping is reloaded.
+ *
+ * Sessions stay bound to the {@link DefaultAtlasContext} which created them, so in-flight sessions finish
+ * on the mapping they started with. A replaced context is closed, which destroys its modules, once its last
+ * in-flight {@link #process(AtlasSession)} has completed. A session created before the swap which was not
+ * being processed at that point can't be processed afterwards. The replaced context is garbage collected
+ * when no session references it: the generations are weakly keyed by their context and don't reference it
+ * themselves.
+ */
+public class ReloadableAtlasContext implements AtlasContext, ReloadableAtlasContextMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReloadableAtlasContext.class);
+
+    private final UUID uuid = UUID.randomUUID();
+    private final DefaultAtlasContextFactory factory;
+    private final URI atlasMappingUri;
+    private final AtlasMappingFormat atlasMappingFormat;
+    private final Map<DefaultAtlasContext, Generation> generations = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong reloadFailureCount = new AtomicLong();
+    private final Object reloadLock = new Object();
+    private volatile DefaultAtlasContext current;
+    private volatile boolean closed;
+    private volatile long lastModified;
+    private volatile long lastReloadTime;
+    private ScheduledExecutorService watcher;
+    private ObjectName jmxObjectName;
+
+    public ReloadableAtlasContext(DefaultAtlasContextFactory factory, URI atlasMappingUri, AtlasMappingFormat format) {
+        this.factory = factory;
+        this.atlasMappingUri = atlasMappingUri;
+        this.atlasMappingFormat = format;
+    }
+
+    protected void init() throws AtlasException {
+        synchronized (reloadLock) {
+            lastModified = readLastModified();
+            current = compile(1L);
+            closed = false;
+            lastReloadTime = System.currentTimeMillis();
+        }
+        registerJmx();
+    }
+
+    /**
+     * Compiles the mapping from the mapping URI and swaps it in, if it loads and validates without errors.
+     * The current context keeps serving sessions if the new version is rejected.
+     *
+     * @throws AtlasException if the new mapping cannot be loaded or has validation errors
+     */
+    public void reload() throws AtlasException {
+        synchronized (reloadLock) {
+            if (closed) {
+                throw new AtlasException("AtlasContext has been closed");
+            }
+            DefaultAtlasContext previous = current;
+            Generation previousGeneration = generations.get(previous);
+            DefaultAtlasContext next;
+            try {
+                next = compile(previousGeneration.version + 1);
+            } catch (AtlasException e) {
+                reloadFailureCount.incrementAndGet();
+                throw e;
+            }
+            current = next;
+            reloadCount.incrementAndGet();
+            lastReloadTime = System.currentTimeMillis();
+            previousGeneration.retire(previous);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Swapped mapping '{}' version {} (context {}) for version {} (context {})",
+                        atlasMappingUri, previousGeneration.version, previous.getUuid(),
+                        previousGeneration.version + 1, next.getUuid());
+            }
+        }
+    }
+
+    /**
+     * Reloads the mapping if the last modified time of the mapping URI has changed since the last check.
+     *
+     * @return true if a reload was attempted
+     * @throws AtlasException if the modified mapping has been rejected
+     */
+    public boolean reloadIfModified() throws AtlasException {
+        long modified = readLastModified();
+        if (modified <= 0L || modified == lastModified) {
+            return false;
+        }
+        // remember the timestamp even if the reload fails, so a broken file is not retried on every check
+        lastModified = modified;
+        reload();
+        return true;
+    }
+
+    public synchronized void startWatching(long intervalMillis) {
+        if (watcher != null) {
+            return;
+        }
+        watcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "AtlasContextReloader-" + uuid);
+            t.setDaemon(true);
+            return t;
+        });
+        watcher.scheduleWithFixedDelay(() -> {
+            try {
+                reloadIfModified();
+            } catch (Throwable t) {
+                LOG.error("Failed to reload mapping '{}', keeping version {}: {}", atlasMappingUri,
+                        getMappingVersion(), t.getMessage());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(t.getMessage(), t);
+                }
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopWatching() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Stops watching the mapping URI and closes the current context once its in-flight sessions are done.
+     */
+    @Override
+    public void close() {
+        stopWatching();
+        synchronized (reloadLock) {
+            if (current != null && !closed) {
+                generations.get(current).retire(current);
+            }
+            closed = true;
+        }
+        unregisterJmx();
+    }
+
+    @Override
+    public AtlasContextFactory getContextFactory() {
+        return factory;
+    }
+
+    @Override
+    public AtlasSession createSession() throws AtlasException {
+        if (closed) {
+            throw new AtlasException("AtlasContext has been closed");
+        }
+        return current.createSession();
+    }
+
+    @Override
+    public void process(AtlasSession session) throws AtlasException {
+        DefaultAtlasContext context = enter(session);
+        try {
+            context.process(session);
+        } finally {
+            exit(context);
+        }
+    }
+
+    @Override
+    public void processValidation(AtlasSession session) throws AtlasException {
+        DefaultAtlasContext context = enter(session);
+        try {
+            context.processValidation(session);
+        } finally {
+            exit(context);
+        }
+    }
+
+    public DefaultAtlasContext getCurrentContext() {
+        return current;
+    }
+
+    /**
+     * @return the number of contexts which are still tracked, i.e. the current one and the replaced ones which
+     *         haven't been garbage collected yet
+     */
+    int getGenerationCount() {
+        return generations.size();
+    }
+
+    DefaultAtlasContext enter(AtlasSession session) throws AtlasException {
+        if (closed) {
+            throw new AtlasException("AtlasContext has been closed");
+        }
+        AtlasContext context = session != null ? session.getAtlasContext() : null;
+        Generation generation = context != null ? generations.get(context) : null;
+        if (generation == null) {
+            throw new AtlasException("Cannot execute AtlasSession created by the other AtlasContext");
+        }
+        if (!generation.enter()) {
+            throw new AtlasException(
+                    "AtlasSession was created by a replaced mapping version which has been closed");
+        }
+        return (DefaultAtlasContext) context;
+    }
+
+    void exit(DefaultAtlasContext context) {
+        Generation generation = generations.get(context);
+        if (generation != null) {
+            generation.exit(context);
+        }
+    }
+
+    private DefaultAtlasContext compile(long version) throws AtlasException {
+        DefaultAtlasContext context = new DefaultAtlasContext(factory, atlasMappingUri, atlasMappingFormat);
+        try {
+            context.init();
+            // compiled mappings have been validated when they were built
+            if (atlasMappingFormat != AtlasMappingFormat.COMPILED) {
+                AtlasSession session = context.createSession();
+                context.processValidation(session);
+                List<Validation> errors = new ArrayList<>();
+                for (Validation v : session.getValidations().getValidation()) {
+                    if (ValidationStatus.ERROR.equals(v.getStatus())) {
+                        errors.add(v);
+                    }
+                }
+                if (!errors.isEmpty()) {
+                    throw new AtlasValidationException(String.format(
+                            "Mapping '%s' has %s validation errors, first: %s", atlasMappingUri, errors.size(),
+                            errors.get(0).getMessage()));
+                }
+            }
+        } catch (AtlasException e) {
+            context.close();
+            throw e;
+        }
+        generations.put(context, new Generation(version));
+        return context;
+    }
+
+    private long readLastModified() {
+        try {
+            if ("file".equals(atlasMappingUri.getScheme())) {
+                return new File(atlasMappingUri).lastModified();
+            }
+            URLConnection connection = atlasMappingUri.toURL().openConnection();
+            connection.setUseCaches(false);
+            long modified = connection.getLastModified();
+            connection.getInputStream().close();
+            return modified;
+        } catch (IOException | IllegalArgumentException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to read last modified time of '{}': {}", atlasMappingUri, e.getMessage());
+            }
+            return 0L;
+        }
+    }
+
+    private void registerJmx() {
+        if (!factory.isContextJmxEnabled()) {
+            return;
+        }
+        try {
+            jmxObjectName = new ObjectName(
+                    factory.getJmxObjectName() + ",context=ReloadableContexts,uuid=" + uuid.toString());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, jmxObjectName);
+        } catch (Throwable t) {
+            LOG.warn("Failed to register ReloadableAtlasContext {} with JMX", uuid);
+            LOG.warn(t.getMessage(), t);
+            jmxObjectName = null;
+        }
+    }
+
+    private void unregisterJmx() {
+        if (jmxObjectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(jmxObjectName);
+        } catch (Exception e) {
+            LOG.warn("Failed to unregister ReloadableAtlasContext {} from JMX", uuid);
+            LOG.warn(e.getMessage(), e);
+        }
+        jmxObjectName = null;
+    }
+
+    public ObjectName getJmxObjectName() {
+        return jmxObjectName;
+    }
+
+    //-----------------------------------------
+    // JMX MBean methods
+    //-----------------------------------------
+
+    @Override
+    public String getUuid() {
+        return uuid.toString();
+    }
+
+    @Override
+    public String getMappingName() {
+        return current != null ? current.getMappingName() : null;
+    }
+
+    @Override
+    public String getMappingUri() {
+        return atlasMappingUri != null ? atlasMappingUri.toString() : null;
+    }
+
+    @Override
+    public String getClassName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public String getThreadName() {
+        return Thread.currentThread().getName();
+    }
+
+    @Override
+    public String getVersion() {
+        return this.getClass().getPackage().getImplementationVersion();
+    }
+
+    @Override
+    public long getMappingVersion() {
+        DefaultAtlasContext context = current;
+        Generation generation = context != null ? generations.get(context) : null;
+        return generation != null ? generation.version : 0L;
+    }
+
+    @Override
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    @Override
+    public long getReloadFailureCount() {
+        return reloadFailureCount.get();
+    }
+
+    @Override
+    public long getLastReloadTime() {
+        return lastReloadTime;
+    }
+
+    @Override
+    public int getRetiredContextCount() {
+        int count = 0;
+        synchronized (generations) {
+            for (Generation g : generations.values()) {
+                if (g.isDraining()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String getCurrentContextUuid() {
+        return current != null ? current.getUuid() : null;
+    }
+
+    /**
+     * Lifecycle of one compiled context. It doesn't reference the context, so that the weakly keyed entry goes
+     * away with the context. Entering and retiring are atomic, a replaced context is closed exactly once,
+     * after the last {@link #process(AtlasSession)} which entered it before it was retired has exited. A session
+     * of a closed context can't enter it anymore.
+     */
+    private static final class Generation {
+        private final long version;
+        private int inFlight;
+        private boolean retired;
+        private boolean contextClosed;
+
+        private Generation(long version) {
+            this.version = version;
+        }
+
+        private synchronized boolean enter() {
+            if (contextClosed) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        private void exit(DefaultAtlasContext context) {
+            boolean close;
+            synchronized (this) {
+                inFlight--;
+                close = retired && inFlight == 0 && !contextClosed;
+                contextClosed |= close;
+            }
+            if (close) {
+                context.close();
+            }
+        }
+
+        private void retire(DefaultAtlasContext context) {
+            boolean close;
+            synchronized (this) {
+                retired = true;
+                close = inFlight == 0 && !contextClosed;
+                contextClosed |= close;
+            }
+            if (close) {
+                context.close();
+            }
+        }
+
+        private synchronized boolean isDraining() {
+            return retired && !contextClosed;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.api.AtlasFieldActionService;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Actions;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.ConstantField;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+import io.atlasmap.v2.PropertyField;
+
+/**
+ * Source fields of an {@link AtlasMapping} which are read by more than one mapping entry, i.e. fields with
+ * the same document, path, field type and pure source field actions. Each group of identical reads shares a
+ * read key, so that a session can read the value once and hand it to the other fields of the group.
+ *
+ * Fields are tracked by identity, collection mappings are left out as they are cloned per session.
+ */
+class SharedSourceReads {
+
+    private static final SharedSourceReads NONE = new SharedSourceReads(Collections.emptyMap());
+
+    private final Map<Field, String> readKeys;
+
+    private SharedSourceReads(Map<Field, String> readKeys) {
+        this.readKeys = readKeys;
+    }
+
+    static SharedSourceReads compile(AtlasMapping mapping, AtlasFieldActionService fieldActionService) {
+        if (mapping == null || mapping.getMappings() == null || mapping.getMappings().getMapping() == null) {
+            return NONE;
+        }
+
+        Map<String, List<Field>> groups = new HashMap<>();
+        for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+            if (!(baseMapping instanceof Mapping) || MappingType.COLLECTION.equals(baseMapping.getMappingType())
+                    || ((Mapping) baseMapping).getInputField() == null) {
+                continue;
+            }
+            for (Field field : ((Mapping) baseMapping).getInputField()) {
+                String key = createReadKey(field, fieldActionService);
+                if (key != null) {
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(field);
+                }
+            }
+        }
+
+        Map<Field, String> readKeys = new IdentityHashMap<>();
+        for (Map.Entry<String, List<Field>> group : groups.entrySet()) {
+            if (group.getValue().size() > 1) {
+                for (Field field : group.getValue()) {
+                    readKeys.put(field, group.getKey());
+                }
+            }
+        }
+        return readKeys.isEmpty() ? NONE : new SharedSourceReads(readKeys);
+    }
+
+    /**
+     * @param field source field
+     * @return the key shared by all the identical reads of the field, or null if the field is read once
+     */
+    String getReadKey(Field field) {
+        return readKeys.get(field);
+    }
+
+    boolean isEmpty() {
+        return readKeys.isEmpty();
+    }
+
+    int size() {
+        return readKeys.size();
+    }
+
+    private static String createReadKey(Field field, AtlasFieldActionService fieldActionService) {
+        if (field == null || field.getPath() == null || field instanceof ConstantField
+                || field instanceof PropertyField) {
+            return null;
+        }
+        String docId = field.getDocId();
+        if (docId == null || docId.isEmpty()) {
+            docId = AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID;
+        }
+
+        StringBuilder key = new StringBuilder();
+        key.append(docId).append('\u0000').append(field.getClass().getName()).append('\u0000')
+                .append(field.getPath()).append('\u0000').append(field.getFieldType());
+        Actions actions = field.getActions();
+        if (actions != null && actions.getActions() != null) {
+            for (Action action : actions.getActions()) {
+                if (!fieldActionService.isPure(action) || !appendAction(key, action)) {
+                    return null;
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean appendAction(StringBuilder key, Action action) {
+        key.append('\u0000').append(action.getClass().getName());
+        for (Class<?> clazz = action.getClass(); clazz != null && clazz != Object.class;
+                clazz = clazz.getSuperclass()) {
+            for (java.lang.reflect.Field f : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers())) {
+                    continue;
+                }
+                try {
+                    f.setAccessible(true);
+                    Object value = f.get(action);
+                    if (value != null && !(value instanceof String || value instanceof Number
+                            || value instanceof Boolean || value instanceof Enum || value instanceof List)) {
+                        // unknown parameter type, don't assume two actions are the same
+                        return false;
+                    }
+                    key.append('\u0000').append(f.getName()).append('=').append(value);
+                } catch (Exception e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.validators;
+
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import io.atlasmap.actions.StringActionCache;
+import io.atlasmap.spi.AtlasValidator;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.Format;
+import io.atlasmap.v2.ReplaceAll;
+import io.atlasmap.v2.ReplaceFirst;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationScope;
+import io.atlasmap.v2.ValidationStatus;
+
+/**
+ * Validates the regular expressions and format templates of the field actions, so an invalid one is
+ * reported when the mapping is loaded rather than when the action is executed. The compiled patterns are
+ * kept in the {@link StringActionCache}.
+ */
+public class FieldActionsValidator implements AtlasValidator {
+
+    private ValidationScope scope;
+
+    public FieldActionsValidator(ValidationScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Field.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, List<Validation> validations, String id) {
+        validate(target, validations, id, ValidationStatus.ERROR);
+    }
+
+    @Override
+    public void validate(Object target, List<Validation> validations, String id, ValidationStatus status) {
+        if (target == null || !supports(target.getClass())) {
+            return;
+        }
+        Field field = (Field) target;
+        if (field.getActions() == null || field.getActions().getActions() == null) {
+            return;
+        }
+
+        for (Action action : field.getActions().getActions()) {
+            String message = null;
+            if (action instanceof ReplaceAll) {
+                message = validatePattern("ReplaceAll", ((ReplaceAll) action).getMatch());
+            } else if (action instanceof ReplaceFirst) {
+                message = validatePattern("ReplaceFirst", ((ReplaceFirst) action).getMatch());
+            } else if (action instanceof Format) {
+                message = validateTemplate(((Format) action).getTemplate());
+            }
+
+            if (message != null) {
+                Validation validation = new Validation();
+                validation.setScope(scope);
+                validation.setId(id);
+                validation.setMessage(String.format("%s on field '%s'", message, field.getPath()));
+                validation.setStatus(status);
+                validations.add(validation);
+            }
+        }
+    }
+
+    private String validatePattern(String actionName, String match) {
+        if (match == null || match.isEmpty()) {
+            return String.format("%s action must be specified with a non-empty match", actionName);
+        }
+        try {
+            StringActionCache.getPattern(match);
+            return null;
+        } catch (PatternSyntaxException e) {
+            return String.format("%s action has an invalid pattern '%s': %s", actionName, match,
+                    e.getDescription());
+        }
+    }
+
+    private String validateTemplate(String template) {
+        if (template == null) {
+            return "Format action must be specified with a template";
+        }
+        try {
+            StringActionCache.FormatTemplate formatTemplate = StringActionCache.getFormatTemplate(template);
+            if (!formatTemplate.isSimple()) {
+                String.format(template, (Object) null);
+            }
+            return null;
+        } catch (IllegalFormatException e) {
+            return String.format("Format action has an invalid template '%s': %s", template, e.getMessage());
+        }
+    }
+}
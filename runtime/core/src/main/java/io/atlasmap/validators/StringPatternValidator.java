@@ -27,7 +27,7 @@ import io.atlasmap.v2.ValidationStatus;
 public class StringPatternValidator implements AtlasValidator {
 
     private String violationMessage;
-    private String pattern;
+    private Pattern pattern;
     private ValidationScope scope;
     private boolean useMatch;
 
@@ -37,7 +37,7 @@ public class StringPatternValidator implements AtlasValidator {
 
     public StringPatternValidator(ValidationScope scope, String violationMessage, String pattern, boolean useMatch) {
         this.violationMessage = violationMessage;
-        this.pattern = pattern;
+        this.pattern = Pattern.compile(pattern);
         this.scope = scope;
         this.useMatch = useMatch;
     }
@@ -54,11 +54,9 @@ public class StringPatternValidator implements AtlasValidator {
 
     @Override
     public void validate(Object target, List<Validation> validations, String id, ValidationStatus status) {
-        Pattern regEx = Pattern.compile(pattern);
-
         if (target != null && supports(target.getClass())) {
             String value = (String) target;
-            Matcher m = regEx.matcher(value);
+            Matcher m = pattern.matcher(value);
             if (useMatch) {
                 if (!m.matches()) {
                     Validation validation = new Validation();
@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.actions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Capitalize;
+import io.atlasmap.v2.Lowercase;
+import io.atlasmap.v2.Normalize;
+import io.atlasmap.v2.PadStringLeft;
+import io.atlasmap.v2.PadStringRight;
+import io.atlasmap.v2.ReplaceAll;
+import io.atlasmap.v2.SeparateByDash;
+import io.atlasmap.v2.SeparateByUnderscore;
+import io.atlasmap.v2.Trim;
+import io.atlasmap.v2.TrimLeft;
+import io.atlasmap.v2.TrimRight;
+import io.atlasmap.v2.Uppercase;
+
+public class FusedStringActionsTest {
+
+    private static final String[] INPUTS = {"", " ", "a", "  Hello World  ", "\t foo_bar+baz=qux:quux-- \n",
+        "already-separated", "MiXeD cAsE\u000B\f", "straße café", "ßtart", "i̇ dotted",
+        " unicode space ", "x\u0000y\u001F"};
+
+    @Test
+    public void testIsFusable() {
+        assertTrue(FusedStringActions.isFusable(new Trim()));
+        assertTrue(FusedStringActions.isFusable(new Normalize()));
+        assertTrue(FusedStringActions.isFusable(padLeft("0", 3)));
+        assertFalse(FusedStringActions.isFusable(new PadStringLeft()));
+        assertFalse(FusedStringActions.isFusable(new PadStringRight()));
+        assertFalse(FusedStringActions.isFusable(new ReplaceAll()));
+        assertFalse(FusedStringActions.isFusable(null));
+    }
+
+    @Test
+    public void testApplyMatchesChainedActions() {
+        List<List<Action>> chains = Arrays.asList(
+                Arrays.asList(new Trim(), new Lowercase(), new SeparateByDash()),
+                Arrays.asList(new TrimLeft(), new TrimRight(), new Uppercase(), new SeparateByUnderscore()),
+                Arrays.asList(new Normalize(), new Capitalize(), padLeft("0", 3), padRight("ab", 2)),
+                Arrays.asList(padLeft(" ", 4), new Trim(), new Capitalize(), new Lowercase(), padRight("-", 40)),
+                Arrays.asList(new Uppercase(), new Lowercase(), new Capitalize(), padLeft("", 5), padLeft("x", 0)),
+                Arrays.asList(padRight(" ", 100), padLeft("=+", 60), new SeparateByDash(), new TrimRight()));
+        for (List<Action> chain : chains) {
+            for (String input : INPUTS) {
+                assertEquals(chain + " on '" + input + "'", chain(chain, input),
+                        FusedStringActions.apply(chain, 0, chain.size(), input));
+            }
+        }
+    }
+
+    @Test
+    public void testApplyRange() {
+        List<Action> chain = Arrays.asList(new Uppercase(), new Trim(), new SeparateByDash(), new Lowercase());
+        assertEquals("FOO-BAR", FusedStringActions.apply(chain, 0, 3, " foo bar "));
+        assertEquals("foo-bar", FusedStringActions.apply(chain, 1, 4, " FOO BAR "));
+    }
+
+    @Test
+    public void testApplyLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            List<Action> chain = Arrays.asList(new Trim(), new Uppercase(), new Capitalize());
+            for (String input : INPUTS) {
+                assertEquals(chain(chain, input), FusedStringActions.apply(chain, 0, chain.size(), input));
+            }
+            assertEquals("İSTANBUL", FusedStringActions.apply(chain, 0, chain.size(), " istanbul "));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        assertTrue(FusedStringActions.isAsciiCaseLocale(Locale.ENGLISH));
+        assertFalse(FusedStringActions.isAsciiCaseLocale(new Locale("az")));
+    }
+
+    @Test
+    public void testApplyReleasesLargeBuffer() {
+        List<Action> chain = Arrays.asList(new Trim(), padRight("x", FusedStringActions.MAX_RETAINED_BUFFER * 2));
+        assertEquals(FusedStringActions.MAX_RETAINED_BUFFER * 2 + 1,
+                FusedStringActions.apply(chain, 0, chain.size(), " a ").length());
+        assertEquals("a-b", FusedStringActions.apply(Arrays.asList(new Trim(), new SeparateByDash()), 0, 2, " a b "));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApplyNullInput() {
+        FusedStringActions.apply(Arrays.asList(new Trim(), new Lowercase()), 0, 2, null);
+    }
+
+    private static String chain(List<Action> actions, String input) {
+        String value = input;
+        for (Action action : actions) {
+            if (action instanceof Trim) {
+                value = StringSimpleFieldActions.trim(action, value);
+            } else if (action instanceof TrimLeft) {
+                value = StringSimpleFieldActions.trimLeft(action, value);
+            } else if (action instanceof TrimRight) {
+                value = StringSimpleFieldActions.trimRight(action, value);
+            } else if (action instanceof Lowercase) {
+                value = StringSimpleFieldActions.lowercase(action, value);
+            } else if (action instanceof Uppercase) {
+                value = StringSimpleFieldActions.uppercase(action, value);
+            } else if (action instanceof Capitalize) {
+                value = StringSimpleFieldActions.capitalize(action, value);
+            } else if (action instanceof SeparateByDash) {
+                value = StringSimpleFieldActions.separateByDash(action, value);
+            } else if (action instanceof SeparateByUnderscore) {
+                value = StringSimpleFieldActions.separateByUnderscore(action, value);
+            } else if (action instanceof Normalize) {
+                value = StringSimpleFieldActions.normalize(action, value);
+            } else if (action instanceof PadStringLeft) {
+                value = StringComplexFieldActions.padStringLeft(action, value);
+            } else if (action instanceof PadStringRight) {
+                value = StringComplexFieldActions.padStringRight(action, value);
+            }
+        }
+        return value;
+    }
+
+    private static PadStringLeft padLeft(String padCharacter, int padCount) {
+        PadStringLeft pad = new PadStringLeft();
+        pad.setPadCharacter(padCharacter);
+        pad.setPadCount(padCount);
+        return pad;
+    }
+
+    private static PadStringRight padRight(String padCharacter, int padCount) {
+        PadStringRight pad = new PadStringRight();
+        pad.setPadCharacter(padCharacter);
+        pad.setPadCount(padCount);
+        return pad;
+    }
+}
@@ -77,6 +77,22 @@ public class NumberFieldActionsTest {
         assertEquals(0, NumberFieldActions.add(new Add(), null));
     }
 
+    @Test
+    public void testAddPrimitiveAndMixed() {
+        assertEquals(10L, NumberFieldActions.add(new Add(), new long[] { 1L, 2L, 3L, 4L }));
+        assertEquals(10.0, NumberFieldActions.add(new Add(), new float[] { 1.0f, 2.0f, 3.0f, 4.0f }));
+        assertEquals(10L, NumberFieldActions.add(new Add(), new byte[] { 1, 2, 3, 4 }));
+        assertEquals(0L, NumberFieldActions.add(new Add(), new double[0]));
+        assertEquals(0L, NumberFieldActions.add(new Add(), new int[0]));
+        assertEquals(10.0, NumberFieldActions.add(new Add(), Arrays.asList(1.0, 2.0, 3.0, 4.0)));
+        assertEquals(10.5, NumberFieldActions.add(new Add(), Arrays.asList(1, 2L, 3.5, 4)));
+        assertEquals(BigDecimal.valueOf(10.5), NumberFieldActions.add(new Add(), Arrays.asList(1, 2.5, BigDecimal.valueOf(3), 4L)));
+        assertEquals(10L, NumberFieldActions.add(new Add(), new Integer[] { 1, 2, 3, 4 }));
+        assertEquals(10.5, NumberFieldActions.add(new Add(), Arrays.asList(1, 2, 3.5, 4)));
+        assertEquals(BigDecimal.valueOf(10.0), NumberFieldActions.add(new Add(), Arrays.asList(BigDecimal.valueOf(1), BigDecimal.valueOf(2), 3L, BigDecimal.valueOf(4))));
+        assertEquals(0L, NumberFieldActions.add(new Add(), new float[0]));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testAddOfNonNumber() {
         NumberFieldActions.add(new Add(), Arrays.asList(new Object[] { "1", "2", "3" }));
@@ -96,6 +112,14 @@ public class NumberFieldActionsTest {
         assertEquals(0, NumberFieldActions.average(new Average(), null));
     }
 
+    @Test
+    public void testAveragePrimitiveAndMixed() {
+        assertEquals(2.5, NumberFieldActions.average(new Average(), new long[] { 1L, 2L, 3L, 4L }));
+        assertEquals(2.5, NumberFieldActions.average(new Average(), new float[] { 1.0f, 2.0f, 3.0f, 4.0f }));
+        assertEquals(2.5, NumberFieldActions.average(new Average(), Arrays.asList(1, 2.0, BigDecimal.valueOf(3), 4L)));
+        assertEquals(Double.NaN, NumberFieldActions.average(new Average(), new int[0]));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testAverageOfNonNumber() {
         NumberFieldActions.average(new AbsoluteValue(), Arrays.asList(new Object[] { "1", "2", "3" }));
@@ -328,6 +352,11 @@ public class NumberFieldActionsTest {
         assertEquals(4, NumberFieldActions.maximum(new Maximum(), map));
         assertEquals(BigDecimal.valueOf(4), NumberFieldActions.maximum(new Maximum(), Arrays.asList((byte) 1, 2, 3.0, BigDecimal.valueOf(4))));
         assertEquals(0, NumberFieldActions.maximum(new Maximum(), null));
+        assertEquals(Long.MAX_VALUE, NumberFieldActions.maximum(new Maximum(), new long[] { Long.MAX_VALUE - 1, Long.MAX_VALUE, 3L }));
+        assertEquals(-1.0, NumberFieldActions.maximum(new Maximum(), new double[] { -3.0, -1.0, -2.0 }));
+        assertEquals(null, NumberFieldActions.maximum(new Maximum(), new int[0]));
+        assertEquals(4.0f, NumberFieldActions.maximum(new Maximum(), new float[] { 1.0f, 4.0f, 3.0f, 2.0f }));
+        assertEquals(null, NumberFieldActions.maximum(new Maximum(), new float[0]));
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -349,6 +378,10 @@ public class NumberFieldActionsTest {
         assertEquals(1, NumberFieldActions.minimum(new Minimum(), map));
         assertEquals((byte) 1, NumberFieldActions.minimum(new Minimum(), Arrays.asList((byte) 1, 2, 3.0, BigDecimal.valueOf(4))));
         assertEquals(0, NumberFieldActions.minimum(new Minimum(), null));
+        assertEquals(Long.MIN_VALUE, NumberFieldActions.minimum(new Minimum(), new long[] { Long.MIN_VALUE + 1, Long.MIN_VALUE, 3L }));
+        assertEquals(-3.0, NumberFieldActions.minimum(new Minimum(), new double[] { -1.0, -3.0, -2.0 }));
+        assertEquals(null, NumberFieldActions.minimum(new Minimum(), new long[0]));
+        assertEquals(-4.0f, NumberFieldActions.minimum(new Minimum(), new float[] { 1.0f, -4.0f, 3.0f, 2.0f }));
     }
 
     @Test(expected = IllegalArgumentException.class)
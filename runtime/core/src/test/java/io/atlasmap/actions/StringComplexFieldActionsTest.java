@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -138,6 +139,29 @@ public class StringComplexFieldActionsTest {
         action.setTemplate("%,.2f");
         assertEquals("1,234.00", StringComplexFieldActions.format(action, 1234f));
         assertEquals("0.05", StringComplexFieldActions.format(action, .05));
+        action.setTemplate("100%% %s%n");
+        assertEquals(String.format("100%% %s%n", "bar"), StringComplexFieldActions.format(action, "bar"));
+        assertEquals(String.format("100%% %s%n", 12), StringComplexFieldActions.format(action, 12));
+        assertTrue(StringActionCache.getFormatTemplate("100%% %s%n").isSimple());
+        assertFalse(StringActionCache.getFormatTemplate("%s%s").isSimple());
+        assertFalse(StringActionCache.getFormatTemplate("%").isSimple());
+        assertFalse(StringActionCache.getFormatTemplate("%-5s").isSimple());
+    }
+
+    @Test
+    public void testPatternCache() {
+        StringActionCache.clear();
+        ReplaceAll replaceAll = new ReplaceAll();
+        replaceAll.setMatch("\\d+");
+        replaceAll.setNewString("#");
+        assertEquals("a#b#", StringComplexFieldActions.replaceAll(replaceAll, "a1b22"));
+        assertEquals("#", StringComplexFieldActions.replaceAll(replaceAll, "333"));
+        assertSame(StringActionCache.getPattern("\\d+"), StringActionCache.getPattern("\\d+"));
+        assertEquals(1, StringActionCache.size());
+        for (int i = 0; i < StringActionCache.MAX_ENTRIES + 1; i++) {
+            StringActionCache.getPattern("x" + i);
+        }
+        assertTrue(StringActionCache.size() <= StringActionCache.MAX_ENTRIES);
     }
 
     @Test(expected=IllegalArgumentException.class)
@@ -21,9 +21,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.junit.Test;
 
@@ -286,6 +289,17 @@ public class StringConverterTest {
         converter.convertToInteger(s);
     }
 
+    @Test
+    public void convertToIntegerUnparseableMessage() throws Exception {
+        try {
+            converter.convertToInteger("abc");
+            fail("AtlasConversionException expected");
+        } catch (AtlasConversionException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("For input string: \"abc\""));
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+    }
+
     @Test
     public void convertToLong() throws Exception {
         String s = "1";
@@ -334,6 +348,17 @@ public class StringConverterTest {
         converter.convertToLong(s);
     }
 
+    @Test
+    public void convertToLongUnparsableMessage() throws Exception {
+        try {
+            converter.convertToLong("abc");
+            fail("AtlasConversionException expected");
+        } catch (AtlasConversionException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("For input string: \"abc\""));
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+    }
+
     @Test
     public void convertToShort() throws Exception {
         String aString = "0";
@@ -411,4 +436,89 @@ public class StringConverterTest {
         StringConverter converter = new StringConverter();
         assertNull(converter.convertToNumber("abc"));
     }
+
+    @Test
+    public void testConvertToNumberType() throws AtlasConversionException {
+        StringConverter converter = new StringConverter();
+        assertEquals(new BigInteger("12345678901234567890"), converter.convertToNumber("12345678901234567890"));
+        assertEquals(new BigDecimal("-1"), converter.convertToNumber("-1"));
+        assertEquals(new BigDecimal("1.5E3"), converter.convertToNumber("1.5E3"));
+    }
+
+    @Test
+    public void convertToDoubleMatchesParseDouble() throws Exception {
+        String[] values = {"1", "+1", "0.1", "3.14159", "123456789012345", "0.000000000000001", "1234567.891",
+            "1.", ".5", "-0", "-0.0", "1e10", "1234567890123456789", " 2.5 ", "0.30000000000000004" };
+        for (String value : values) {
+            double expected = Double.parseDouble(value);
+            if (expected < 0) {
+                continue;
+            }
+            assertEquals(value, Double.doubleToLongBits(expected),
+                    Double.doubleToLongBits(converter.convertToDouble(value)));
+        }
+    }
+
+    @Test
+    public void convertToFloatMatchesParseFloat() throws Exception {
+        String[] values = {"1", "+1", "0.1", "3.14159", "1234567", "0.1234567", "16777217", "0.33333334",
+            "1.", ".5", "-0", "-0.0", "1e10" };
+        for (String value : values) {
+            float expected = Float.parseFloat(value);
+            assertEquals(value, Float.floatToIntBits(expected), Float.floatToIntBits(converter.convertToFloat(value)));
+        }
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToDoubleSignOnly() throws Exception {
+        converter.convertToDouble("-");
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToFloatTwoDots() throws Exception {
+        converter.convertToFloat("1.2.3");
+    }
+
+    @Test
+    public void convertToIntegerFormats() throws Exception {
+        assertEquals(Integer.valueOf(-42), converter.convertToInteger("-42"));
+        assertEquals(Integer.valueOf(42), converter.convertToInteger("+42"));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), converter.convertToInteger(String.valueOf(Integer.MAX_VALUE)));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), converter.convertToInteger(String.valueOf(Integer.MIN_VALUE)));
+        assertEquals(Integer.valueOf(10), converter.convertToInteger("10.0"));
+        assertEquals(Integer.valueOf(1000), converter.convertToInteger("1e3"));
+        assertEquals(Integer.valueOf(7), converter.convertToInteger("00000000000000000000007"));
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToIntegerFraction() throws Exception {
+        converter.convertToInteger("10.5");
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToIntegerSignOnly() throws Exception {
+        converter.convertToInteger("+");
+    }
+
+    @Test
+    public void convertToLongFormats() throws Exception {
+        assertEquals(Long.valueOf(-123456789012345678L), converter.convertToLong("-123456789012345678"));
+        assertEquals(Long.valueOf(20), converter.convertToLong("2E1"));
+    }
+
+    @Test
+    public void convertToShortRange() throws Exception {
+        assertEquals(Short.valueOf(Short.MAX_VALUE), converter.convertToShort("32767"));
+        assertEquals(Short.valueOf(Short.MIN_VALUE), converter.convertToShort("-32768"));
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToShortOutOfRange() throws Exception {
+        converter.convertToShort("32768");
+    }
+
+    @Test(expected = AtlasConversionException.class)
+    public void convertToByteUnparsable() throws Exception {
+        converter.convertToByte("1.0");
+    }
 }
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.v2.AtlasMapping;
+
+public class AtlasContextRegistryTest {
+
+    private static final URI MAPPING_URI = Paths.get("src/test/resources/atlasmapping-registry.xml").toUri();
+
+    private DefaultAtlasContextFactory factory;
+
+    @After
+    public void tearDown() {
+        if (factory != null) {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    public void testCloseUnregistersContext() throws Exception {
+        factory = createFactory(new HashMap<>());
+        DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        ObjectName jmx = context.getJmxObjectName();
+        assertNotNull(jmx);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(jmx));
+        assertEquals(1, factory.getLiveContextCount());
+
+        context.close();
+        assertTrue(context.isClosed());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(jmx));
+        assertEquals(0, factory.getLiveContextCount());
+        assertEquals(1L, factory.getCreatedContextCount());
+        context.close();
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testCreateSessionAfterClose() throws Exception {
+        factory = createFactory(new HashMap<>());
+        try (DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(MAPPING_URI)) {
+            context.close();
+            context.createSession();
+        }
+    }
+
+    @Test
+    public void testMaxContexts() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(DefaultAtlasContextFactory.MAX_CONTEXTS_PROPERTY, "2");
+        factory = createFactory(props);
+        DefaultAtlasContext first = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        Thread.sleep(5L);
+        DefaultAtlasContext second = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        Thread.sleep(5L);
+        first.createSession();
+        DefaultAtlasContext third = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+
+        assertEquals(2, factory.getLiveContextCount());
+        assertEquals(1L, factory.getEvictedContextCount());
+        assertFalse(factory.getContextRegistry().contains(second));
+        assertNull(second.getJmxObjectName());
+        assertTrue(factory.getContextRegistry().contains(first));
+        assertTrue(factory.getContextRegistry().contains(third));
+        // evicted context keeps working
+        assertNotNull(second.createSession());
+    }
+
+    @Test
+    public void testUnboundedByDefault() throws Exception {
+        factory = createFactory(new HashMap<>());
+        assertEquals(0, factory.getContextRegistry().getMaxContexts());
+        assertEquals(0L, factory.getContextRegistry().getIdleTimeoutMillis());
+        DefaultAtlasContext first = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        for (int i = 0; i < 5; i++) {
+            factory.createContext(MAPPING_URI);
+        }
+        factory.getContextRegistry().evictIdleContexts();
+        assertEquals(6, factory.getLiveContextCount());
+        assertEquals(0L, factory.getEvictedContextCount());
+        assertNotNull(first.getJmxObjectName());
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(DefaultAtlasContextFactory.CONTEXT_IDLE_TIMEOUT_PROPERTY, "10");
+        factory = createFactory(props);
+        DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        Thread.sleep(50L);
+        factory.getContextRegistry().evictIdleContexts();
+        assertEquals(0, factory.getLiveContextCount());
+        assertEquals(1L, factory.getEvictedContextCount());
+        assertNull(context.getJmxObjectName());
+    }
+
+    @Test
+    public void testJmxModeFactory() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(DefaultAtlasContextFactory.JMX_MODE_PROPERTY, "factory");
+        factory = createFactory(props);
+        DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        assertNotNull(factory.getJmxObjectName());
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(factory.getJmxObjectName()));
+        assertNull(context.getJmxObjectName());
+        assertEquals(1, factory.getLiveContextCount());
+    }
+
+    @Test
+    public void testJmxModeNone() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(DefaultAtlasContextFactory.JMX_MODE_PROPERTY, "none");
+        factory = createFactory(props);
+        DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(MAPPING_URI);
+        assertEquals(DefaultAtlasContextFactory.JmxMode.NONE, factory.getJmxMode());
+        assertNull(factory.getJmxObjectName());
+        assertNull(context.getJmxObjectName());
+    }
+
+    @Test
+    public void testFailedInitIsNotRegistered() throws Exception {
+        factory = createFactory(new HashMap<>());
+        int mbeans = ManagementFactory.getPlatformMBeanServer().getMBeanCount();
+        DefaultAtlasContext context = new DefaultAtlasContext(factory,
+                Paths.get("target/does-not-exist.xml").toUri());
+        try {
+            context.init();
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertNull(context.getJmxObjectName());
+            assertFalse(factory.getContextRegistry().contains(context));
+            assertEquals(0, factory.getLiveContextCount());
+            assertEquals(mbeans, ManagementFactory.getPlatformMBeanServer().getMBeanCount().intValue());
+        }
+    }
+
+    @Test
+    public void testUnclosedContextsAreNotRetained() throws Exception {
+        Map<String, String> props = new HashMap<>();
+        props.put(DefaultAtlasContextFactory.JMX_MODE_PROPERTY, "none");
+        factory = createFactory(props);
+        AtlasMapping mapping = factory.getMappingService().loadMapping(MAPPING_URI);
+        for (int i = 0; i < 200; i++) {
+            factory.createContext(mapping).createSession();
+        }
+        for (int i = 0; i < 50 && factory.getLiveContextCount() > 0; i++) {
+            System.gc();
+            Thread.sleep(20L);
+        }
+        assertEquals(0, factory.getLiveContextCount());
+        assertEquals(200L, factory.getCreatedContextCount());
+    }
+
+    private DefaultAtlasContextFactory createFactory(Map<String, String> props) {
+        DefaultAtlasContextFactory answer = new DefaultAtlasContextFactory();
+        answer.setProperties(props);
+        answer.init();
+        return answer;
+    }
+}
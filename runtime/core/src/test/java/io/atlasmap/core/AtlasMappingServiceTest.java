@@ -1,11 +1,19 @@
 package io.atlasmap.core;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Paths;
@@ -22,6 +30,7 @@ import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasValidationException;
 import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
 import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.ConstantField;
 import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.Mappings;
 
@@ -60,6 +69,15 @@ public class AtlasMappingServiceTest {
         assertNotNull(atlasMappingService);
     }
 
+    @Test
+    public void testGetJAXBContext() {
+        AtlasMappingService service = new AtlasMappingService();
+        JAXBContext context = service.getJAXBContext();
+        assertNotNull(context);
+        assertEquals(context, service.getJAXBContext());
+        assertTrue(service.getJAXBInitTime() >= 0);
+    }
+
     @Test
     public void testAtlasMappingServiceListOfString() {
         List<String> modulePackages = new ArrayList<>();
@@ -226,4 +244,71 @@ public class AtlasMappingServiceTest {
         File file = Paths.get("target" + File.separator + "generated-test-sources" + File.separator + "atlasmapping.xml").toFile();
         atlasMappingService.saveMappingAsXmlFile(atlasMapping, file);
     }
+
+    @Test
+    public void testSaveAndLoadCompiledMapping() throws Exception {
+        File file = Paths.get("target" + File.separator + "generated-test-sources" + File.separator + "atlasmapping.atlasmap").toFile();
+        file.getParentFile().mkdirs();
+        atlasMappingService.saveMappingAsFile(atlasMapping, file, AtlasMappingFormat.COMPILED);
+
+        AtlasMapping compiled = atlasMappingService.loadMapping(file, AtlasMappingFormat.COMPILED);
+        assertEquals("testname", compiled.getName());
+        assertEquals(2, compiled.getMappings().getMapping().size());
+        assertEquals("alias2", ((Mapping) compiled.getMappings().getMapping().get(1)).getAlias());
+
+        try (FileInputStream in = new FileInputStream(file)) {
+            assertEquals("testname", atlasMappingService.loadMapping(in, AtlasMappingFormat.COMPILED).getName());
+        }
+    }
+
+    @Test(expected = AtlasValidationException.class)
+    public void testLoadCompiledMappingNotCompiled() throws Exception {
+        File file = Paths.get("src" + File.separator + "test" + File.separator + "resources" + File.separator + "atlasmapping.xml").toFile();
+        atlasMappingService.loadMapping(file, AtlasMappingFormat.COMPILED);
+    }
+
+    @Test
+    public void testLoadCompiledMappingRejectsUnexpectedClass() throws Exception {
+        AtlasMapping mapping = new AtlasMapping();
+        mapping.setName("gadget");
+        Mapping m = new Mapping();
+        ConstantField constant = new ConstantField();
+        constant.setValue(new UnexpectedValue());
+        m.getInputField().add(constant);
+        mapping.setMappings(new Mappings());
+        mapping.getMappings().getMapping().add(m);
+        File file = Paths.get("target" + File.separator + "generated-test-sources" + File.separator + "gadget.atlasmap").toFile();
+        file.getParentFile().mkdirs();
+        atlasMappingService.saveMappingAsFile(mapping, file, AtlasMappingFormat.COMPILED);
+
+        UnexpectedValue.deserialized = false;
+        try {
+            atlasMappingService.loadMapping(file, AtlasMappingFormat.COMPILED);
+            fail("AtlasValidationException expected");
+        } catch (AtlasValidationException e) {
+            assertTrue(e.getCause() instanceof InvalidClassException);
+            assertTrue(e.getMessage(), e.getMessage().contains(UnexpectedValue.class.getName()));
+        }
+        assertFalse(UnexpectedValue.deserialized);
+    }
+
+    @Test
+    public void testLoadCompiledMappingFromReader() throws Exception {
+        try (FileReader reader = new FileReader("src" + File.separator + "test" + File.separator + "resources" + File.separator + "atlasmapping.xml")) {
+            atlasMappingService.loadMapping(reader, AtlasMappingFormat.COMPILED);
+            fail("AtlasValidationException expected");
+        } catch (AtlasValidationException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("binary format"));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class UnexpectedValue implements Serializable {
+        private static boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            deserialized = true;
+        }
+    }
 }
@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasModule;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+import io.atlasmap.v2.SimpleField;
+import io.atlasmap.v2.Validation;
+import io.atlasmap.v2.ValidationScope;
+import io.atlasmap.v2.ValidationStatus;
+
+public class AtlasMappingValidatorTest {
+
+    private DefaultAtlasContextFactory factory;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = new DefaultAtlasContextFactory();
+        factory.init();
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Class<AtlasModule> moduleClass = (Class) CountingModule.class;
+        factory.getModuleInfoRegistry().register(new DefaultAtlasModuleInfo("CountingModule", "atlas:counting",
+                moduleClass, moduleClass.getDeclaredConstructor(), Arrays.asList("counting"), Collections.emptyList()));
+        CountingModule.entryValidations = 0;
+    }
+
+    @After
+    public void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    public void testValidateInMemory() throws Exception {
+        AtlasMappingValidator validator = new AtlasMappingValidator(factory);
+        AtlasMapping mapping = createMapping("m1", "m2");
+
+        List<Validation> validations = validator.validateMapping(mapping);
+        // one notice per mapping entry for each of SOURCE and TARGET module
+        assertEquals(4, countModuleNotices(validations));
+        assertEquals(4, CountingModule.entryValidations);
+
+        validator.validateMapping(mapping);
+        assertEquals(8, CountingModule.entryValidations);
+        assertEquals(0, validator.getCacheSize());
+    }
+
+    @Test
+    public void testDuplicateDataSourceIds() throws Exception {
+        AtlasMappingValidator validator = new AtlasMappingValidator(factory);
+        AtlasMapping mapping = createMapping("m1");
+        DataSource source = new DataSource();
+        source.setUri("atlas:counting");
+        source.setDataSourceType(DataSourceType.SOURCE);
+        mapping.getDataSource().add(source);
+        DataSource target = new DataSource();
+        target.setUri("atlas:counting");
+        target.setDataSourceType(DataSourceType.TARGET);
+        mapping.getDataSource().add(target);
+
+        List<Validation> validations = validator.validateMapping(mapping);
+        assertEquals(2, countModuleNotices(validations));
+        assertEquals(2, CountingModule.entryValidations);
+    }
+
+    @Test
+    public void testIncrementalValidation() throws Exception {
+        AtlasMappingValidator validator = new AtlasMappingValidator(factory, m -> ((Mapping) m).getInputField().get(0).getPath());
+        AtlasMapping mapping = createMapping("m1", "m2");
+
+        validator.validateMapping(mapping);
+        assertEquals(4, CountingModule.entryValidations);
+        assertEquals(2, validator.getCacheSize());
+
+        List<Validation> validations = validator.validateMapping(mapping);
+        assertEquals(4, CountingModule.entryValidations);
+        assertEquals(4, countModuleNotices(validations));
+
+        ((Mapping) mapping.getMappings().getMapping().get(1)).getInputField().get(0).setPath("/changed");
+        validations = validator.validateMapping(mapping);
+        assertEquals(6, CountingModule.entryValidations);
+        assertEquals(4, countModuleNotices(validations));
+
+        validator.clearCache();
+        validator.validateMapping(mapping);
+        assertEquals(10, CountingModule.entryValidations);
+    }
+
+    @Test
+    public void testValidateCoreNotices() throws Exception {
+        AtlasMappingValidator validator = new AtlasMappingValidator(factory);
+        AtlasMapping mapping = createMapping("m1");
+        mapping.setName("invalid name");
+
+        List<Validation> validations = validator.validateMapping(mapping);
+        assertTrue(validations.stream().anyMatch(v -> ValidationStatus.ERROR.equals(v.getStatus())
+                && v.getMessage().startsWith("Mapping name must not contain spaces")));
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testValidateNull() throws Exception {
+        new AtlasMappingValidator(factory).validateMapping(null);
+    }
+
+    private long countModuleNotices(List<Validation> validations) {
+        return validations.stream().filter(v -> "counted".equals(v.getMessage())).count();
+    }
+
+    private AtlasMapping createMapping(String... ids) {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        mapping.setName("validator.test");
+        DataSource source = new DataSource();
+        source.setUri("atlas:counting");
+        source.setDataSourceType(DataSourceType.SOURCE);
+        mapping.getDataSource().add(source);
+        DataSource target = new DataSource();
+        target.setUri("atlas:counting");
+        target.setDataSourceType(DataSourceType.TARGET);
+        mapping.getDataSource().add(target);
+        for (String id : ids) {
+            Mapping m = AtlasModelFactory.createMapping(MappingType.MAP);
+            m.setId(id);
+            Field in = new SimpleField();
+            in.setPath("/" + id);
+            m.getInputField().add(in);
+            Field out = new SimpleField();
+            out.setPath("/" + id);
+            m.getOutputField().add(out);
+            mapping.getMappings().getMapping().add(m);
+        }
+        return mapping;
+    }
+
+    public static class CountingModule extends BaseAtlasModule {
+        private static int entryValidations;
+
+        @Override
+        public void processPreValidation(AtlasInternalSession session) throws AtlasException {
+            if (session.getMapping().getMappings() == null) {
+                return;
+            }
+            for (BaseMapping m : session.getMapping().getMappings().getMapping()) {
+                entryValidations++;
+                Validation validation = new Validation();
+                validation.setScope(ValidationScope.MAPPING);
+                validation.setId(((Mapping) m).getId());
+                validation.setMessage("counted");
+                validation.setStatus(ValidationStatus.INFO);
+                session.getValidations().getValidation().add(validation);
+            }
+        }
+
+        @Override
+        public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processPreTargetExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processSourceFieldMapping(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processTargetFieldMapping(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processPostSourceExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public Field cloneField(Field field) throws AtlasException {
+            return null;
+        }
+
+        @Override
+        public int getCollectionSize(AtlasInternalSession session, Field field) throws AtlasException {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasModuleMode;
+import io.atlasmap.spi.AtlasRecordReader;
+import io.atlasmap.spi.AtlasRecordWriter;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.Field;
+
+public class AtlasRecordStreamProcessorTest {
+
+    private DefaultAtlasContext context;
+    private EchoModule sourceModule;
+
+    @Before
+    public void setUp() throws Exception {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        mapping.setName("record.stream.test");
+        context = new DefaultAtlasContext(DefaultAtlasContextFactory.getInstance(), mapping);
+        sourceModule = new EchoModule();
+        sourceModule.setMode(AtlasModuleMode.SOURCE);
+        sourceModule.setDocId(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID);
+        EchoModule targetModule = new EchoModule();
+        targetModule.setMode(AtlasModuleMode.TARGET);
+        targetModule.setDocId(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID);
+        context.getSourceModules().put(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, sourceModule);
+        context.getTargetModules().put(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID, targetModule);
+    }
+
+    @Test
+    public void testProcessRecords() throws Exception {
+        ListRecordWriter writer = new ListRecordWriter();
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        processor.getSessionProperties().put("Atlas.Prefix", "mapped-");
+
+        long written = processor.process(new ListRecordReader("a", "b", "c"), writer);
+        assertEquals(3, written);
+        assertEquals(Arrays.asList("mapped-a", "mapped-b", "mapped-c"), writer.records);
+        assertEquals(3, processor.getProcessedCount());
+        assertEquals(0, processor.getFailedCount());
+        // validated once for the whole stream, not for every record
+        assertEquals(1, sourceModule.validations);
+    }
+
+    @Test
+    public void testFailOnError() throws Exception {
+        ListRecordWriter writer = new ListRecordWriter();
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        try {
+            processor.process(new ListRecordReader("a", "bad", "c"), writer);
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Record 1 failed"));
+        }
+        assertEquals(Arrays.asList("a"), writer.records);
+    }
+
+    @Test
+    public void testSkipFailedRecords() throws Exception {
+        ListRecordWriter writer = new ListRecordWriter();
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        processor.setFailOnError(false);
+
+        assertEquals(2, processor.process(new ListRecordReader("a", "bad", "c"), writer));
+        assertEquals(Arrays.asList("a", "c"), writer.records);
+        assertEquals(1, processor.getFailedCount());
+    }
+
+    private static class ListRecordReader implements AtlasRecordReader {
+        private final Iterator<String> records;
+
+        ListRecordReader(String... records) {
+            this.records = Arrays.asList(records).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return records.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return records.next();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class ListRecordWriter implements AtlasRecordWriter {
+        private final List<Object> records = new ArrayList<>();
+
+        @Override
+        public void write(Object record) {
+            records.add(record);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class EchoModule extends BaseAtlasModule {
+        private int validations;
+
+        @Override
+        public void processPreValidation(AtlasInternalSession session) throws AtlasException {
+            validations++;
+        }
+
+        @Override
+        public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
+            if ("bad".equals(session.getDefaultSourceDocument())) {
+                AtlasUtil.addAudit(session, getDocId(), "bad record", null, AuditStatus.ERROR, null);
+            }
+        }
+
+        @Override
+        public void processPreTargetExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processSourceFieldMapping(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processTargetFieldMapping(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processPostSourceExecution(AtlasInternalSession session) throws AtlasException {
+        }
+
+        @Override
+        public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
+            Object prefix = session.getProperties().get("Atlas.Prefix");
+            session.setDefaultTargetDocument((prefix != null ? prefix : "") + "" + session.getDefaultSourceDocument());
+        }
+
+        @Override
+        public Field cloneField(Field field) throws AtlasException {
+            return null;
+        }
+
+        @Override
+        public int getCollectionSize(AtlasInternalSession session, Field field) throws AtlasException {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.v2.Audit;
+import io.atlasmap.v2.AuditStatus;
+
+public class DefaultAtlasAuditSinkTest {
+
+    private DefaultAtlasSession session;
+
+    @Before
+    public void setUp() {
+        session = new DefaultAtlasSession(AtlasTestData.generateAtlasMapping());
+    }
+
+    @Test
+    public void testDefaultRecordsEverything() {
+        AtlasUtil.addAudit(session, AuditStatus.INFO, "doc", "/a", null, "info %s", 1);
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "warn %s", 2);
+        AtlasUtil.addAudit(session, "doc", "error", "/a", AuditStatus.ERROR, "v");
+
+        List<Audit> audits = session.getAudits().getAudit();
+        assertEquals(3, audits.size());
+        assertEquals("info 1", audits.get(0).getMessage());
+        assertEquals("warn 2", audits.get(1).getMessage());
+        assertEquals("v", audits.get(2).getValue());
+        assertEquals(0, session.getAuditSink().getSuppressedCount());
+    }
+
+    @Test
+    public void testMinimumLevel() {
+        session.getProperties().put(AtlasConstants.AUDIT_LEVEL_PROPERTY, "Error");
+        session.getAuditSink().reset();
+        FormatCounter arg = new FormatCounter();
+
+        assertFalse(session.getAuditSink().isEnabled(AuditStatus.WARN));
+        assertTrue(session.getAuditSink().isEnabled(AuditStatus.ERROR));
+        AtlasUtil.addAudit(session, AuditStatus.WARN, null, "/a", null, "warn %s", arg);
+        AtlasUtil.addAudit(session, AuditStatus.ERROR, null, "/a", null, "error %s", "x");
+
+        assertEquals(0, arg.count);
+        assertEquals(1, session.getAudits().getAudit().size());
+        assertTrue(session.hasErrors());
+        assertFalse(session.hasWarns());
+        assertEquals(1, session.getAuditSink().getSuppressedCount());
+    }
+
+    @Test
+    public void testNoneKeepsErrors() {
+        session.getProperties().put(AtlasConstants.AUDIT_LEVEL_PROPERTY, AuditStatus.NONE);
+        session.getAuditSink().reset();
+
+        AtlasUtil.addAudit(session, AuditStatus.INFO, null, null, null, "info");
+        AtlasUtil.addAudit(session, AuditStatus.ERROR, null, null, null, "error");
+        assertEquals(1, session.getAudits().getAudit().size());
+        assertEquals(1, session.errorCount().intValue());
+    }
+
+    @Test
+    public void testDeduplicate() {
+        session.getProperties().put(AtlasConstants.AUDIT_DEDUPLICATE_PROPERTY, true);
+        session.getAuditSink().reset();
+
+        for (int i = 0; i < 5; i++) {
+            AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "missing %s", "a");
+            AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/b", null, "missing %s", "b");
+        }
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/c", null, "missing %s", "c");
+        session.getAuditSink().flush();
+
+        List<Audit> audits = session.getAudits().getAudit();
+        assertEquals(3, audits.size());
+        assertEquals("missing a (repeated 5 times)", audits.get(0).getMessage());
+        assertEquals("missing b (repeated 5 times)", audits.get(1).getMessage());
+        assertEquals("missing c", audits.get(2).getMessage());
+        assertEquals(8, session.getAuditSink().getSuppressedCount());
+
+        session.getAudits().getAudit().clear();
+        session.getAuditSink().reset();
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "missing %s", "a");
+        assertEquals(1, session.getAudits().getAudit().size());
+    }
+
+    @Test
+    public void testDeduplicateKeepsDifferentArguments() {
+        session.getProperties().put(AtlasConstants.AUDIT_DEDUPLICATE_PROPERTY, true);
+        session.getAuditSink().reset();
+
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "cannot convert %s", "x");
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "cannot convert %s", "y");
+        AtlasUtil.addAudit(session, AuditStatus.WARN, "doc", "/a", null, "cannot convert %s", "x");
+        session.getAuditSink().flush();
+
+        List<Audit> audits = session.getAudits().getAudit();
+        assertEquals(2, audits.size());
+        assertEquals("cannot convert x (repeated 2 times)", audits.get(0).getMessage());
+        assertEquals("cannot convert y", audits.get(1).getMessage());
+        assertEquals(1, session.getAuditSink().getSuppressedCount());
+    }
+
+    @Test
+    public void testMaxEntries() {
+        session.getProperties().put(AtlasConstants.AUDIT_MAX_ENTRIES_PROPERTY, "2");
+        session.getAuditSink().reset();
+
+        for (int i = 0; i < 5; i++) {
+            AtlasUtil.addAudit(session, AuditStatus.WARN, null, null, null, "warn %s", i);
+        }
+        AtlasUtil.addAudit(session, AuditStatus.ERROR, null, null, null, "error");
+        session.getAuditSink().flush();
+
+        List<Audit> audits = session.getAudits().getAudit();
+        assertEquals(4, audits.size());
+        assertEquals("warn 1", audits.get(1).getMessage());
+        assertEquals(AuditStatus.ERROR, audits.get(2).getStatus());
+        assertEquals("Audit limit of 2 entries reached, 3 further entries were dropped", audits.get(3).getMessage());
+    }
+
+    @Test
+    public void testSessionDocumentLookupAudits() {
+        session.getProperties().put(AtlasConstants.AUDIT_DEDUPLICATE_PROPERTY, "true");
+        session.getAuditSink().reset();
+        session.setDefaultSourceDocument("source");
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("source", session.getSourceDocument("other"));
+        }
+        assertEquals(1, session.getAudits().getAudit().size());
+    }
+
+    private static class FormatCounter {
+        private int count;
+
+        @Override
+        public String toString() {
+            count++;
+            return "counter";
+        }
+    }
+}
@@ -166,93 +166,49 @@ public class DefaultAtlasCombineStrategyTest {
     }
 
     @Test
-    public void testSortByKey() {
-        Map<Integer, String> cMap = DefaultAtlasCombineStrategy.sortByKey(generateCombineMap(4));
-        assertEquals("a", cMap.get(0));
-        assertEquals("b", cMap.get(1));
-        assertEquals("c", cMap.get(2));
-        assertEquals("d", cMap.get(3));
-    }
-
-    @Test
-    public void testSortByKeyOutOfOrder() {
-
+    public void testCombineValuesOutOfOrder() {
         Map<Integer, String> outOfOrder = new HashMap<Integer, String>();
         outOfOrder.put(2, "c");
         outOfOrder.put(0, "a");
         outOfOrder.put(3, "d");
         outOfOrder.put(1, "b");
-
-        Map<Integer, String> cMap = DefaultAtlasCombineStrategy.sortByKey(outOfOrder);
-        int count = 0;
-        for (String str : cMap.values()) {
-            if (count == 0) {
-                assertEquals("a", str);
-            }
-            if (count == 1) {
-                assertEquals("b", str);
-            }
-            if (count == 2) {
-                assertEquals("c", str);
-            }
-            if (count == 3) {
-                assertEquals("d", str);
-            }
-            count++;
-        }
+        assertEquals("a b c d", combine.combineValues(outOfOrder));
     }
 
     @Test
-    public void testSortByKeyOutOfOrderGaps() {
-
+    public void testCombineValuesOutOfOrderGaps() {
         Map<Integer, String> outOfOrder = new HashMap<Integer, String>();
-        outOfOrder.put(7, "c");
-        outOfOrder.put(3, "a");
-        outOfOrder.put(99, "d");
-        outOfOrder.put(5, "b");
-
-        Map<Integer, String> cMap = DefaultAtlasCombineStrategy.sortByKey(outOfOrder);
-        int count = 0;
-        for (String str : cMap.values()) {
-            if (count == 0) {
-                assertEquals("a", str);
-            }
-            if (count == 1) {
-                assertEquals("b", str);
-            }
-            if (count == 2) {
-                assertEquals("c", str);
-            }
-            if (count == 3) {
-                assertEquals("d", str);
-            }
-            count++;
-        }
+        outOfOrder.put(5, "c");
+        outOfOrder.put(1, "a");
+        outOfOrder.put(3, "b");
+        assertEquals(" a  b  c", combine.combineValues(outOfOrder));
     }
 
     @Test
-    public void testSortByKeyWithNullKey() {
+    public void testCombineValuesWithNullKey() {
         Map<Integer, String> generatedCombineMap = generateCombineMap(4);
         generatedCombineMap.put(null, "valueWithNullKey");
-        Map<Integer, String> cMap = DefaultAtlasCombineStrategy.sortByKey(generatedCombineMap);
-        assertEquals("a", cMap.get(0));
-        assertEquals("b", cMap.get(1));
-        assertEquals("c", cMap.get(2));
-        assertEquals("d", cMap.get(3));
-        assertEquals("valueWithNullKey", cMap.get(null));
+        assertEquals("a b c d", combine.combineValues(generatedCombineMap));
     }
 
     @Test
-    public void testSortByKeyWithNullValue() {
+    public void testCombineValuesWithNullValue() {
         Map<Integer, String> generatedCombineMap = generateCombineMap(4);
         generatedCombineMap.put(Integer.valueOf(4), null);
         generatedCombineMap.put(Integer.valueOf(5), "f");
-        Map<Integer, String> cMap = DefaultAtlasCombineStrategy.sortByKey(generatedCombineMap);
-        assertEquals("a", cMap.get(0));
-        assertEquals("b", cMap.get(1));
-        assertEquals("c", cMap.get(2));
-        assertEquals("d", cMap.get(3));
-        assertEquals(null, cMap.get(4));
-        assertEquals("f", cMap.get(5));
+        assertEquals("a b c d  f", combine.combineValues(generatedCombineMap));
+    }
+
+    @Test
+    public void testCombineSlots() {
+        assertEquals("a b c", combine.combineValues(new String[] {"a ", " b", "c"}, null));
+        assertEquals("a,,c", combine.combineValues(new String[] {"a", null, "c"}, ","));
+        assertEquals(",b", combine.combineValues(new String[] {null, "b"}, ","));
+        assertEquals("a", combine.combineValues(new String[] {"a"}, null));
+        assertNull(combine.combineValues(new String[0], null));
+        assertNull(combine.combineValues((String[]) null, null));
+
+        combine.setLimit(2);
+        assertEquals("a b", combine.combineValues(new String[] {"a", "b", "c"}, null));
     }
 }
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.net.URI;
@@ -177,6 +178,24 @@ public class DefaultAtlasContextFactoryTest {
         assertNotNull(factory.createContext(file));
     }
 
+    @Test
+    public void testLazyJaxbInitialization() throws AtlasException {
+        factory = new DefaultAtlasContextFactory();
+        factory.init();
+        assertTrue(factory.getInitTimings().containsKey("modules"));
+        assertFalse(factory.getInitTimings().containsKey("jaxb"));
+        assertEquals(-1L, factory.getMappingService().getJAXBInitTime());
+
+        File file = Paths.get("src" + File.separator + "test" + File.separator + "resources" + File.separator + "atlasmapping.json").toFile();
+        assertNotNull(factory.createContext(file, AtlasMappingFormat.JSON));
+        assertFalse(factory.getInitTimings().containsKey("jaxb"));
+
+        file = Paths.get("src" + File.separator + "test" + File.separator + "resources" + File.separator + "atlasmapping.xml").toFile();
+        assertNotNull(factory.createContext(file, AtlasMappingFormat.XML));
+        assertTrue(factory.getInitTimings().containsKey("jaxb"));
+        factory.destroy();
+    }
+
     @Test
     public void testCreateContextWithAtlasMapping() throws AtlasException {
         AtlasMapping atlasMapping = new AtlasMapping();
@@ -4,8 +4,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -18,6 +21,7 @@ import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
+import io.atlasmap.api.AtlasConstants;
 import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasConversionException;
 import io.atlasmap.api.AtlasException;
@@ -26,6 +30,7 @@ import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasInternalSession.Head;
 import io.atlasmap.spi.AtlasModule;
+import io.atlasmap.v2.Actions;
 import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.Audit;
@@ -38,12 +43,14 @@ import io.atlasmap.v2.DataSource;
 import io.atlasmap.v2.DataSourceType;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.GenerateUUID;
 import io.atlasmap.v2.LookupEntry;
 import io.atlasmap.v2.LookupTable;
 import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.MappingType;
 import io.atlasmap.v2.Mappings;
 import io.atlasmap.v2.MockField;
+import io.atlasmap.v2.Uppercase;
 import io.atlasmap.v2.Validations;
 
 /**
@@ -108,6 +115,33 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         Assert.assertEquals("foo;bar", writer.targets.get("/target"));
     }
 
+    @Test
+    public void combineTrailingMissingValueTest() throws AtlasException {
+        Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.COMBINE);
+        mapping.getMappings().getMapping().add(m);
+        m.setDelimiter(";");
+        populateSourceField(m, FieldType.STRING, "foo", 0);
+        populateSourceField(m, FieldType.STRING, "bar", 1);
+        populateSourceField(m, null, null, 2);
+        prepareTargetField(m, "/target");
+        context.process(session);
+        Assert.assertFalse(printAudit(session), session.hasErrors());
+        Assert.assertEquals("foo;bar", writer.targets.get("/target"));
+    }
+
+    @Test
+    public void combineSingleValueTest() throws AtlasException {
+        Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.COMBINE);
+        mapping.getMappings().getMapping().add(m);
+        m.setDelimiter(";");
+        populateSourceField(m, FieldType.STRING, " foo ", 0);
+        populateSourceField(m, null, null, 1);
+        prepareTargetField(m, "/target");
+        context.process(session);
+        Assert.assertFalse(printAudit(session), session.hasErrors());
+        Assert.assertEquals(" foo ", writer.targets.get("/target"));
+    }
+
     @Test
     public void separateTest() throws Exception {
         Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.SEPARATE);
@@ -160,6 +194,107 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         Assert.assertEquals("bar", writer.targets.get("/target"));
     }
 
+    @Test
+    public void sharedSourceReadTest() throws Exception {
+        Mapping m1 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m1);
+        populateSourceField(m1, FieldType.STRING, "foo");
+        prepareTargetField(m1, "/target1");
+        Mapping m2 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m2);
+        populateSourceField(m2, FieldType.STRING, "foo");
+        prepareTargetField(m2, "/target2");
+        Mapping m3 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m3);
+        populateSourceField(m3, FieldType.STRING, "bar");
+        prepareTargetField(m3, "/target3");
+
+        context.init();
+        context.getSourceModules().put(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, sourceModule);
+        context.getTargetModules().put(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID, targetModule);
+        context.process(session);
+        Assert.assertFalse(printAudit(session), session.hasErrors());
+        Assert.assertEquals("foo", writer.targets.get("/target1"));
+        Assert.assertEquals("foo", writer.targets.get("/target2"));
+        Assert.assertEquals("bar", writer.targets.get("/target3"));
+        verify(sourceModule, times(2)).processSourceFieldMapping(any());
+
+        // a new run reads the shared field again
+        reader.sources.put("/testPathfoo", "baz");
+        context.process(session);
+        Assert.assertEquals("baz", writer.targets.get("/target1"));
+        Assert.assertEquals("baz", writer.targets.get("/target2"));
+        verify(sourceModule, times(4)).processSourceFieldMapping(any());
+    }
+
+    @Test
+    public void constantFoldingTest() throws Exception {
+        Mapping m1 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m1);
+        ConstantField constant1 = new ConstantField();
+        constant1.setValue("foo");
+        m1.getInputField().add(constant1);
+        Field target1 = prepareTargetField(m1, "/target1");
+        target1.setFieldType(FieldType.STRING);
+        target1.setActions(new Actions());
+        target1.getActions().getActions().add(new Uppercase());
+        Mapping m2 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m2);
+        ConstantField constant2 = new ConstantField();
+        constant2.setValue("bar");
+        m2.getInputField().add(constant2);
+        Field target2 = prepareTargetField(m2, "/target2");
+        target2.setFieldType(FieldType.STRING);
+        target2.setActions(new Actions());
+        target2.getActions().getActions().add(new GenerateUUID());
+
+        context.init();
+        context.getSourceModules().put(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, sourceModule);
+        context.getTargetModules().put(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID, targetModule);
+        targetModule.setFieldActionService(DefaultAtlasContextFactory.getInstance().getFieldActionService());
+        doAnswer(invocation -> AtlasModelFactory.cloneFieldToSimpleField(invocation.getArgument(0)))
+                .when(targetModule).cloneField(any());
+        context.compileMappings();
+        context.process(session);
+
+        // the mock target module doesn't process the target field actions, only the folded value has them applied
+        Assert.assertFalse(printAudit(session), session.hasErrors());
+        Assert.assertEquals("FOO", writer.targets.get("/target1"));
+        Assert.assertEquals("bar", writer.targets.get("/target2"));
+        Assert.assertEquals(1, target1.getActions().getActions().size());
+    }
+
+    @Test
+    public void constantFoldingDateTest() throws Exception {
+        Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m);
+        ConstantField constant = new ConstantField();
+        constant.setValue(new Date(0));
+        constant.setFieldType(FieldType.DATE_TIME);
+        m.getInputField().add(constant);
+        Field target = prepareTargetField(m, "/target");
+        target.setFieldType(FieldType.DATE_TIME);
+
+        context.init();
+        context.getSourceModules().put(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, sourceModule);
+        context.getTargetModules().put(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID, targetModule);
+        targetModule.setFieldActionService(DefaultAtlasContextFactory.getInstance().getFieldActionService());
+        doAnswer(invocation -> AtlasModelFactory.cloneFieldToSimpleField(invocation.getArgument(0)))
+                .when(targetModule).cloneField(any());
+        context.compileMappings();
+        context.process(session);
+        Date first = (Date) writer.targets.get("/target");
+        Assert.assertEquals(new Date(0), first);
+
+        // a session modifying its value must not leak into the next one
+        first.setTime(1000L);
+        context.process(session);
+        Date second = (Date) writer.targets.get("/target");
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(new Date(0), second);
+        Assert.assertEquals(new Date(0), constant.getValue());
+    }
+
     @Test
     public void testDefaultAtlasContext() throws AtlasException {
         File file = Paths.get("src" + File.separator + "test" + File.separator + "resources" + File.separator + "atlasmapping.xml").toFile();
@@ -279,6 +414,8 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
     public void testProcess() throws AtlasException {
         DefaultAtlasSession session = mock(DefaultAtlasSession.class);
         when(session.getAtlasContext()).thenReturn(context);
+        DefaultAtlasAuditSink auditSink = new DefaultAtlasAuditSink(session);
+        when(session.getAuditSink()).thenReturn(auditSink);
 
         Head head = mock(Head.class);
         when(session.head()).thenReturn(head);
@@ -362,6 +499,8 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
     @Test
     public void testProcessSeparateField() throws AtlasException {
         DefaultAtlasSession session = mock(DefaultAtlasSession.class);
+        DefaultAtlasAuditSink auditSink = new DefaultAtlasAuditSink(session);
+        when(session.getAuditSink()).thenReturn(auditSink);
 
         AtlasContext atlasContext = mock(AtlasContext.class);
         when(session.getAtlasContext()).thenReturn(atlasContext);
@@ -383,9 +522,9 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         MockField mockField = mock(MockField.class);
         when(mockField.getValue()).thenReturn("mock field value");
         when(mockField.getFieldType()).thenThrow(AtlasConversionException.class);
-        assertEquals(0, context.processSeparateField(session, mapping, mockField).size());
+        assertEquals(0, context.processSeparateField(session, mapping, mockField, new String[1]));
 
-        when(separateStrategy.separateValue(any(String.class))).thenReturn(new ArrayList<String>());
-        assertEquals(0, context.processSeparateField(session, mapping, mockField).size());
+        when(separateStrategy.separateValue(any(String.class), any(), any(String[].class))).thenReturn(0);
+        assertEquals(0, context.processSeparateField(session, mapping, mockField, new String[1]));
     }
 }
@@ -414,6 +414,30 @@ public class DefaultAtlasConversionServiceTest {
         assertNotNull(service.fieldTypeFromClass("short"));
     }
 
+    @Test
+    public void testFieldTypeFromClassMatchesClassName() {
+        Class<?>[] classes = new Class<?>[] { boolean.class, Boolean.class, byte.class, Byte.class, char.class,
+            Character.class, double.class, Double.class, float.class, Float.class, int.class, Integer.class,
+            long.class, Long.class, short.class, Short.class, String.class, java.time.LocalDate.class,
+            java.time.LocalTime.class, java.time.LocalDateTime.class, java.util.Date.class, Object.class,
+            int[].class, List.class, new Object() { }.getClass() };
+        for (Class<?> clazz : classes) {
+            assertEquals(clazz.getName(), service.fieldTypeFromClass(clazz.getName()), service.fieldTypeFromClass(clazz));
+            assertEquals(clazz.getName(), service.fieldTypeFromClass(clazz), service.fieldTypeFromClass(clazz));
+        }
+        assertFalse(service.isPrimitive(int[].class));
+        assertFalse(service.isBoxedPrimitive(new Object() { }.getClass()));
+        assertEquals(int[].class, service.boxOrUnboxPrimitive(int[].class));
+    }
+
+    @Test
+    public void testCopyPrimitiveReturnsImmutableValue() {
+        Integer value = 1000;
+        assertSame(value, service.copyPrimitive(value));
+        Object list = new ArrayList<String>();
+        assertSame(list, service.copyPrimitive(list));
+    }
+
     @Test
     public void testClassFromFieldType() {
         assertNull(service.classFromFieldType(null));
@@ -19,9 +19,15 @@ import io.atlasmap.v2.ActionDetail;
 import io.atlasmap.v2.Actions;
 import io.atlasmap.v2.FieldType;
 import io.atlasmap.v2.GenerateUUID;
+import io.atlasmap.v2.Lowercase;
+import io.atlasmap.v2.PadStringLeft;
+import io.atlasmap.v2.Prepend;
 import io.atlasmap.v2.Property;
+import io.atlasmap.v2.ReplaceAll;
+import io.atlasmap.v2.SeparateByDash;
 import io.atlasmap.v2.SimpleField;
 import io.atlasmap.v2.Trim;
+import io.atlasmap.v2.Uppercase;
 
 public class DefaultAtlasFieldActionsServiceTest {
 
@@ -139,6 +145,45 @@ public class DefaultAtlasFieldActionsServiceTest {
 
     }
 
+    @Test
+    public void testProcessActionsUnfusedChain() throws AtlasException {
+        Actions actions = new Actions();
+        ReplaceAll replaceAll = new ReplaceAll();
+        replaceAll.setMatch("o");
+        replaceAll.setNewString("0");
+        actions.getActions().add(replaceAll);
+        actions.getActions().add(new Uppercase());
+        assertEquals(0, fieldActionsService.findFusedRun(actions.getActions(), 0, FieldType.STRING, "foo"));
+
+        // Uppercase is applied to the result of ReplaceAll, not to the original source value
+        assertEquals("F00 B0X", fieldActionsService.processActions(actions, "foo box", FieldType.STRING));
+    }
+
+    @Test
+    public void testProcessActionsChain() throws AtlasException {
+        Actions actions = new Actions();
+        actions.getActions().add(new Trim());
+        actions.getActions().add(new Lowercase());
+        actions.getActions().add(new SeparateByDash());
+        PadStringLeft padStringLeft = new PadStringLeft();
+        padStringLeft.setPadCharacter("0");
+        padStringLeft.setPadCount(2);
+        actions.getActions().add(padStringLeft);
+        assertEquals("00hello-big-world", fieldActionsService.processActions(actions, "  Hello Big_World ", FieldType.STRING));
+
+        // a non fusable action in between, each fused run gets the result of the previous action
+        Prepend prepend = new Prepend();
+        prepend.setString("My ");
+        actions.getActions().add(1, prepend);
+        assertEquals("00my-hello-big-world", fieldActionsService.processActions(actions, "  Hello Big_World ", FieldType.STRING));
+
+        assertEquals(1, fieldActionsService.findFusedRun(actions.getActions(), 0, FieldType.STRING, "foo"));
+        assertEquals(1, fieldActionsService.findFusedRun(actions.getActions(), 1, FieldType.STRING, "foo"));
+        assertEquals(5, fieldActionsService.findFusedRun(actions.getActions(), 2, FieldType.STRING, "foo"));
+        assertEquals(2, fieldActionsService.findFusedRun(actions.getActions(), 2, FieldType.INTEGER, "foo"));
+        assertEquals(2, fieldActionsService.findFusedRun(actions.getActions(), 2, FieldType.STRING, null));
+    }
+
     @Test(expected = AtlasConversionException.class)
     public void testprocessActionsActionsObjectFieldTypeAtlasConversionException() throws AtlasException {
         Actions actions = null;
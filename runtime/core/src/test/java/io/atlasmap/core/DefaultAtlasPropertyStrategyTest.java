@@ -391,4 +391,76 @@ public class DefaultAtlasPropertyStrategyTest {
         assertNotNull(propStrategy.getAtlasConversionService());
     }
 
+    @Test
+    public void testSnapshotOrdering() throws Exception {
+        AtlasMapping mapping = AtlasTestData.generateAtlasMapping();
+        DefaultAtlasPropertyStrategy.Snapshot snapshot = propStrategy.createSnapshot(mapping);
+
+        PropertyField propField = AtlasModelFactory.createPropertyField();
+        propField.setName("dupe-string");
+        propStrategy.resolvePropertyField(snapshot, propField, AtlasTestData.generateRuntimeProperties());
+        assertEquals("uh oh", propField.getValue());
+
+        propField.setValue(null);
+        propStrategy.resolvePropertyField(snapshot, propField, new HashMap<String, Object>());
+        assertEquals("whatup", propField.getValue());
+
+        propStrategy.setPropertyOrderValue(Arrays.asList(AtlasPropertyType.RUNTIME_PROPERTIES.value(),
+                AtlasPropertyType.MAPPING_DEFINED_PROPERTIES.value()));
+        snapshot = propStrategy.createSnapshot(mapping);
+        propField.setValue(null);
+        propStrategy.resolvePropertyField(snapshot, propField, AtlasTestData.generateRuntimeProperties());
+        assertEquals("whatup", propField.getValue());
+    }
+
+    @Test
+    public void testSnapshotMappingDefined() throws Exception {
+        DefaultAtlasPropertyStrategy.Snapshot snapshot = propStrategy.createSnapshot(AtlasTestData.generateAtlasMapping());
+        for (int i = 0; i < 2; i++) {
+            PropertyField propField = AtlasModelFactory.createPropertyField();
+            propField.setName("prop-int");
+            propStrategy.resolvePropertyField(snapshot, propField, AtlasTestData.generateRuntimeProperties());
+            assertEquals(Integer.MIN_VALUE, propField.getValue());
+        }
+
+        PropertyField propField = AtlasModelFactory.createPropertyField();
+        propField.setName("prop-int");
+        propStrategy.setMappingDefinedPropertiesEnabled(false);
+        propStrategy.resolvePropertyField(snapshot, propField, AtlasTestData.generateRuntimeProperties());
+        assertNull(propField.getValue());
+    }
+
+    @Test
+    public void testSnapshotRefresh() throws Exception {
+        String name = "atlasmap.test.snapshot." + System.nanoTime();
+        DefaultAtlasPropertyStrategy.Snapshot snapshot = propStrategy.createSnapshot(AtlasTestData.generateAtlasMapping());
+        System.setProperty(name, "value");
+        try {
+            PropertyField propField = AtlasModelFactory.createPropertyField();
+            propField.setName(name);
+            propStrategy.resolvePropertyField(snapshot, propField, null);
+            assertNull(propField.getValue());
+
+            snapshot = propStrategy.createSnapshot(AtlasTestData.generateAtlasMapping());
+            propStrategy.resolvePropertyField(snapshot, propField, null);
+            assertEquals("value", propField.getValue());
+
+            propField.setValue(null);
+            propStrategy.setSystemPropertiesEnabled(false);
+            propStrategy.resolvePropertyField(snapshot, propField, null);
+            assertNull(propField.getValue());
+        } finally {
+            System.clearProperty(name);
+        }
+    }
+
+    @Test
+    public void testSnapshotEnvironment() throws Exception {
+        DefaultAtlasPropertyStrategy.Snapshot snapshot = propStrategy.createSnapshot(null);
+        PropertyField propField = AtlasModelFactory.createPropertyField();
+        propField.setName("PATH");
+        propStrategy.resolvePropertyField(snapshot, propField, null);
+        assertEquals(System.getenv("PATH"), propField.getValue());
+    }
+
 }
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.After;
@@ -154,4 +155,41 @@ public class DefaultAtlasSeparateStrategyTest {
         assertNotNull(values);
         assertTrue(values.isEmpty());
     }
+
+    @Test
+    public void testSeparateFastPathsMatchRegexSplit() {
+        String[] delimiters = {"\\s+", "\\s", ",", ":", "::", ", ", "[,;]", "\\|"};
+        String[] inputs = {"a b  c", " a\tb\n", "a,b,,c,,", ",a:b::c:", "a::b:::c", "a, b,c, ", "a;b,c", "a|b||c", "abc",
+            "   ", ",,,"};
+        int[] limits = {512, 1, 2, 3, 0, -1};
+        for (String delimiter : delimiters) {
+            for (String input : inputs) {
+                for (int limit : limits) {
+                    assertEquals(String.format("'%s' by '%s' limit %s", input, delimiter, limit),
+                            Arrays.asList(input.split(delimiter, limit)),
+                            separate.separateValue(input, delimiter, limit));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSeparateIntoSlots() {
+        String[] slots = new String[2];
+        assertEquals(2, separate.separateValue("a b c d", null, slots));
+        assertEquals("a", slots[0]);
+        assertEquals("b", slots[1]);
+
+        slots = new String[4];
+        assertEquals(3, separate.separateValue("a,b,c", ",", slots));
+        assertEquals("c", slots[2]);
+        assertNull(slots[3]);
+
+        separate.setLimit(2);
+        slots = new String[3];
+        assertEquals(2, separate.separateValue("a b c d", null, slots));
+        assertEquals("b c d", slots[1]);
+
+        assertEquals(0, separate.separateValue("", null, slots));
+    }
 }
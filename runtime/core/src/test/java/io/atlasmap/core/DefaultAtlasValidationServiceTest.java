@@ -26,13 +26,16 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.atlasmap.v2.Actions;
 import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.Field;
+import io.atlasmap.v2.Format;
 import io.atlasmap.v2.LookupTable;
 import io.atlasmap.v2.LookupTables;
 import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.MappingType;
+import io.atlasmap.v2.ReplaceAll;
 import io.atlasmap.validators.BaseValidatorTest;
 
 public class DefaultAtlasValidationServiceTest extends BaseValidatorTest {
@@ -178,6 +181,30 @@ public class DefaultAtlasValidationServiceTest extends BaseValidatorTest {
         assertFalse(validationHelper.hasInfos());
     }
 
+    @Test
+    public void testValidateFieldActionPatterns() throws Exception {
+        AtlasMapping mapping = getAtlasMappingFullValid();
+        Field inputField = ((Mapping) mapping.getMappings().getMapping().get(0)).getInputField().get(0);
+        inputField.setActions(new Actions());
+        ReplaceAll replaceAll = new ReplaceAll();
+        replaceAll.setMatch("[a-z");
+        inputField.getActions().getActions().add(replaceAll);
+        Format format = new Format();
+        format.setTemplate("%s and %s");
+        inputField.getActions().getActions().add(format);
+
+        validations.addAll(validationService.validateMapping(mapping));
+        assertTrue(validationHelper.hasErrors());
+        assertTrue(validations.stream().anyMatch(v -> v.getMessage().startsWith("ReplaceAll action has an invalid pattern '[a-z'")));
+        assertTrue(validations.stream().anyMatch(v -> v.getMessage().startsWith("Format action has an invalid template '%s and %s'")));
+
+        validations.clear();
+        replaceAll.setMatch("[a-z]+");
+        format.setTemplate("%s and more");
+        validations.addAll(validationService.validateMapping(mapping));
+        assertFalse(validationHelper.hasErrors());
+    }
+
     @Test
     public void testAtlasMappingUtil() throws Exception {
         Files.createDirectories(Paths.get("target/mappings"));
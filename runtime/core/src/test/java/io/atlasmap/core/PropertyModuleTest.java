@@ -13,6 +13,8 @@ import org.junit.Test;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.FieldType;
 import io.atlasmap.v2.MockField;
 import io.atlasmap.v2.PropertyField;
@@ -53,6 +55,36 @@ public class PropertyModuleTest {
         module.processSourceFieldMapping(session);
     }
 
+    @Test
+    public void testProcessSourceFieldMappingWithSnapshot() throws AtlasException {
+        PropertyModule snapshotModule = new PropertyModule(new DefaultAtlasPropertyStrategy());
+        AtlasMapping mapping = AtlasTestData.generateAtlasMapping();
+        snapshotModule.refreshProperties(mapping);
+
+        PropertyField field = AtlasModelFactory.createPropertyField();
+        field.setName("dupe-string");
+        Head head = mock(Head.class);
+        when(head.getSourceField()).thenReturn(field);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(head);
+        when(session.getMapping()).thenReturn(mapping);
+        when(session.getProperties()).thenReturn(AtlasTestData.generateRuntimeProperties());
+
+        snapshotModule.processSourceFieldMapping(session);
+        assertEquals("uh oh", field.getValue());
+
+        mapping.getProperties().getProperty().clear();
+        when(session.getProperties()).thenReturn(null);
+        field.setValue(null);
+        snapshotModule.processSourceFieldMapping(session);
+        assertEquals("whatup", field.getValue());
+
+        snapshotModule.refreshProperties(mapping);
+        field.setValue(null);
+        snapshotModule.processSourceFieldMapping(session);
+        assertNull(field.getValue());
+    }
+
     @Test
     public void testProcessPostSourceExecution() throws AtlasException {
         module.processPostSourceExecution(null);
@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
+
+public class ReloadableAtlasContextTest {
+
+    private DefaultAtlasContextFactory factory;
+    private Path mappingFile;
+    private ReloadableAtlasContext context;
+
+    @Before
+    public void setUp() throws Exception {
+        factory = new DefaultAtlasContextFactory();
+        factory.init();
+        mappingFile = Files.createTempFile("atlasmapping", ".xml");
+        Files.copy(Paths.get("src/test/resources/atlasmapping.xml"), mappingFile,
+                StandardCopyOption.REPLACE_EXISTING);
+        context = factory.createReloadableContext(mappingFile.toUri(), AtlasMappingFormat.XML, 0);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        context.close();
+        factory.destroy();
+        Files.deleteIfExists(mappingFile);
+    }
+
+    @Test
+    public void testReloadSwapsContext() throws Exception {
+        assertEquals(1L, context.getMappingVersion());
+        assertEquals("testname", context.getMappingName());
+        assertNotNull(context.getJmxObjectName());
+        DefaultAtlasContext first = context.getCurrentContext();
+        ObjectName firstJmx = first.getJmxObjectName();
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(firstJmx));
+
+        writeMapping("reloaded");
+        context.reload();
+        assertEquals(2L, context.getMappingVersion());
+        assertEquals(1L, context.getReloadCount());
+        assertEquals("reloaded", context.getMappingName());
+        assertNotEquals(first.getUuid(), context.getCurrentContextUuid());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(firstJmx));
+        assertEquals(0, context.getRetiredContextCount());
+    }
+
+    @Test
+    public void testInFlightSessionKeepsContext() throws Exception {
+        AtlasSession oldSession = context.createSession();
+        DefaultAtlasContext first = context.getCurrentContext();
+        assertSame(first, oldSession.getAtlasContext());
+
+        // oldSession is being processed while the mapping is swapped
+        context.enter(oldSession);
+        writeMapping("reloaded");
+        context.reload();
+        AtlasSession newSession = context.createSession();
+        assertSame(context.getCurrentContext(), newSession.getAtlasContext());
+        assertEquals("testname", oldSession.getMapping().getName());
+        assertEquals("reloaded", newSession.getMapping().getName());
+        assertEquals(1, context.getRetiredContextCount());
+        assertFalse(first.isClosed());
+
+        first.processValidation(oldSession);
+        context.exit(first);
+        assertEquals(Integer.valueOf(0), oldSession.errorCount());
+        assertTrue(first.isClosed());
+        assertEquals(0, context.getRetiredContextCount());
+
+        context.processValidation(newSession);
+        assertEquals(Integer.valueOf(0), newSession.errorCount());
+    }
+
+    @Test
+    public void testSessionOfReplacedContext() throws Exception {
+        AtlasSession oldSession = context.createSession();
+        DefaultAtlasContext first = context.getCurrentContext();
+        writeMapping("reloaded");
+        context.reload();
+        assertTrue(first.isClosed());
+        try {
+            context.processValidation(oldSession);
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("replaced mapping version"));
+        }
+    }
+
+    @Test
+    public void testRejectInvalidMapping() throws Exception {
+        DefaultAtlasContext first = context.getCurrentContext();
+        writeMapping("invalid name");
+        try {
+            context.reload();
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("validation errors"));
+        }
+        assertSame(first, context.getCurrentContext());
+        assertEquals(1L, context.getMappingVersion());
+        assertEquals(1L, context.getReloadFailureCount());
+        assertEquals(1, context.getGenerationCount());
+        assertEquals(1, factory.getLiveContextCount());
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(first.getJmxObjectName()));
+    }
+
+    @Test
+    public void testReloadIfModified() throws Exception {
+        assertFalse(context.reloadIfModified());
+        writeMapping("reloaded");
+        File file = mappingFile.toFile();
+        file.setLastModified(file.lastModified() + 10000L);
+        assertTrue(context.reloadIfModified());
+        assertEquals(2L, context.getMappingVersion());
+        assertFalse(context.reloadIfModified());
+    }
+
+    @Test
+    public void testReloadReleasesReplacedContexts() throws Exception {
+        WeakReference<DefaultAtlasContext> first = new WeakReference<>(context.getCurrentContext());
+        for (int i = 0; i < 20; i++) {
+            writeMapping("reloaded" + i);
+            context.reload();
+            context.processValidation(context.createSession());
+        }
+        assertEquals(21L, context.getMappingVersion());
+        assertEquals(0, context.getRetiredContextCount());
+
+        for (int i = 0; i < 50 && (first.get() != null || context.getGenerationCount() > 1); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(first.get());
+        assertEquals(1, context.getGenerationCount());
+    }
+
+    @Test
+    public void testProcessAfterClose() throws Exception {
+        AtlasSession session = context.createSession();
+        context.close();
+        try {
+            context.process(session);
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertEquals("AtlasContext has been closed", e.getMessage());
+        }
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testProcessForeignSession() throws Exception {
+        DefaultAtlasContext other = (DefaultAtlasContext) factory
+                .createContext(Paths.get("src/test/resources/atlasmapping.xml").toUri());
+        context.process(other.createSession());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        ObjectName jmx = context.getJmxObjectName();
+        DefaultAtlasContext current = context.getCurrentContext();
+        ObjectName currentJmx = current.getJmxObjectName();
+        context.close();
+        assertTrue(current.isClosed());
+        assertNull(context.getJmxObjectName());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(jmx));
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(currentJmx));
+    }
+
+    private void writeMapping(String name) throws Exception {
+        String xml = new String(Files.readAllBytes(Paths.get("src/test/resources/atlasmapping.xml")),
+                StandardCharsets.UTF_8).replace("name=\"testname\"", "name=\"" + name + "\"");
+        Files.write(mappingFile, xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Actions;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.ConstantField;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.GenerateUUID;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+import io.atlasmap.v2.PadStringLeft;
+import io.atlasmap.v2.SimpleField;
+import io.atlasmap.v2.Uppercase;
+
+public class SharedSourceReadsTest {
+
+    private DefaultAtlasFieldActionService fieldActionService =
+            new DefaultAtlasFieldActionService(DefaultAtlasConversionService.getInstance());
+
+    @Test
+    public void testCompile() {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        Field plain1 = addMapping(mapping, "/name", null);
+        Field plain2 = addMapping(mapping, "/name", null);
+        Field upper1 = addMapping(mapping, "/name", new Uppercase());
+        Field upper2 = addMapping(mapping, "/name", new Uppercase());
+        Field single = addMapping(mapping, "/other", null);
+
+        SharedSourceReads reads = SharedSourceReads.compile(mapping, fieldActionService);
+        assertEquals(4, reads.size());
+        assertNotNull(reads.getReadKey(plain1));
+        assertEquals(reads.getReadKey(plain1), reads.getReadKey(plain2));
+        assertNotNull(reads.getReadKey(upper1));
+        assertEquals(reads.getReadKey(upper1), reads.getReadKey(upper2));
+        assertTrue(!reads.getReadKey(plain1).equals(reads.getReadKey(upper1)));
+        assertNull(reads.getReadKey(single));
+    }
+
+    @Test
+    public void testCompileActionParameters() {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        PadStringLeft pad1 = new PadStringLeft();
+        pad1.setPadCharacter("0");
+        pad1.setPadCount(5);
+        PadStringLeft pad2 = new PadStringLeft();
+        pad2.setPadCharacter("0");
+        pad2.setPadCount(6);
+        Field field1 = addMapping(mapping, "/name", pad1);
+        Field field2 = addMapping(mapping, "/name", pad2);
+
+        SharedSourceReads reads = SharedSourceReads.compile(mapping, fieldActionService);
+        assertNull(reads.getReadKey(field1));
+        assertNull(reads.getReadKey(field2));
+        assertTrue(reads.isEmpty());
+    }
+
+    @Test
+    public void testCompileSkipsDynamicActionsAndConstants() {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        addMapping(mapping, "/name", new GenerateUUID());
+        addMapping(mapping, "/name", new GenerateUUID());
+        for (int i = 0; i < 2; i++) {
+            Mapping m = AtlasModelFactory.createMapping(MappingType.MAP);
+            ConstantField constant = new ConstantField();
+            constant.setPath("/constant");
+            constant.setValue("foo");
+            m.getInputField().add(constant);
+            mapping.getMappings().getMapping().add(m);
+        }
+        assertTrue(SharedSourceReads.compile(mapping, fieldActionService).isEmpty());
+        assertTrue(SharedSourceReads.compile(null, fieldActionService).isEmpty());
+    }
+
+    private Field addMapping(AtlasMapping mapping, String path, Action action) {
+        Mapping m = AtlasModelFactory.createMapping(MappingType.MAP);
+        Field field = new SimpleField();
+        field.setPath(path);
+        field.setFieldType(FieldType.STRING);
+        if (action != null) {
+            field.setActions(new Actions());
+            field.getActions().getActions().add(action);
+        }
+        m.getInputField().add(field);
+        mapping.getMappings().getMapping().add(m);
+        return field;
+    }
+}
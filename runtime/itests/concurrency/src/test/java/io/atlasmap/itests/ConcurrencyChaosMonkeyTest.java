@@ -60,8 +60,7 @@ public class ConcurrencyChaosMonkeyTest {
 
                     for (int j = 0; j < 100000; j++) {
 
-                        try {
-                            AtlasContext context = atlasContextFactory.createContext(mappingURI);
+                        try (AtlasContext context = atlasContextFactory.createContext(mappingURI)) {
                             AtlasSession session = context.createSession();
                             session.setDefaultSourceDocument(twitterStatus);
                             context.process(session);
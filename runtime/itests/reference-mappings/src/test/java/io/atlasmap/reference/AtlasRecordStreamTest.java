@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.reference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.AtlasRecordStreamProcessor;
+import io.atlasmap.core.DefaultAtlasContext;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.json.core.JsonRecordReader;
+import io.atlasmap.json.core.JsonRecordWriter;
+import io.atlasmap.json.v2.AtlasJsonModelFactory;
+import io.atlasmap.json.v2.JsonField;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Actions;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+import io.atlasmap.v2.Uppercase;
+import io.atlasmap.xml.core.XmlRecordReader;
+import io.atlasmap.xml.core.XmlRecordWriter;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlField;
+
+public class AtlasRecordStreamTest extends AtlasMappingBaseTest {
+
+    @Test
+    public void testJsonRecordStream() throws Exception {
+        AtlasMapping mapping = createMapping("atlas:json");
+        addMapping(mapping, jsonField("/name"), jsonField("/fullName"), new Uppercase());
+        addMapping(mapping, jsonField("/id"), jsonField("/orderId"));
+        DefaultAtlasContext context = (DefaultAtlasContext) DefaultAtlasContextFactory.getInstance().createContext(mapping);
+
+        String source = "[{\"id\":\"1\",\"name\":\"foo\"},{\"id\":\"2\",\"name\":\"bar\"}]";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        try (JsonRecordReader reader = new JsonRecordReader(stream(source));
+                JsonRecordWriter writer = new JsonRecordWriter(out)) {
+            assertEquals(2, processor.process(reader, writer));
+        }
+        assertEquals("[{\"fullName\":\"FOO\",\"orderId\":\"1\"},{\"fullName\":\"BAR\",\"orderId\":\"2\"}]",
+                new String(out.toByteArray(), StandardCharsets.UTF_8).replaceAll("\\s", ""));
+        assertEquals(0, processor.getFailedCount());
+    }
+
+    @Test
+    public void testXmlRecordStream() throws Exception {
+        AtlasMapping mapping = createMapping("atlas:xml");
+        addMapping(mapping, xmlField("/order/item"), xmlField("/line/name"), new Uppercase());
+        addMapping(mapping, xmlField("/order/@id"), xmlField("/line/@orderId"));
+        DefaultAtlasContext context = (DefaultAtlasContext) DefaultAtlasContextFactory.getInstance().createContext(mapping);
+
+        String source = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><orders>"
+                + "<order id=\"1\"><item>foo</item></order><summary>skipped</summary>"
+                + "<order id=\"2\"><item>bar</item></order></orders>";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        try (XmlRecordReader reader = new XmlRecordReader(stream(source), "order");
+                XmlRecordWriter writer = new XmlRecordWriter(out, "lines")) {
+            assertEquals(2, processor.process(reader, writer));
+        }
+        String target = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(target, target.contains("<line orderId=\"1\"><name>FOO</name></line>"));
+        assertTrue(target, target.contains("<line orderId=\"2\"><name>BAR</name></line>"));
+        assertTrue(target, target.endsWith("</lines>"));
+    }
+
+    @Test
+    public void testRecordStreamOnClosedContext() throws Exception {
+        AtlasMapping mapping = createMapping("atlas:json");
+        addMapping(mapping, jsonField("/name"), jsonField("/fullName"), new Uppercase());
+        DefaultAtlasContext context = (DefaultAtlasContext) DefaultAtlasContextFactory.getInstance().createContext(mapping);
+        AtlasRecordStreamProcessor processor = new AtlasRecordStreamProcessor(context);
+        context.createSession();
+        context.close();
+        try (JsonRecordReader reader = new JsonRecordReader(stream("[{\"name\":\"foo\"}]"));
+                JsonRecordWriter writer = new JsonRecordWriter(new ByteArrayOutputStream())) {
+            processor.process(reader, writer);
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertEquals("AtlasContext has been closed", e.getMessage());
+        }
+    }
+
+    private AtlasMapping createMapping(String uri) {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        mapping.setName("AtlasRecordStreamTest");
+        for (DataSourceType type : DataSourceType.values()) {
+            DataSource ds = new DataSource();
+            ds.setUri(uri);
+            ds.setDataSourceType(type);
+            mapping.getDataSource().add(ds);
+        }
+        return mapping;
+    }
+
+    private void addMapping(AtlasMapping atlasMapping, Field input, Field output, Action... actions) {
+        Mapping mapping = AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getInputField().add(input);
+        mapping.getOutputField().add(output);
+        if (actions.length > 0) {
+            output.setActions(new Actions());
+            output.getActions().getActions().addAll(Arrays.asList(actions));
+        }
+        atlasMapping.getMappings().getMapping().add(mapping);
+    }
+
+    private JsonField jsonField(String path) {
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath(path);
+        field.setFieldType(FieldType.STRING);
+        return field;
+    }
+
+    private XmlField xmlField(String path) {
+        XmlField field = AtlasXmlModelFactory.createXmlField();
+        field.setPath(path);
+        field.setFieldType(FieldType.STRING);
+        return field;
+    }
+
+    private ByteArrayInputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -94,6 +94,42 @@ public class JavaJavaComplexTest extends AtlasMappingBaseTest {
         assertNull(object.getContact().getFirstName());
     }
 
+    @Test
+    public void testProcessComplexBasicLazyConstruct() throws Exception {
+        AtlasContext context = atlasContextFactory
+                .createContext(new File("src/test/resources/javaToJava/atlasmapping-complex-simple-lazy.xml").toURI());
+        AtlasSession session = context.createSession();
+        BaseOrder sourceOrder = AtlasTestUtil.generateOrderClass(SourceOrder.class, SourceAddress.class,
+                SourceContact.class);
+        session.setDefaultSourceDocument(sourceOrder);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        TargetTestClass object = (TargetTestClass) session.getDefaultTargetDocument();
+        assertEquals(TargetContact.class.getName(), object.getContact().getClass().getName());
+        assertEquals("Ozzie", object.getContact().getFirstName());
+        assertEquals(sourceOrder.getAddress().getCity(), object.getAddress().getCity());
+        assertNull(object.getOrder());
+        assertNull(object.getListOrders());
+    }
+
+    @Test
+    public void testProcessComplexBasicLazyConstructNullContact() throws Exception {
+        AtlasContext context = atlasContextFactory
+                .createContext(new File("src/test/resources/javaToJava/atlasmapping-complex-simple-lazy.xml").toURI());
+        AtlasSession session = context.createSession();
+        BaseOrder sourceOrder = AtlasTestUtil.generateOrderClass(SourceOrder.class, SourceAddress.class,
+                SourceContact.class);
+        sourceOrder.setContact(null);
+        session.setDefaultSourceDocument(sourceOrder);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        TargetTestClass object = (TargetTestClass) session.getDefaultTargetDocument();
+        assertNull(object.getContact());
+        assertNotNull(object.getAddress());
+    }
+
     @Test
     public void testProcessCollectionList() throws Exception {
         AtlasContext context = atlasContextFactory
@@ -15,6 +15,7 @@
  */
 package io.atlasmap.reference.xml_to_java;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -24,9 +25,12 @@ import org.junit.Test;
 
 import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasMappingService.AtlasMappingFormat;
+import io.atlasmap.core.DefaultAtlasContextFactory;
 import io.atlasmap.java.test.TargetOrder;
 import io.atlasmap.reference.AtlasMappingBaseTest;
 import io.atlasmap.reference.AtlasTestUtil;
+import io.atlasmap.v2.AtlasMapping;
 
 public class XmlJavaComplexTest extends AtlasMappingBaseTest {
 
@@ -47,6 +51,28 @@ public class XmlJavaComplexTest extends AtlasMappingBaseTest {
         AtlasTestUtil.validateOrder((TargetOrder) object);
     }
 
+    @Test
+    public void testProcessXmlJavaComplexOrderCompiled() throws Exception {
+        DefaultAtlasContextFactory factory = (DefaultAtlasContextFactory) atlasContextFactory;
+        AtlasMapping mapping = factory.getMappingService().loadMapping(
+                new File("src/test/resources/xmlToJava/atlasmapping-complex-order-autodetect-attribute.xml"));
+        File compiled = new File("target/atlasmapping-complex-order-autodetect-attribute.atlasmap");
+        factory.getMappingService().saveMappingAsFile(mapping, compiled, AtlasMappingFormat.COMPILED);
+
+        AtlasContext context = factory.createContext(compiled, AtlasMappingFormat.COMPILED);
+        AtlasSession session = context.createSession();
+        String sourceXml = AtlasTestUtil
+                .loadFileAsString("src/test/resources/xmlToJava/atlas-xml-complex-order-autodetect-attribute.xml");
+        session.setDefaultSourceDocument(sourceXml);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        Object object = session.getDefaultTargetDocument();
+        assertNotNull(object);
+        assertTrue(object instanceof TargetOrder);
+        AtlasTestUtil.validateOrder((TargetOrder) object);
+    }
+
     @Test
     public void testProcessXmlJavaComplexOrderAutodetectAttributeNS() throws Exception {
         AtlasContext context = atlasContextFactory.createContext(
@@ -1,9 +1,16 @@
 package io.atlasmap.java.core;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.LoggerFactory;
 
@@ -22,8 +29,20 @@ import io.atlasmap.v2.Field;
 public class DocumentJavaFieldReader implements AtlasFieldReader {
     private static final org.slf4j.Logger LOG = LoggerFactory.getLogger(DocumentJavaFieldReader.class);
 
+    /** Member field getters per class and field name, a missing field is cached as {@link #NO_MEMBER_FIELD}. */
+    private static final ClassValue<Map<String, MethodHandle>> MEMBER_FIELD_GETTERS
+            = new ClassValue<Map<String, MethodHandle>>() {
+                @Override
+                protected Map<String, MethodHandle> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final MethodHandle NO_MEMBER_FIELD = MethodHandles.constant(Object.class, null);
+    private static final MethodType MEMBER_FIELD_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
     private AtlasConversionService conversionService;
     private Object sourceDocument;
+    private final Map<String, Object> parentObjects = new HashMap<>();
 
     @Override
     public void read(AtlasInternalSession session) throws AtlasException {
@@ -62,7 +81,7 @@ public class DocumentJavaFieldReader implements AtlasFieldReader {
         Object parentObject = source;
         AtlasPath atlasPath = new AtlasPath(field.getPath());
         if (atlasPath.hasParent()) {
-            parentObject = ClassHelper.parentObjectForPath(source, atlasPath, true);
+            parentObject = parentObjectForPath(source, field.getPath(), atlasPath);
         }
         getter = (getter == null) ? resolveGetMethod(parentObject, field, (!parentObject.equals(source))) : getter;
 
@@ -76,12 +95,27 @@ public class DocumentJavaFieldReader implements AtlasFieldReader {
             sourceValue = getValueFromMemberField(source, atlasPath.getLastSegment());
         }
 
-        if (sourceValue != null && (conversionService.isPrimitive(sourceValue.getClass())
-                || conversionService.isBoxedPrimitive(sourceValue.getClass()))) {
-            sourceValue = conversionService.copyPrimitive(sourceValue);
+        field.setValue(sourceValue);
+    }
+
+    /**
+     * Resolves the parent object of the field, sibling fields reuse the object resolved for the first one.
+     */
+    private Object parentObjectForPath(Object source, String path, AtlasPath atlasPath) throws AtlasException {
+        // an indexed last segment changes how the parent collections are unwrapped
+        String lastSegment = atlasPath.getLastSegment();
+        if (source != sourceDocument
+                || (AtlasPath.isCollectionSegment(lastSegment) && AtlasPath.indexOfSegment(lastSegment) != null)) {
+            return ClassHelper.parentObjectForPath(source, atlasPath, true);
         }
 
-        field.setValue(sourceValue);
+        String parentPath = path.substring(0, path.lastIndexOf(AtlasPath.PATH_SEPARATOR));
+        Object parentObject = parentObjects.get(parentPath);
+        if (parentObject == null && !parentObjects.containsKey(parentPath)) {
+            parentObject = ClassHelper.parentObjectForPath(source, atlasPath, true);
+            parentObjects.put(parentPath, parentObject);
+        }
+        return parentObject;
     }
 
     private Method resolveGetMethod(Object sourceObject, Field field, boolean objectIsParent)
@@ -91,7 +125,7 @@ public class DocumentJavaFieldReader implements AtlasFieldReader {
         Method getter = null;
 
         if (atlasPath.hasParent() && !objectIsParent) {
-            parentObject = ClassHelper.parentObjectForPath(sourceObject, atlasPath, true);
+            parentObject = parentObjectForPath(sourceObject, field.getPath(), atlasPath);
         }
         if (parentObject == null) {
             return null;
@@ -125,15 +159,43 @@ public class DocumentJavaFieldReader implements AtlasFieldReader {
     }
 
     private Object getValueFromMemberField(Object source, String fieldName) throws Exception {
+        Map<String, MethodHandle> getters = MEMBER_FIELD_GETTERS.get(source.getClass());
+        MethodHandle getter = getters.get(fieldName);
+        if (getter == null) {
+            getter = resolveMemberFieldGetter(source.getClass(), fieldName);
+            getters.put(fieldName, getter);
+        }
+        if (getter == NO_MEMBER_FIELD) {
+            return null;
+        }
+
+        try {
+            return (Object) getter.invokeExact(source);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new AtlasException(t);
+        }
+    }
+
+    private static MethodHandle resolveMemberFieldGetter(Class<?> clazz, String fieldName) {
         try {
-            java.lang.reflect.Field reflectField = source.getClass().getField(fieldName);
+            java.lang.reflect.Field reflectField = clazz.getField(fieldName);
             reflectField.setAccessible(true);
-            return reflectField.get(source);
-        } catch (NoSuchFieldException nsfe) {
-            // TODO: Add audit entry
-            LOG.error(nsfe.getMessage(), nsfe);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(reflectField);
+            if (Modifier.isStatic(reflectField.getModifiers())) {
+                return MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0,
+                        Object.class);
+            }
+            return getter.asType(MEMBER_FIELD_GETTER_TYPE);
+        } catch (NoSuchFieldException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("No public member field '{}' on class {}", fieldName, clazz.getName());
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            LOG.warn("Unable to access member field '{}' on class {}: {}", fieldName, clazz.getName(), e.getMessage());
         }
-        return null;
+        return NO_MEMBER_FIELD;
     }
 
     private List<Class<?>> resolveMappableClasses(Class<?> className) {
@@ -165,6 +227,7 @@ public class DocumentJavaFieldReader implements AtlasFieldReader {
 
     public void setDocument(Object sourceDocument) {
         this.sourceDocument = sourceDocument;
+        this.parentObjects.clear();
     }
 
     public void setConversionService(AtlasConversionService conversionService) {
@@ -4,6 +4,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -21,9 +22,12 @@ import io.atlasmap.java.v2.JavaEnumField;
 import io.atlasmap.java.v2.JavaField;
 import io.atlasmap.spi.AtlasFieldWriter;
 import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.BaseMapping;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldType;
 import io.atlasmap.v2.LookupTable;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
 
 public class DocumentJavaFieldWriter implements AtlasFieldWriter {
     private static final org.slf4j.Logger LOG = LoggerFactory.getLogger(DocumentJavaFieldWriter.class);
@@ -33,6 +37,7 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
     private JavaWriterUtil writerUtil = new JavaWriterUtil(DefaultAtlasConversionService.getInstance());
     private List<String> processedPaths = new LinkedList<>();
     private TargetValueConverter converter;
+    private boolean lazyConstruction = false;
 
     public void write(AtlasInternalSession session) throws AtlasException {
         LookupTable lookupTable = session.head().getLookupTable();
@@ -57,6 +62,16 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
             processedPaths.add(targetField.getPath());
 
             AtlasPath path = new AtlasPath(targetField.getPath());
+            if (lazyConstruction && sourceField != null && sourceField.getValue() == null
+                    && !FieldType.COMPLEX.equals(targetField.getFieldType()) && !parentExists(targetField, path)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Null value for unconstructed parent, skipping field: " + targetField.getPath());
+                }
+                // still let the converter audit the null value
+                converter.convert(session, lookupTable, sourceField, null, targetField);
+                return;
+            }
+
             Object parentObject = rootObject;
             boolean segmentIsComplexSegment = true;
             for (SegmentContext segmentContext : path.getSegmentContexts(true)) {
@@ -70,7 +85,7 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Creating root node: " + segmentContext);
                         }
-                        rootObject = createParentObject(targetField, parentObject, segmentContext);
+                        rootObject = createParentObject(session, targetField, parentObject, segmentContext);
                     } else {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Root node already exists, skipping segment: " + segmentContext);
@@ -106,12 +121,13 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
                     Object childObject = findChildObject(targetField, segmentContext, parentObject);
 
                     if (childObject == null) {
-                        childObject = createParentObject(targetField, parentObject, segmentContext);
+                        childObject = createParentObject(session, targetField, parentObject, segmentContext);
                     }
                     parentObject = childObject;
                 } else { // processing field value
                     if (AtlasPath.isCollectionSegment(segmentContext.getSegment())) {
-                        parentObject = findOrCreateOrExpandParentCollectionObject(targetField, parentObject, segmentContext);
+                        parentObject = findOrCreateOrExpandParentCollectionObject(session, targetField, parentObject,
+                                segmentContext);
                     }
                     Object value = converter.convert(session, lookupTable, sourceField, parentObject, targetField);
                     addChildObject(targetField, segmentContext, parentObject, value);
@@ -172,8 +188,26 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
         return childObject;
     }
 
-    private Object createParentObject(Field field, Object parentObject, SegmentContext segmentContext)
-            throws AtlasException {
+    private boolean parentExists(Field field, AtlasPath path) throws AtlasException {
+        Object parentObject = rootObject;
+        for (SegmentContext segmentContext : path.getSegmentContexts(true)) {
+            if (parentObject == null) {
+                return false;
+            }
+            if ("/".equals(segmentContext.getSegmentPath())) {
+                continue;
+            }
+            if (segmentContext.getNext() == null) {
+                return !AtlasPath.isCollectionSegment(segmentContext.getSegment())
+                        || writerUtil.getObjectFromParent(field, parentObject, segmentContext) != null;
+            }
+            parentObject = findChildObject(field, segmentContext, parentObject);
+        }
+        return parentObject != null;
+    }
+
+    private Object createParentObject(AtlasInternalSession session, Field field, Object parentObject,
+            SegmentContext segmentContext) throws AtlasException {
         String segment = segmentContext.getSegment();
         if (LOG.isDebugEnabled()) {
             LOG.debug("Creating parent object: " + segmentContext);
@@ -184,7 +218,8 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Looking for collection wrapper child for " + segmentContext + " on parent: " + parentObject);
             }
-            Object collectionObject = findOrCreateOrExpandParentCollectionObject(field, parentObject, segmentContext);
+            Object collectionObject = findOrCreateOrExpandParentCollectionObject(session, field, parentObject,
+                    segmentContext);
             childObject = getCollectionItem(collectionObject, segmentContext);
 
             if (childObject == null) {
@@ -210,8 +245,8 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
         return childObject;
     }
 
-    private Object findOrCreateOrExpandParentCollectionObject(Field field, Object parentObject,
-            SegmentContext segmentContext) throws AtlasException {
+    private Object findOrCreateOrExpandParentCollectionObject(AtlasInternalSession session, Field field,
+            Object parentObject, SegmentContext segmentContext) throws AtlasException {
         String segment = segmentContext.getSegment();
         // first, let's see if we have the collection object at all
         if (LOG.isDebugEnabled()) {
@@ -223,7 +258,8 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
                 LOG.debug("Cannot find pre-existing child collection for segment '" + segment
                         + "', creating the collection.");
             }
-            collectionObject = createCollectionWrapperObject(field, segmentContext, parentObject);
+            int sizeHint = lazyConstruction ? getCollectionSizeHint(session, field, segmentContext) : 0;
+            collectionObject = createCollectionWrapperObject(field, segmentContext, parentObject, sizeHint);
         }
 
         if (LOG.isDebugEnabled()) {
@@ -273,13 +309,19 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
         return collectionObject;
     }
 
-    private Object createCollectionWrapperObject(Field field, SegmentContext segmentContext, Object parentObject)
-            throws AtlasException {
+    private Object createCollectionWrapperObject(Field field, SegmentContext segmentContext, Object parentObject,
+            int sizeHint) throws AtlasException {
         // create the "List" part of List<Contact>
         String segment = segmentContext.getSegment();
         if (AtlasPath.isArraySegment(segment)) {
+            if (sizeHint > AtlasPath.indexOfSegment(segment) + 1) {
+                return Array.newInstance(getClassForField(field, segmentContext, parentObject, true), sizeHint);
+            }
             return createObject(field, segmentContext, parentObject, true);
         } else if (AtlasPath.isListSegment(segment)) {
+            if (sizeHint > 0 && acceptsArrayList(parentObject, segmentContext)) {
+                return new ArrayList<>(sizeHint);
+            }
             // TODO: look up field level or document level default list impl
             return writerUtil.instantiateObject(LinkedList.class, segmentContext, false);
         } else if (AtlasPath.isMapSegment(segment)) {
@@ -289,6 +331,57 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
         throw new AtlasException("Can't create collection object for segment: " + segment);
     }
 
+    private boolean acceptsArrayList(Object parentObject, SegmentContext segmentContext) {
+        try {
+            String methodName = "get"
+                    + JavaWriterUtil.capitalizeFirstLetter(AtlasPath.cleanPathSegment(segmentContext.getSegment()));
+            return ClassHelper.detectGetterMethod(parentObject.getClass(), methodName).getReturnType()
+                    .isAssignableFrom(ArrayList.class);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Looks up the number of items the collection mappings will write into the collection of the given segment,
+     * so that the collection can be created at its final size instead of being expanded item by item.
+     */
+    private int getCollectionSizeHint(AtlasInternalSession session, Field field, SegmentContext segmentContext) {
+        if (session.getMapping() == null || session.getMapping().getMappings() == null) {
+            return 0;
+        }
+        String segmentPath = segmentContext.getSegmentPath();
+        String parentPath = segmentPath.substring(0, segmentPath.lastIndexOf(AtlasPath.PATH_SEPARATOR) + 1);
+        String segmentName = AtlasPath.cleanPathSegment(segmentContext.getSegment());
+        int sizeHint = 0;
+        for (BaseMapping baseMapping : session.getMapping().getMappings().getMapping()) {
+            if (!MappingType.COLLECTION.equals(baseMapping.getMappingType())
+                    || ((io.atlasmap.v2.Collection) baseMapping).getMappings() == null) {
+                continue;
+            }
+            for (BaseMapping itemMapping : ((io.atlasmap.v2.Collection) baseMapping).getMappings().getMapping()) {
+                if (!(itemMapping instanceof Mapping)) {
+                    continue;
+                }
+                for (Field outputField : ((Mapping) itemMapping).getOutputField()) {
+                    String outputPath = outputField.getPath();
+                    if (outputPath == null || !outputPath.startsWith(parentPath)
+                            || (field.getDocId() != null && !field.getDocId().equals(outputField.getDocId()))) {
+                        continue;
+                    }
+                    int end = outputPath.indexOf(AtlasPath.PATH_SEPARATOR, parentPath.length());
+                    String segment = end < 0 ? outputPath.substring(parentPath.length())
+                            : outputPath.substring(parentPath.length(), end);
+                    Integer index = AtlasPath.isCollectionSegment(segment) ? AtlasPath.indexOfSegment(segment) : null;
+                    if (index != null && segmentName.equals(AtlasPath.cleanPathSegment(segment))) {
+                        sizeHint = Math.max(sizeHint, index + 1);
+                    }
+                }
+            }
+        }
+        return sizeHint;
+    }
+
     private Class<?> getClassForField(Field field, SegmentContext segmentContext, Object parentObject,
             boolean unwrapCollectionType) throws AtlasException {
         if (LOG.isDebugEnabled()) {
@@ -300,7 +393,10 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
             LOG.debug("Looking for configured class for field: " + field + ".");
         }
         String className = null;
-        if (field instanceof JavaField) {
+        if (lazyConstruction && segmentContext.getNext() != null) {
+            // the configured class belongs to the field's last segment, not to the parents created on the way
+            className = null;
+        } else if (field instanceof JavaField) {
             className = ((JavaField) field).getClassName();
         } else if (field instanceof JavaEnumField) {
             className = ((JavaEnumField) field).getClassName();
@@ -558,4 +654,19 @@ public class DocumentJavaFieldWriter implements AtlasFieldWriter {
         this.converter = converter;
     }
 
+    public boolean isLazyConstruction() {
+        return lazyConstruction;
+    }
+
+    /**
+     * When enabled, null values are not written below parent objects that don't exist yet, so intermediate
+     * objects are only created for the first non-null value, and collections are created at the size of the
+     * collection mappings that fill them.
+     *
+     * @param lazyConstruction true to enable lazy construction
+     */
+    public void setLazyConstruction(boolean lazyConstruction) {
+        this.lazyConstruction = lazyConstruction;
+    }
+
 }
@@ -56,7 +56,7 @@ class JavaWriterUtil {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Instantiating object for class '" + clz.getName() + "', segment: " + segmentContext);
             }
-            return clz.newInstance();
+            return ClassHelper.newInstance(clz);
         } catch (Exception e) {
             throw new AtlasException(
                     "Could not instantiate class: " + clz.getName() + ", segment: " + segmentContext.getSegmentPath(),
@@ -48,9 +48,8 @@ public class TargetValueConverter {
 
         if (sourceValue == null) {
             // TODO: Finish targetValue = null processing
-            AtlasUtil.addAudit(session, targetField.getDocId(), String.format(
-                    "Null sourceValue for targetDocId=%s, targetPath=%s", targetField.getDocId(), targetField.getPath()),
-                    targetField.getPath(), AuditStatus.WARN, sourceValue != null ? sourceValue.toString() : null);
+            AtlasUtil.addAudit(session, AuditStatus.WARN, targetField.getDocId(), targetField.getPath(), null,
+                    "Null sourceValue for targetDocId=%s, targetPath=%s", targetField.getDocId(), targetField.getPath());
             return null;
         }
 
@@ -15,8 +15,12 @@
  */
 package io.atlasmap.java.inspect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +30,53 @@ import io.atlasmap.core.AtlasPath;
 
 public class ClassHelper {
 
+    private static final MethodHandle NO_CONSTRUCTOR = MethodHandles.constant(Object.class, null);
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return resolveConstructor(type);
+        }
+    };
+
+    /**
+     * Instantiates the given class through its public no-arg constructor. The constructor is looked up once
+     * per class and kept as a {@link MethodHandle}, classes without an accessible one fall back to
+     * {@link Class#newInstance()} so they fail the same way as before.
+     *
+     * @param clazz class to instantiate
+     * @return new instance
+     * @throws InstantiationException if the class cannot be instantiated or its constructor fails
+     * @throws IllegalAccessException if the no-arg constructor is not accessible
+     */
+    public static Object newInstance(Class<?> clazz) throws InstantiationException, IllegalAccessException {
+        MethodHandle constructor = CONSTRUCTORS.get(clazz);
+        if (constructor == NO_CONSTRUCTOR) {
+            return clazz.newInstance();
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            InstantiationException e = new InstantiationException(clazz.getName());
+            e.initCause(t);
+            throw e;
+        }
+    }
+
+    private static MethodHandle resolveConstructor(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface()
+                || Modifier.isAbstract(clazz.getModifiers())) {
+            return NO_CONSTRUCTOR;
+        }
+        try {
+            return MethodHandles.publicLookup().findConstructor(clazz, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return NO_CONSTRUCTOR;
+        }
+    }
+
     public static List<String> getterMethodNames(String fieldName) {
         List<String> opts = new ArrayList<String>();
         opts.add(getMethodNameFromFieldName(fieldName));
@@ -60,6 +60,26 @@ public class JavaConstructService {
         return constructClassIgnoreCollection(javaClass, pathFilters);
     }
 
+    /**
+     * Instantiates only the root object of the given class. Child objects are left for the field writer to create
+     * once a value is written below them.
+     *
+     * @param className root class name
+     * @return root object
+     */
+    public Object constructRootObject(String className)
+            throws ConstructException, ClassNotFoundException, IllegalAccessException, InstantiationException {
+        if (className == null || className.trim().length() < 1) {
+            throw new ConstructInvalidException("className must be specified");
+        }
+
+        if (getConversionService().isPrimitive(className)) {
+            throw new ConstructPrimitiveException("Unable to instantiate a Java primitive: " + className);
+        }
+
+        return instantiateClass(className);
+    }
+
     private Object constructClassIgnoreCollection(JavaClass javaClass, List<String> pathFilters)
             throws ConstructException, ClassNotFoundException, IllegalAccessException, InstantiationException {
         Object targetObject = instantiateClass(javaClass.getClassName());
@@ -131,7 +151,7 @@ public class JavaConstructService {
     private Object instantiateClass(String className)
             throws ClassNotFoundException, IllegalAccessException, InstantiationException {
         Class<?> c = Class.forName(className);
-        return c.newInstance();
+        return ClassHelper.newInstance(c);
     }
 
     private Object instantiateArray(JavaClass javaClass, List<String> pathFilters)
@@ -153,7 +173,7 @@ public class JavaConstructService {
             LOG.debug(String.format("Constructing list c=%s", javaClass.getCollectionClassName()));
         }
         Class<?> collectionClass = Class.forName(javaClass.getCollectionClassName());
-        return collectionClass.newInstance();
+        return ClassHelper.newInstance(collectionClass);
     }
 
     private Object instantiateMap(JavaClass javaClass)
@@ -162,7 +182,7 @@ public class JavaConstructService {
             LOG.debug(String.format("Constructing map c=%s", javaClass.getCollectionClassName()));
         }
         Class<?> collectionClass = Class.forName(javaClass.getCollectionClassName());
-        return collectionClass.newInstance();
+        return ClassHelper.newInstance(collectionClass);
     }
 
     private void validateJavaClass(JavaClass javaClass) throws ConstructException {
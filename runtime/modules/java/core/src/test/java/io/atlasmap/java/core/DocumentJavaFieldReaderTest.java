@@ -0,0 +1,109 @@
+package io.atlasmap.java.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.FieldType;
+
+public class DocumentJavaFieldReaderTest {
+
+    private DocumentJavaFieldReader reader;
+
+    @Before
+    public void setUp() {
+        reader = new DocumentJavaFieldReader();
+        reader.setConversionService(DefaultAtlasConversionService.getInstance());
+    }
+
+    @Test
+    public void testReadMemberFieldFallback() throws Exception {
+        MemberFieldSource source = new MemberFieldSource();
+        reader.setDocument(source);
+
+        for (int i = 0; i < 2; i++) {
+            source.publicValue = "member" + i;
+            assertEquals("member" + i, read("/publicValue"));
+        }
+        assertEquals(7, read("/publicCount"));
+        assertEquals("static", read("/STATIC_VALUE"));
+    }
+
+    @Test
+    public void testReadMissingMemberField() throws Exception {
+        reader.setDocument(new MemberFieldSource());
+        for (int i = 0; i < 2; i++) {
+            assertNull(read("/other"));
+            assertNull(read("/doesNotExist"));
+        }
+    }
+
+    private Object read(String path) throws Exception {
+        JavaField field = new JavaField();
+        field.setPath(path);
+        field.setFieldType(FieldType.STRING);
+        Head head = mock(Head.class);
+        when(head.getSourceField()).thenReturn(field);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(head);
+        reader.read(session);
+        return field.getValue();
+    }
+
+    public static class NestedSource {
+        private final MemberFieldSource address = new MemberFieldSource();
+
+        NestedSource(String street, String city) {
+            address.street = street;
+            address.city = city;
+        }
+
+        public MemberFieldSource getAddress() {
+            return address;
+        }
+    }
+
+    public static class MemberFieldSource {
+        public static String STATIC_VALUE = "static";
+        public String publicValue;
+        public int publicCount = 7;
+        private String other;
+        private String street;
+        private String city;
+
+        public String getPublicValue() {
+            return null;
+        }
+
+        public String getOther() {
+            return other;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
+    @Test
+    public void testReadSiblingFieldsAfterDocumentChange() throws Exception {
+        reader.setDocument(new NestedSource("Main", "Raleigh"));
+        assertEquals("Main", read("/address/street"));
+        assertEquals("Raleigh", read("/address/city"));
+
+        reader.setDocument(new NestedSource("Elm", "Boston"));
+        assertEquals("Elm", read("/address/street"));
+        assertEquals("Boston", read("/address/city"));
+    }
+}
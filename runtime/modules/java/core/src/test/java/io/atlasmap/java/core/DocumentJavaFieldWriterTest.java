@@ -4,7 +4,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 
 import org.junit.FixMethodOrder;
@@ -22,7 +25,16 @@ import io.atlasmap.java.test.TargetOrderArray;
 import io.atlasmap.java.test.TargetTestClass;
 import io.atlasmap.java.test.TestListOrders;
 import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.Collection;
+import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.LookupTable;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
 
 @FixMethodOrder(MethodSorters.JVM)
 public class DocumentJavaFieldWriterTest extends BaseDocumentWriterTest {
@@ -408,6 +420,89 @@ public class DocumentJavaFieldWriterTest extends BaseDocumentWriterTest {
 
     }
 
+    @Test
+    public void testLazyConstruction() throws Exception {
+        writer.setRootObject(new TargetTestClass());
+        writer.setLazyConstruction(true);
+        addClassForFieldPath("/address/city", String.class);
+        addClassForFieldPath("/address/state", String.class);
+
+        writeFromSource(null, createField("/contact/firstName", null), null);
+        TargetTestClass o = (TargetTestClass) writer.getRootObject();
+        assertNull(o.getContact());
+
+        writeFromSource("Round Rock", createField("/address/city", "Round Rock"), null);
+        ensureNotNullAndClass(o.getAddress(), TargetAddress.class);
+        assertEquals("Round Rock", o.getAddress().getCity());
+
+        writeFromSource(null, createField("/address/state", null), null);
+        assertNull(o.getAddress().getState());
+        assertNull(o.getContact());
+    }
+
+    @Test
+    public void testLazyConstructionPresizedCollections() throws Exception {
+        writer.setLazyConstruction(true);
+        AtlasMapping atlasMapping = AtlasModelFactory.createAtlasMapping();
+        Collection collection = AtlasModelFactory.createCollection();
+        for (int i = 0; i < 3; i++) {
+            Mapping mapping = AtlasModelFactory.createMapping(MappingType.MAP);
+            mapping.getOutputField().add(createField("/orders[" + i + "]/address/addressLine1", null));
+            mapping.getOutputField().add(createField("/listOrders/orders<" + i + ">/address/addressLine1", null));
+            collection.getMappings().getMapping().add(mapping);
+        }
+        atlasMapping.getMappings().getMapping().add(collection);
+
+        addClassForFieldPath("/", TargetTestClass.class);
+        addClassForFieldPath("/orderArray/orders[0]", TargetOrder.class);
+        addClassForFieldPath("/orderArray/orders[0]/address", TargetAddress.class);
+        addClassForFieldPath("/listOrders/orders<0>", TargetOrder.class);
+        addClassForFieldPath("/listOrders/orders<0>/address", TargetAddress.class);
+        addClassForFieldPath("/listOrders/orders<0>/address/addressLine1", String.class);
+        addClassForFieldPath("/orderArray/orders[0]/address/addressLine1", String.class);
+        writeFromSource("hello", createField("/listOrders/orders<0>/address/addressLine1", "hello"), atlasMapping);
+        TargetTestClass o = (TargetTestClass) writer.getRootObject();
+        ensureNotNullAndClass(o.getListOrders().getOrders(), ArrayList.class);
+        assertEquals(1, o.getListOrders().getOrders().size());
+        assertEquals("hello", o.getListOrders().getOrders().get(0).getAddress().getAddressLine1());
+
+        // only the collection paths of the same parent count for the size
+        writeFromSource("world", createField("/orderArray/orders[0]/address/addressLine1", "world"), atlasMapping);
+        assertEquals(1, o.getOrderArray().getOrders().length);
+
+        atlasMapping.getMappings().getMapping().clear();
+        collection.getMappings().getMapping().clear();
+        for (int i = 0; i < 3; i++) {
+            Mapping mapping = AtlasModelFactory.createMapping(MappingType.MAP);
+            mapping.getOutputField().add(createField("/orderArray/orders[" + i + "]/address/addressLine1", null));
+            collection.getMappings().getMapping().add(mapping);
+        }
+        atlasMapping.getMappings().getMapping().add(collection);
+        o.getOrderArray().setOrders(null);
+        writeFromSource("world", createField("/orderArray/orders[0]/address/addressLine1", "world"), atlasMapping);
+        ensureNotNullAndClass(o.getOrderArray().getOrders(), TargetOrder[].class);
+        assertEquals(3, o.getOrderArray().getOrders().length);
+        assertEquals("world", o.getOrderArray().getOrders()[0].getAddress().getAddressLine1());
+        assertNull(o.getOrderArray().getOrders()[1]);
+    }
+
+    private void writeFromSource(Object sourceValue, Field targetField, AtlasMapping atlasMapping)
+            throws AtlasException {
+        writer.setTargetValueConverter(new TargetValueConverter(null) {
+            public Object convert(AtlasInternalSession session, LookupTable lookupTable, Field sourceField,
+                    Object parentObject, Field targetField) throws AtlasException {
+                return sourceField.getValue();
+            }
+        });
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        Head head = mock(Head.class);
+        when(session.head()).thenReturn(head);
+        when(session.getMapping()).thenReturn(atlasMapping);
+        when(head.getSourceField()).thenReturn(createField("/source", sourceValue, FieldType.STRING));
+        when(head.getTargetField()).thenReturn(targetField);
+        writer.write(session);
+    }
+
     public void ensureNotNullAndClass(Object o, Class<?> clz) {
         assertNotNull(o);
         assertEquals(clz, o.getClass());
@@ -43,12 +43,14 @@ import io.atlasmap.v2.AuditStatus;
 import io.atlasmap.v2.BaseMapping;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.SimpleField;
 import io.atlasmap.v2.Validation;
 
 @AtlasModuleDetail(name = "JavaModule", uri = "atlas:java", modes = { "SOURCE", "TARGET" }, dataFormats = {
         "java" }, configPackages = { "io.atlasmap.java.v2" })
 public class JavaModule extends BaseAtlasModule {
     public static final String DEFAULT_LIST_CLASS = "java.util.ArrayList";
+    public static final String LAZY_CONSTRUCT_PARAMETER = "lazyConstruct";
     private static final Logger LOG = LoggerFactory.getLogger(JavaModule.class);
 
     private ClassInspectionService javaInspectionService = null;
@@ -137,17 +139,28 @@ public class JavaModule extends BaseAtlasModule {
         List<BaseMapping> mapping = atlasSession.getMapping().getMappings().getMapping();
         Object rootObject;
         String targetClassName = AtlasUtil.getUriParameterValue(getUri(), "className");
-        JavaClass inspectClass = getJavaInspectionService().inspectClass(targetClassName);
-        merge(inspectClass, mapping);
-        List<String> targetPaths = AtlasModuleSupport.listTargetPaths(mapping);
-        try {
-            rootObject = getJavaConstructService().constructClass(inspectClass, targetPaths);
-        } catch (Exception e) {
-            throw new AtlasException(e);
+        boolean lazyConstruction = "true".equals(AtlasUtil.getUriParameterValue(getUri(), LAZY_CONSTRUCT_PARAMETER));
+        if (lazyConstruction) {
+            // the writer creates the child objects once a non-null value is written below them
+            try {
+                rootObject = getJavaConstructService().constructRootObject(targetClassName);
+            } catch (Exception e) {
+                throw new AtlasException(e);
+            }
+        } else {
+            JavaClass inspectClass = getJavaInspectionService().inspectClass(targetClassName);
+            merge(inspectClass, mapping);
+            List<String> targetPaths = AtlasModuleSupport.listTargetPaths(mapping);
+            try {
+                rootObject = getJavaConstructService().constructClass(inspectClass, targetPaths);
+            } catch (Exception e) {
+                throw new AtlasException(e);
+            }
         }
 
         DocumentJavaFieldWriter writer = new DocumentJavaFieldWriter();
         writer.setRootObject(rootObject);
+        writer.setLazyConstruction(lazyConstruction);
         writer.setTargetValueConverter(targetValueConverter);
         atlasSession.setFieldWriter(getDocId(), writer);
 
@@ -302,6 +315,25 @@ public class JavaModule extends BaseAtlasModule {
         return ((List) collectionObject).size();
     }
 
+    @Override
+    public Field foldConstant(Field sourceField, Field targetField) throws AtlasException {
+        // same as TargetValueConverter: the target field actions run before the conversion
+        if (sourceField.getValue() == null || !(targetField instanceof JavaField)
+                || ((JavaField) targetField).getClassName() == null || targetField.getFieldType() == null) {
+            return null;
+        }
+        Object value = getFieldActionService().processActions(targetField.getActions(), sourceField.getValue(),
+                targetField.getFieldType());
+        if (value == null) {
+            return null;
+        }
+        SimpleField folded = new SimpleField();
+        folded.setValue(getConversionService().convertType(value,
+                getConversionService().fieldTypeFromClass(value.getClass()), targetField.getFieldType()));
+        folded.setFieldType(targetField.getFieldType());
+        return folded;
+    }
+
     @Override
     public Field cloneField(Field field) throws AtlasException {
         return AtlasJavaModelFactory.cloneJavaField((JavaField) field);
@@ -1,5 +1,6 @@
 package io.atlasmap.java.module;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -10,13 +11,19 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.core.DefaultAtlasFieldActionService;
 import io.atlasmap.java.inspect.ClassInspectionService;
 import io.atlasmap.java.inspect.JavaConstructService;
 import io.atlasmap.java.v2.JavaEnumField;
 import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.v2.Actions;
 import io.atlasmap.v2.ConstantField;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
 import io.atlasmap.v2.PropertyField;
 import io.atlasmap.v2.SimpleField;
+import io.atlasmap.v2.Trim;
 
 public class JavaModuleTest {
 
@@ -63,4 +70,24 @@ public class JavaModuleTest {
         assertTrue(module.isSupportedField(new SimpleField()));
     }
 
+    @Test
+    public void testFoldConstant() throws Exception {
+        module.setConversionService(DefaultAtlasConversionService.getInstance());
+        module.setFieldActionService(new DefaultAtlasFieldActionService(DefaultAtlasConversionService.getInstance()));
+        ConstantField constant = new ConstantField();
+        constant.setValue("12");
+        constant.setFieldType(FieldType.STRING);
+        JavaField target = new JavaField();
+        target.setPath("/intField");
+        target.setFieldType(FieldType.INTEGER);
+        target.setActions(new Actions());
+        target.getActions().getActions().add(new Trim());
+
+        assertNull(module.foldConstant(constant, target));
+        target.setClassName("int");
+        Field folded = module.foldConstant(constant, target);
+        assertEquals(12, folded.getValue());
+        assertEquals(FieldType.INTEGER, folded.getFieldType());
+    }
+
 }
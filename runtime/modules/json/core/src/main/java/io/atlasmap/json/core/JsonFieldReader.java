@@ -15,6 +15,11 @@
  */
 package io.atlasmap.json.core;
 
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +46,7 @@ public class JsonFieldReader implements AtlasFieldReader {
 
     private AtlasConversionService conversionService;
     private JsonNode rootNode;
+    private final Map<String, JsonNode> parentNodes = new HashMap<>();
 
     @SuppressWarnings("unused")
     private JsonFieldReader() {
@@ -61,20 +67,12 @@ public class JsonFieldReader implements AtlasFieldReader {
 
         JsonNode valueNode = null;
         AtlasPath path = new AtlasPath(jsonField.getPath());
-        if (path.getSegments().size() >= 1) {
-            if (rootNode.size() == 1 && !path.getSegments().get(0).startsWith(rootNode.fieldNames().next())) {
-                // peel off a rooted object
-                valueNode = rootNode.elements().next();
-            } else {
-                valueNode = rootNode;
-            }
-
-            // need to walk the path....
-            for (String nodeName : path.getSegments()) {
-                if (valueNode == null) {
-                    break;
-                }
-                valueNode = getValueNode(valueNode, nodeName);
+        List<String> segments = path.getSegments();
+        if (segments.size() >= 1) {
+            valueNode = segments.size() == 1 ? getStartNode(segments.get(0))
+                    : getParentNode(jsonField.getPath(), segments);
+            if (valueNode != null) {
+                valueNode = getValueNode(valueNode, path.getLastSegment());
             }
         }
         if (valueNode == null) {
@@ -86,6 +84,11 @@ public class JsonFieldReader implements AtlasFieldReader {
             // we can't detect field type if it's null node
         } else {
             if (jsonField.getFieldType() != null) { // mapping is overriding the fieldType
+                Object typedValue = readTypedValue(valueNode, jsonField.getFieldType());
+                if (typedValue != null) {
+                    jsonField.setValue(typedValue);
+                    return;
+                }
                 try {
                     Object convertedValue = conversionService.convertType(valueNode.asText(), FieldType.STRING,
                             jsonField.getFieldType());
@@ -118,6 +121,33 @@ public class JsonFieldReader implements AtlasFieldReader {
         }
     }
 
+    private JsonNode getStartNode(String firstSegment) {
+        if (rootNode.size() == 1 && !firstSegment.startsWith(rootNode.fieldNames().next())) {
+            // peel off a rooted object
+            return rootNode.elements().next();
+        }
+        return rootNode;
+    }
+
+    /**
+     * Walks to the parent node of the field, sibling fields reuse the node resolved for the first one.
+     */
+    private JsonNode getParentNode(String fieldPath, List<String> segments) {
+        String parentPath = fieldPath.substring(0, fieldPath.lastIndexOf(AtlasPath.PATH_SEPARATOR));
+        JsonNode parentNode = parentNodes.get(parentPath);
+        if (parentNode != null || parentNodes.containsKey(parentPath)) {
+            return parentNode;
+        }
+
+        parentNode = getStartNode(segments.get(0));
+        // need to walk the path....
+        for (int i = 0; i < segments.size() - 1 && parentNode != null; i++) {
+            parentNode = getValueNode(parentNode, segments.get(i));
+        }
+        parentNodes.put(parentPath, parentNode);
+        return parentNode;
+    }
+
     private JsonNode getValueNode(JsonNode parent, String nodeName) {
         String strippedNodeName = nodeName;
         Integer index = null;
@@ -141,6 +171,39 @@ public class JsonFieldReader implements AtlasFieldReader {
         return answer;
     }
 
+    /**
+     * Reads the value straight from the node when the node type is compatible with the declared field type,
+     * so that numbers and booleans are not rendered into a String and parsed back.
+     * @return the value, or null if it needs to be converted from the node text
+     */
+    private Object readTypedValue(JsonNode valueNode, FieldType fieldType) {
+        switch (fieldType) {
+        case STRING:
+            return valueNode.isTextual() ? valueNode.textValue() : null;
+        case BOOLEAN:
+            return valueNode.isBoolean() ? valueNode.booleanValue() : null;
+        case INTEGER:
+            return valueNode.isIntegralNumber() && valueNode.canConvertToInt() ? valueNode.intValue() : null;
+        case LONG:
+            return valueNode.isIntegralNumber() && valueNode.canConvertToLong() ? valueNode.longValue() : null;
+        case DOUBLE:
+            if (valueNode.isDouble() || valueNode.isInt() || valueNode.isLong()) {
+                double d = valueNode.doubleValue();
+                // the String converter rejects negative and infinite values, leave those to it
+                return d >= 0 && d <= Double.MAX_VALUE ? d : null;
+            }
+            return null;
+        case DECIMAL:
+            if (valueNode.isIntegralNumber() || valueNode.isBigDecimal()
+                    || (valueNode.isDouble() && Double.isFinite(valueNode.doubleValue()))) {
+                return valueNode.decimalValue();
+            }
+            return null;
+        default:
+            return null;
+        }
+    }
+
     private void handleTextualNode(JsonNode valueNode, JsonField jsonField) {
         if (jsonField.getFieldType() == null || FieldType.STRING.equals(jsonField.getFieldType())) {
             jsonField.setValue(valueNode.textValue());
@@ -217,9 +280,74 @@ public class JsonFieldReader implements AtlasFieldReader {
             ObjectMapper mapper = new ObjectMapper();
             JsonParser parser = factory.createParser(document);
             this.rootNode = mapper.readTree(parser);
+            this.parentNodes.clear();
+        } catch (Exception e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    /**
+     * Parses the document straight from the encoded bytes, the encoding is auto-detected.
+     *
+     * @param document JSON document
+     * @throws AtlasException if the document cannot be parsed
+     */
+    public void setDocument(byte[] document) throws AtlasException {
+        if (document == null || document.length == 0) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be null nor empty"));
+        }
+
+        try {
+            JsonFactory factory = new JsonFactory();
+            ObjectMapper mapper = new ObjectMapper();
+            this.rootNode = mapper.readTree(factory.createParser(document));
+            this.parentNodes.clear();
         } catch (Exception e) {
             throw new AtlasException(e);
         }
     }
 
+    /**
+     * Parses the document from the stream, the encoding is auto-detected. The stream is not closed.
+     *
+     * @param document JSON document
+     * @throws AtlasException if the document cannot be parsed
+     */
+    public void setDocument(InputStream document) throws AtlasException {
+        if (document == null) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be null"));
+        }
+
+        try {
+            JsonFactory factory = new JsonFactory();
+            factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            ObjectMapper mapper = new ObjectMapper();
+            this.rootNode = mapper.readTree(factory.createParser(document));
+            this.parentNodes.clear();
+        } catch (Exception e) {
+            throw new AtlasException(e);
+        }
+        if (this.rootNode == null) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be empty"));
+        }
+    }
+
+    /**
+     * Uses an already parsed document, e.g. a record read by {@link JsonRecordReader}.
+     *
+     * @param document JSON document
+     * @throws AtlasException if the document is null
+     */
+    public void setDocument(JsonNode document) throws AtlasException {
+        if (document == null) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be null"));
+        }
+        this.rootNode = document;
+        this.parentNodes.clear();
+    }
+
+    public JsonNode getRootNode() {
+        return rootNode;
+    }
+
 }
@@ -16,6 +16,9 @@
 package io.atlasmap.json.core;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +44,7 @@ public class JsonFieldWriter implements AtlasFieldWriter {
 
     private ObjectMapper objectMapper = null;
     private ObjectNode rootNode = null;
+    private final Map<String, ObjectNode> parentNodes = new HashMap<>();
 
     public JsonFieldWriter() {
         this.objectMapper = new ObjectMapper();
@@ -73,49 +77,75 @@ public class JsonFieldWriter implements AtlasFieldWriter {
                     + targetField.getValue());
         }
         AtlasPath path = new AtlasPath(targetField.getPath());
+        List<String> segments = path.getSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
         String lastSegment = path.getLastSegment();
         ObjectNode parentNode = this.rootNode;
         String parentSegment = null;
-        for (String segment : path.getSegments()) {
-            if (!segment.equals(lastSegment)) { // this is a parent node.
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Now processing parent segment: " + segment);
-                }
-                JsonNode childNode = getChildNode(parentNode, parentSegment, segment);
-                if (childNode == null) {
-                    childNode = createParentNode(parentNode, parentSegment, segment);
-                } else if (childNode instanceof ArrayNode) {
-                    int index = AtlasPath.indexOfSegment(segment);
-                    ArrayNode arrayChild = (ArrayNode) childNode;
-                    if (arrayChild.size() < (index + 1)) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Object Array is too small, resizing to accomodate index: " + index
-                                    + ", current array: " + arrayChild);
-                        }
-                        // if our array doesn't have index + 1 items in it, add nulls until we have the
-                        // index available
-                        while (arrayChild.size() < (index + 1)) {
-                            arrayChild.addObject();
-                        }
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Object Array after resizing: " + arrayChild);
-                        }
+        if (segments.size() > 1) {
+            parentSegment = segments.get(segments.size() - 2);
+            parentNode = getParentNode(targetField.getPath(), segments);
+        }
+
+        // this is the last segment of the path, write the value
+        if (targetField.getFieldType() == FieldType.COMPLEX) {
+            createParentNode(parentNode, parentSegment, lastSegment);
+            // a complex node replaces whatever was there, including the nodes cached below it
+            parentNodes.clear();
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Now processing field value segment: " + lastSegment);
+        }
+        writeValue(parentNode, parentSegment, lastSegment, targetField);
+    }
+
+    /**
+     * Finds or creates the parent node of the field, sibling fields reuse the node resolved for the first one.
+     */
+    private ObjectNode getParentNode(String fieldPath, List<String> segments) {
+        String parentPath = fieldPath.substring(0, fieldPath.lastIndexOf(AtlasPath.PATH_SEPARATOR));
+        ObjectNode parentNode = parentNodes.get(parentPath);
+        if (parentNode != null) {
+            return parentNode;
+        }
+
+        parentNode = this.rootNode;
+        String parentSegment = null;
+        for (int i = 0; i < segments.size() - 1; i++) {
+            String segment = segments.get(i);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Now processing parent segment: " + segment);
+            }
+            JsonNode childNode = getChildNode(parentNode, parentSegment, segment);
+            if (childNode == null) {
+                childNode = createParentNode(parentNode, parentSegment, segment);
+            } else if (childNode instanceof ArrayNode) {
+                int index = AtlasPath.indexOfSegment(segment);
+                ArrayNode arrayChild = (ArrayNode) childNode;
+                if (arrayChild.size() < (index + 1)) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Object Array is too small, resizing to accomodate index: " + index
+                                + ", current array: " + arrayChild);
+                    }
+                    // if our array doesn't have index + 1 items in it, add nulls until we have the
+                    // index available
+                    while (arrayChild.size() < (index + 1)) {
+                        arrayChild.addObject();
+                    }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Object Array after resizing: " + arrayChild);
                     }
-                    childNode = arrayChild.get(index);
-                }
-                parentNode = (ObjectNode) childNode;
-                parentSegment = segment;
-            } else { // this is the last segment of the path, write the value
-                if (targetField.getFieldType() == FieldType.COMPLEX) {
-                    createParentNode(parentNode, parentSegment, segment);
-                    return;
-                }
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Now processing field value segment: " + segment);
                 }
-                writeValue(parentNode, parentSegment, segment, targetField);
+                childNode = arrayChild.get(index);
             }
+            parentNode = (ObjectNode) childNode;
+            parentSegment = segment;
         }
+        parentNodes.put(parentPath, parentNode);
+        return parentNode;
     }
 
     private void writeValue(ObjectNode parentNode, String parentSegment, String segment, Field field)
@@ -129,6 +159,7 @@ public class JsonFieldWriter implements AtlasFieldWriter {
             LOG.debug("Value to write: " + valueNode);
         }
         String cleanedSegment = AtlasPath.cleanPathSegment(segment);
+        JsonNode replaced;
         if (AtlasPath.isCollectionSegment(segment)) {
             // if this field is a collection, we need to place our value in an array
 
@@ -169,10 +200,14 @@ public class JsonFieldWriter implements AtlasFieldWriter {
             }
 
             // set the value in the array
-            arrayChild.set(index, valueNode);
+            replaced = arrayChild.set(index, valueNode);
         } else {
             // on a regular primitive value, just set it in the object node parent
-            parentNode.replace(cleanedSegment, valueNode);
+            replaced = parentNode.replace(cleanedSegment, valueNode);
+        }
+        if (replaced != null && replaced.isContainerNode()) {
+            // the nodes cached below the replaced one are detached now
+            parentNodes.clear();
         }
 
         if (LOG.isDebugEnabled()) {
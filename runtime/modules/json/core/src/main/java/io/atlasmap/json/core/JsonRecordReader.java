@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasRecordReader;
+
+/**
+ * Reads the elements of a top-level JSON array one at a time as {@link JsonNode} records. Only the current
+ * element is held in memory. The stream is not closed.
+ */
+public class JsonRecordReader implements AtlasRecordReader {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonParser parser;
+    private JsonToken current;
+
+    public JsonRecordReader(InputStream document) throws AtlasException {
+        if (document == null) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be null"));
+        }
+
+        try {
+            JsonFactory factory = new JsonFactory();
+            factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            this.parser = factory.createParser(document);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AtlasException("The root of the JSON document must be an array");
+            }
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws AtlasException {
+        try {
+            if (current == null) {
+                current = parser.nextToken();
+            }
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+        return current != null && current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public JsonNode next() throws AtlasException {
+        if (!hasNext()) {
+            throw new AtlasException("No more records in the JSON array");
+        }
+
+        try {
+            JsonNode record = mapper.readTree(parser);
+            current = null;
+            return record;
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public void close() throws AtlasException {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+}
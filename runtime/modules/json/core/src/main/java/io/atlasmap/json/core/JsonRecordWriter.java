@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasRecordWriter;
+
+/**
+ * Writes records as the elements of a top-level JSON array in UTF-8. A record is either an already
+ * serialized JSON document as a String or byte[], or a {@link JsonNode}. {@link #close()} ends the array,
+ * the stream is flushed but not closed.
+ */
+public class JsonRecordWriter implements AtlasRecordWriter {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonGenerator generator;
+
+    public JsonRecordWriter(OutputStream output) throws AtlasException {
+        if (output == null) {
+            throw new AtlasException(new IllegalArgumentException("output cannot be null"));
+        }
+
+        try {
+            JsonFactory factory = new JsonFactory();
+            factory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator = factory.createGenerator(output, JsonEncoding.UTF8);
+            generator.writeStartArray();
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public void write(Object record) throws AtlasException {
+        try {
+            if (record instanceof String) {
+                generator.writeRawValue(((String) record).trim());
+            } else if (record instanceof byte[]) {
+                generator.writeRawValue(new String((byte[]) record, StandardCharsets.UTF_8).trim());
+            } else if (record instanceof JsonNode) {
+                mapper.writeTree(generator, (JsonNode) record);
+            } else {
+                throw new AtlasException(String.format("Unsupported JSON record '%s'", record));
+            }
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public void close() throws AtlasException {
+        try {
+            generator.writeEndArray();
+            generator.close();
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+}
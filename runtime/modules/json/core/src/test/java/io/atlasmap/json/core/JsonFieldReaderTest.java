@@ -22,7 +22,10 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -45,7 +48,7 @@ public class JsonFieldReaderTest {
 
     @Test(expected = AtlasException.class)
     public void testWithNullDocument() throws Exception {
-        reader.setDocument(null);
+        reader.setDocument((String) null);
         AtlasInternalSession session = mock(AtlasInternalSession.class);
         when(session.head().getSourceField()).thenReturn(AtlasJsonModelFactory.createJsonField());
         reader.read(session);
@@ -86,6 +89,26 @@ public class JsonFieldReaderTest {
 
     }
 
+    @Test
+    public void testJsonDocumentFromBytesAndStream() throws Exception {
+        final byte[] document = "{ \"brand\" : \"Škoda\", \"doors\" : 5 }".getBytes(StandardCharsets.UTF_8);
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath("/brand");
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(field);
+
+        reader.setDocument(document);
+        reader.read(session);
+        assertThat(field.getValue(), Is.is("Škoda"));
+
+        field.setValue(null);
+        field.setFieldType(null);
+        reader.setDocument(new ByteArrayInputStream(document));
+        reader.read(session);
+        assertThat(field.getValue(), Is.is("Škoda"));
+    }
+
     @Test
     public void testSimpleJsonDocumentWithRoot() throws Exception {
         final String document = " {\"car\" :{ \"brand\" : \"Mercedes\", \"doors\" : 5 } }";
@@ -1056,4 +1079,52 @@ public class JsonFieldReaderTest {
         testRangeOutValue("field-byte-string.json", "/byteValue", FieldType.BYTE, "Failed to convert field value 'abcd' into type 'BYTE'", "abcd");
     }
 
+    @Test
+    public void testTypedValueFromNode() throws Exception {
+        reader.setDocument("{ \"i\" : 5, \"l\" : 9007199254740993, \"d\" : 0.55, \"b\" : true, \"s\" : \"text\" }");
+        assertTypedValue("/i", FieldType.INTEGER, Integer.valueOf(5));
+        assertTypedValue("/i", FieldType.LONG, Long.valueOf(5));
+        assertTypedValue("/i", FieldType.DOUBLE, Double.valueOf(5));
+        assertTypedValue("/l", FieldType.LONG, Long.valueOf(9007199254740993L));
+        assertTypedValue("/l", FieldType.DOUBLE, Double.valueOf(9007199254740993L));
+        assertTypedValue("/d", FieldType.DOUBLE, Double.valueOf(0.55));
+        assertTypedValue("/d", FieldType.DECIMAL, new BigDecimal("0.55"));
+        assertTypedValue("/i", FieldType.DECIMAL, new BigDecimal("5"));
+        assertTypedValue("/b", FieldType.BOOLEAN, Boolean.TRUE);
+        assertTypedValue("/s", FieldType.STRING, "text");
+        // type mismatch still goes through the conversion
+        assertTypedValue("/i", FieldType.STRING, "5");
+        assertTypedValue("/d", FieldType.FLOAT, Float.valueOf(0.55f));
+        assertTypedValue("/b", FieldType.STRING, "true");
+    }
+
+    private void assertTypedValue(String path, FieldType fieldType, Object expected) throws Exception {
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath(path);
+        field.setFieldType(fieldType);
+        AtlasInternalSession session = read(field);
+        assertEquals(expected, field.getValue());
+        assertEquals(0, session.getAudits().getAudit().size());
+    }
+
+    @Test
+    public void testSiblingFieldsAfterDocumentChange() throws Exception {
+        reader.setDocument("{ \"order\" : { \"address\" : { \"street\" : \"Main\", \"city\" : \"Raleigh\" } } }");
+        assertEquals("Main", readValue("/order/address/street"));
+        assertEquals("Raleigh", readValue("/order/address/city"));
+        assertNull(readValue("/order/billing/city"));
+        assertNull(readValue("/order/billing/street"));
+
+        reader.setDocument("{ \"order\" : { \"address\" : { \"city\" : \"Boston\" }, \"billing\" : { \"city\" : \"Denver\" } } }");
+        assertEquals("Boston", readValue("/order/address/city"));
+        assertNull(readValue("/order/address/street"));
+        assertEquals("Denver", readValue("/order/billing/city"));
+    }
+
+    private Object readValue(String path) throws Exception {
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath(path);
+        read(field);
+        return field.getValue();
+    }
 }
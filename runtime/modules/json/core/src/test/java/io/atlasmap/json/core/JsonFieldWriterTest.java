@@ -932,4 +932,30 @@ public class JsonFieldWriterTest {
         assertEquals(true, session.head().getSourceField().getValue());
     }
 
+    @Test
+    public void testWriteAfterParentReplaced() throws Exception {
+        write(createField("/car/engine/power", 100, FieldType.INTEGER));
+        write(createField("/car/engine/fuel", "diesel", FieldType.STRING));
+        write(createField("/car/engine", null, FieldType.COMPLEX));
+        write(createField("/car/engine/power", 200, FieldType.INTEGER));
+        Assert.assertThat(writer.getRootNode().toString(), Is.is("{\"car\":{\"engine\":{\"power\":200}}}"));
+    }
+
+    @Test
+    public void testWriteCollectionSiblings() throws Exception {
+        for (int i = 2; i >= 0; i--) {
+            write(createField("/cars<" + i + ">/brand", "b" + i, FieldType.STRING));
+            write(createField("/cars<" + i + ">/doors", i, FieldType.INTEGER));
+        }
+        Assert.assertThat(writer.getRootNode().toString(), Is.is("{\"cars\":[{\"brand\":\"b0\",\"doors\":0},"
+                + "{\"brand\":\"b1\",\"doors\":1},{\"brand\":\"b2\",\"doors\":2}]}"));
+    }
+
+    private JsonField createField(String path, Object value, FieldType fieldType) {
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath(path);
+        field.setValue(value);
+        field.setFieldType(fieldType);
+        return field;
+    }
 }
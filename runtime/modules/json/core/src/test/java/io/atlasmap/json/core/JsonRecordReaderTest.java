@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.atlasmap.api.AtlasException;
+
+public class JsonRecordReaderTest {
+
+    @Test
+    public void testReadAndWriteRecords() throws Exception {
+        String document = "[ { \"id\" : 1, \"tags\" : [ \"a\", \"b\" ] }, { \"id\" : 2 }, { \"id\" : 3 } ]";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonRecordReader reader = new JsonRecordReader(stream(document));
+                JsonRecordWriter writer = new JsonRecordWriter(out)) {
+            int count = 0;
+            while (reader.hasNext()) {
+                JsonNode record = reader.next();
+                count++;
+                assertEquals(count, record.get("id").asInt());
+                if (count == 1) {
+                    writer.write(record);
+                } else if (count == 2) {
+                    writer.write(record.toString());
+                } else {
+                    writer.write(record.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            assertEquals(3, count);
+            assertFalse(reader.hasNext());
+        }
+        assertEquals("[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2},{\"id\":3}]",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEmptyArray() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(stream("[]"))) {
+            assertFalse(reader.hasNext());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonRecordWriter(out).close();
+        assertEquals("[]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testRootIsNotArray() throws Exception {
+        new JsonRecordReader(stream("{ \"id\" : 1 }"));
+    }
+
+    @Test
+    public void testReadRecordAsSourceDocument() throws Exception {
+        try (JsonRecordReader reader = new JsonRecordReader(stream("[ { \"brand\" : \"Mini\" } ]"))) {
+            assertTrue(reader.hasNext());
+            JsonFieldReader fieldReader = new JsonFieldReader(null);
+            fieldReader.setDocument(reader.next());
+            assertEquals("Mini", fieldReader.getRootNode().get("brand").asText());
+        }
+    }
+
+    private ByteArrayInputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.atlasmap.json.module;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -77,13 +79,18 @@ public class JsonModule extends BaseAtlasModule {
     @Override
     public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
         Object sourceDocument = session.getSourceDocument(getDocId());
-        if (sourceDocument == null || !(sourceDocument instanceof String)) {
+        JsonFieldReader fieldReader = new JsonFieldReader(getConversionService());
+        if (sourceDocument instanceof String) {
+            fieldReader.setDocument((String) sourceDocument);
+        } else if (sourceDocument instanceof byte[]) {
+            fieldReader.setDocument((byte[]) sourceDocument);
+        } else if (sourceDocument instanceof InputStream) {
+            fieldReader.setDocument((InputStream) sourceDocument);
+        } else if (sourceDocument instanceof JsonNode) {
+            fieldReader.setDocument((JsonNode) sourceDocument);
+        } else {
             throw new AtlasException(String.format("Incompatible Source Document '%s'", sourceDocument));
         }
-
-        String document = (String) sourceDocument;
-        JsonFieldReader fieldReader = new JsonFieldReader(getConversionService());
-        fieldReader.setDocument(document);
         session.setFieldReader(getDocId(), fieldReader);
 
         if (LOG.isDebugEnabled()) {
@@ -173,11 +180,27 @@ public class JsonModule extends BaseAtlasModule {
     public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
         JsonFieldWriter writer = session.getFieldWriter(getDocId(), JsonFieldWriter.class);
         if (writer != null && writer.getRootNode() != null) {
-            String outputBody = writer.getRootNode().toString();
-            session.setTargetDocument(getDocId(), outputBody);
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(String.format("processPostTargetExecution converting JsonNode to string size=%s",
-                        outputBody.length()));
+            Class<?> documentType = getTargetDocumentType(session);
+            if (documentType == String.class) {
+                String outputBody = writer.getRootNode().toString();
+                session.setTargetDocument(getDocId(), outputBody);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("processPostTargetExecution converting JsonNode to string size=%s",
+                            outputBody.length()));
+                }
+            } else {
+                byte[] outputBytes;
+                try {
+                    outputBytes = new ObjectMapper().writeValueAsBytes(writer.getRootNode());
+                } catch (IOException e) {
+                    throw new AtlasException(e.getMessage(), e);
+                }
+                session.setTargetDocument(getDocId(), documentType == byte[].class
+                        ? outputBytes : new ByteArrayInputStream(outputBytes));
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("processPostTargetExecution converting JsonNode to bytes size=%s",
+                            outputBytes.length));
+                }
             }
         } else {
             AtlasUtil.addAudit(session, getDocId(), String
@@ -201,14 +224,20 @@ public class JsonModule extends BaseAtlasModule {
 
     @Override
     public int getCollectionSize(AtlasInternalSession session, Field field) throws AtlasException {
-        // TODO could this use FieldReader?
-        Object document = session.getSourceDocument(getDocId());
-        // make this a JSON document
-        JsonFactory jsonFactory = new JsonFactory();
-        ObjectMapper objectMapper = new ObjectMapper();
+        JsonFieldReader reader = session.getFieldReader(getDocId(), JsonFieldReader.class);
         try {
-            JsonParser parser = jsonFactory.createParser(document.toString());
-            JsonNode rootNode = objectMapper.readTree(parser);
+            JsonNode rootNode;
+            if (reader != null && reader.getRootNode() != null) {
+                // reuse the parsed document, a stream source cannot be read twice
+                rootNode = reader.getRootNode();
+            } else {
+                Object document = session.getSourceDocument(getDocId());
+                JsonFactory jsonFactory = new JsonFactory();
+                ObjectMapper objectMapper = new ObjectMapper();
+                JsonParser parser = document instanceof byte[] ? jsonFactory.createParser((byte[]) document)
+                        : jsonFactory.createParser(document.toString());
+                rootNode = objectMapper.readTree(parser);
+            }
             ObjectNode parentNode = (ObjectNode) rootNode;
             String parentSegment = "[root node]";
             for (SegmentContext sc : new AtlasPath(field.getPath()).getSegmentContexts(false)) {
@@ -16,6 +16,9 @@
 package io.atlasmap.xml.core;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +48,8 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
 
     private AtlasConversionService conversionService;
     private Document document;
+    private boolean namespacesSeeded;
+    private final Map<String, Element> parentElements = new HashMap<>();
 
     @SuppressWarnings("unused")
     private XmlFieldReader() {
@@ -68,20 +73,78 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
             throw new AtlasException(new IllegalArgumentException("Argument 'field' cannot be null"));
         }
 
-        seedDocumentNamespaces(document);
+        if (!namespacesSeeded) {
+            seedDocumentNamespaces(document);
+            namespacesSeeded = true;
+        }
         XmlField xmlField = XmlField.class.cast(field);
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Reading source value for field: " + xmlField.getPath());
         }
-        if (document == null) {
-            throw new AtlasException(new IllegalArgumentException("Argument 'document' cannot be null"));
+        List<SegmentContext> segments = new XmlPath(xmlField.getPath()).getSegmentContexts(false);
+        if (segments.isEmpty()) {
+            return;
+        }
+        SegmentContext sc = segments.get(segments.size() - 1);
+        if (sc.getPrev() == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping root segment: " + sc);
+            }
+            return;
+        }
+        Element parentNode = getParentElement(segments);
+        if (parentNode == null) {
+            return;
+        }
+        parentNode = getChildElement(sc, parentNode);
+        if (parentNode == null) {
+            return;
+        }
+
+        String value = parentNode.getTextContent();
+        if (XmlPath.isAttributeSegment(sc.getSegment())) {
+            String attributeName = XmlPath.getAttribute(sc.getSegment());
+            value = parentNode.getAttribute(attributeName);
+        }
+
+        if (value == null) {
+            return;
+        }
+
+        if (xmlField.getFieldType() == null) {
+            xmlField.setValue(value);
+            xmlField.setFieldType(FieldType.STRING);
+        } else {
+            Object convertedValue;
+            try {
+                convertedValue = conversionService.convertType(value, FieldType.STRING, xmlField.getFieldType());
+                xmlField.setValue(convertedValue);
+            } catch (AtlasConversionException e) {
+                AtlasUtil.addAudit(session, xmlField.getDocId(),
+                        String.format("Failed to convert field value '%s' into type '%s'", value,
+                                xmlField.getFieldType()),
+                        xmlField.getPath(), AuditStatus.ERROR, value);
+            }
         }
-        if (xmlField == null) {
-            throw new AtlasException(new IllegalArgumentException("Argument 'xmlField' cannot be null"));
+    }
+
+    /**
+     * Walks to the parent element of the last segment, sibling fields reuse the element resolved for the
+     * first one. A missing parent is cached as null.
+     */
+    private Element getParentElement(List<SegmentContext> segments) throws AtlasException {
+        String parentPath = segments.get(segments.size() - 1).getPrev().getSegmentPath();
+        Element parentNode = parentElements.get(parentPath);
+        if (parentNode != null || parentElements.containsKey(parentPath)) {
+            return parentNode;
         }
-        Element parentNode = document.getDocumentElement();
-        for (SegmentContext sc : new XmlPath(xmlField.getPath()).getSegmentContexts(false)) {
+
+        parentNode = document.getDocumentElement();
+        for (SegmentContext sc : segments) {
+            if (sc.getNext() == null || parentNode == null) {
+                break;
+            }
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Now processing segment: " + sc.getSegment());
                 LOG.debug("Parent element is currently: " + XmlIOHelper.writeDocumentToString(true, parentNode));
@@ -94,66 +157,44 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
                 // "/XOA/contact<>/firstName", skip.
                 continue;
             }
+            parentNode = getChildElement(sc, parentNode);
+        }
+        parentElements.put(parentPath, parentNode);
+        return parentNode;
+    }
 
-            if (!XmlPath.isAttributeSegment(sc.getSegment())) {
-                String childrenElementName = XmlPath.cleanPathSegment(sc.getSegment());
-                String namespaceAlias = XmlPath.getNamespace(sc.getSegment());
-                if (namespaceAlias != null && !"".equals(namespaceAlias)) {
-                    childrenElementName = namespaceAlias + ":" + childrenElementName;
-                }
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Looking for children elements with name: " + childrenElementName);
-                }
-                List<Element> children = XmlIOHelper.getChildrenWithName(childrenElementName, parentNode);
-                if (children == null || children.isEmpty()) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Skipping source value set, couldn't find children with name '" + childrenElementName
-                                + "', for segment: " + sc);
-                    }
-                    return;
-                }
-                parentNode = children.get(0);
-                if (XmlPath.isCollectionSegment(sc.getSegment())) {
-                    int index = XmlPath.indexOfSegment(sc.getSegment());
-                    if (index >= children.size()) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Skipping source value set, children list can't fit index " + index
-                                    + ", children list size: " + children.size());
-                        }
-                        return;
-                    }
-                    parentNode = children.get(index);
-                }
+    private Element getChildElement(SegmentContext sc, Element parentNode) {
+        if (XmlPath.isAttributeSegment(sc.getSegment())) {
+            return parentNode;
+        }
+        String childrenElementName = XmlPath.cleanPathSegment(sc.getSegment());
+        String namespaceAlias = XmlPath.getNamespace(sc.getSegment());
+        if (namespaceAlias != null && !"".equals(namespaceAlias)) {
+            childrenElementName = namespaceAlias + ":" + childrenElementName;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Looking for children elements with name: " + childrenElementName);
+        }
+        List<Element> children = XmlIOHelper.getChildrenWithName(childrenElementName, parentNode);
+        if (children == null || children.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping source value set, couldn't find children with name '" + childrenElementName
+                        + "', for segment: " + sc);
             }
-            if (sc.getNext() == null) { // last segment.
-                String value = parentNode.getTextContent();
-                if (XmlPath.isAttributeSegment(sc.getSegment())) {
-                    String attributeName = XmlPath.getAttribute(sc.getSegment());
-                    value = parentNode.getAttribute(attributeName);
-                }
-
-                if (value == null) {
-                    return;
-                }
-
-                if (xmlField.getFieldType() == null) {
-                    xmlField.setValue(value);
-                    xmlField.setFieldType(FieldType.STRING);
-                } else {
-                    Object convertedValue;
-                    try {
-                        convertedValue = conversionService.convertType(value, FieldType.STRING,
-                                xmlField.getFieldType());
-                        xmlField.setValue(convertedValue);
-                    } catch (AtlasConversionException e) {
-                        AtlasUtil.addAudit(session, xmlField.getDocId(),
-                                String.format("Failed to convert field value '%s' into type '%s'", value,
-                                        xmlField.getFieldType()),
-                                xmlField.getPath(), AuditStatus.ERROR, value);
-                    }
+            return null;
+        }
+        if (XmlPath.isCollectionSegment(sc.getSegment())) {
+            int index = XmlPath.indexOfSegment(sc.getSegment());
+            if (index >= children.size()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Skipping source value set, children list can't fit index " + index
+                            + ", children list size: " + children.size());
                 }
+                return null;
             }
+            return children.get(index);
         }
+        return children.get(0);
     }
 
     public void setDocument(String docString, boolean namespaced) throws AtlasException {
@@ -162,9 +203,48 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
             dbf.setNamespaceAware(namespaced); // this must be done to use namespaces
             DocumentBuilder b = dbf.newDocumentBuilder();
             this.document = b.parse(new ByteArrayInputStream(docString.getBytes("UTF-8")));
+            resetNavigation();
+        } catch (Exception e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    public void setDocument(byte[] docBytes, boolean namespaced) throws AtlasException {
+        setDocument(new ByteArrayInputStream(docBytes), namespaced);
+    }
+
+    /**
+     * Parses the document from the stream, the encoding is taken from the XML declaration. The stream is
+     * not closed.
+     *
+     * @param docStream XML document
+     * @param namespaced whether to enable namespace support
+     * @throws AtlasException if the document cannot be parsed
+     */
+    public void setDocument(InputStream docStream, boolean namespaced) throws AtlasException {
+        try {
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            dbf.setNamespaceAware(namespaced); // this must be done to use namespaces
+            DocumentBuilder b = dbf.newDocumentBuilder();
+            this.document = b.parse(new FilterInputStream(docStream) {
+                @Override
+                public void close() {
+                    // leave it to the caller
+                }
+            });
+            resetNavigation();
         } catch (Exception e) {
             throw new AtlasException(e);
         }
     }
 
+    private void resetNavigation() {
+        this.namespacesSeeded = false;
+        this.parentElements.clear();
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
 }
@@ -16,7 +16,9 @@
 package io.atlasmap.xml.core;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,14 +44,23 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
     private boolean enableElementNamespaces = true;
     private boolean enableAttributeNamespaces = true;
     private boolean ignoreMissingNamespaces = true;
+    private final Map<String, Element> parentElements = new HashMap<>();
+    private final Map<Element, Map<String, List<Element>>> childElements = new IdentityHashMap<>();
 
     public XmlFieldWriter() throws AtlasException {
         this(new HashMap<>(), null);
     }
 
     public XmlFieldWriter(Map<String, String> namespaces, String seedDocument) throws AtlasException {
+        this(createDocument(namespaces, seedDocument), namespaces);
+    }
+
+    /**
+     * Writes into the given document, used by {@link XmlTargetTemplate} to share a parsed seed document.
+     */
+    XmlFieldWriter(Document document, Map<String, String> namespaces) {
         super(namespaces);
-        this.document = createDocument(namespaces, seedDocument);
+        this.document = document;
         // check to see if the seed document has namespaces
         seedDocumentNamespaces(document);
     }
@@ -66,66 +77,118 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
         }
 
         XmlPath path = new XmlPath(targetField.getPath());
+        List<String> segments = path.getSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        if (segments.size() == 1) {
+            getRootElement(segments.get(0), targetField.getPath());
+            return;
+        }
+
+        Element parentNode = getParentElement(targetField.getPath(), segments);
+        String parentSegment = segments.get(segments.size() - 2);
         String lastSegment = path.getLastSegment();
-        Element parentNode = null;
-        String parentSegment = null;
-        for (String segment : path.getSegments()) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Now processing field value segment: {}", lastSegment);
+        }
+        if (targetField.getValue() == null) {
+            return;
+        }
+
+        if (!XmlPath.isAttributeSegment(lastSegment)) {
+            // if the last segment of path isn't attribute, it refers to a child element,
+            // find it or create it..
+            Element childNode = getChildNode(parentNode, parentSegment, lastSegment);
+            if (childNode == null) {
+                childNode = createParentNode(parentNode, parentSegment, lastSegment);
+            }
+            parentNode = childNode;
+        }
+        writeValue(parentNode, lastSegment, targetField);
+    }
+
+    private Element getRootElement(String segment, String fieldPath) throws AtlasException {
+        Element rootNode = document.getDocumentElement();
+        if (rootNode == null) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Now processing segment: {}", segment);
+                LOG.debug("Creating root element with name: {}", XmlPath.cleanPathSegment(segment));
+            }
+            // no root node exists yet, create root node with this segment name;
+            rootNode = createElement(segment);
+            addNamespacesToElement(rootNode, namespaces);
+            document.appendChild(rootNode);
+        } else if (!(rootNode.getNodeName().equals(segment))) {
+            // make sure root element's name matches.
+            throw new AtlasException(String.format(
+                    "Root element name '%s' does not match expected name '%s' from path: %s",
+                    rootNode.getNodeName(), segment, fieldPath));
+        }
+        return rootNode;
+    }
+
+    /**
+     * Finds or creates the parent element of the field, sibling fields reuse the element resolved for the
+     * first one.
+     */
+    private Element getParentElement(String fieldPath, List<String> segments) throws AtlasException {
+        String parentPath = fieldPath.substring(0, fieldPath.lastIndexOf(XmlPath.PATH_SEPARATOR));
+        Element parentNode = parentElements.get(parentPath);
+        if (parentNode != null) {
+            return parentNode;
+        }
+
+        parentNode = getRootElement(segments.get(0), fieldPath);
+        String parentSegment = segments.get(0);
+        for (int i = 1; i < segments.size() - 1; i++) {
+            String segment = segments.get(i);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Now processing parent segment: {}", segment);
                 LOG.debug("Parent element is currently: {}", XmlIOHelper.writeDocumentToString(true, parentNode));
             }
-            if (parentNode == null) {
-                // processing root node
-                parentNode = document.getDocumentElement();
-                String cleanedSegment = XmlPath.cleanPathSegment(segment);
-                if (parentNode == null) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Creating root element with name: {}", cleanedSegment);
-                    }
-                    // no root node exists yet, create root node with this segment name;
-                    Element rootNode = createElement(segment);
-                    addNamespacesToElement(rootNode, namespaces);
-                    document.appendChild(rootNode);
-                    parentNode = rootNode;
-                } else if (!(parentNode.getNodeName().equals(segment))) {
-                    // make sure root element's name matches.
-                    throw new AtlasException(String.format(
-                            "Root element name '%s' does not match expected name '%s' from path: %s",
-                            parentNode.getNodeName(), segment, targetField.getPath()));
+            if (!XmlPath.isAttributeSegment(segment)) {
+                // if current segment of path isn't attribute, it refers to a child element,
+                // find it or create it..
+                Element childNode = getChildNode(parentNode, parentSegment, segment);
+                if (childNode == null) {
+                    childNode = createParentNode(parentNode, parentSegment, segment);
                 }
+                parentNode = childNode;
                 parentSegment = segment;
-            } else {
-                if (LOG.isDebugEnabled()) {
-                    if (segment.equals(lastSegment)) {
-                        LOG.debug("Now processing field value segment: {}", segment);
-                    } else {
-                        LOG.debug("Now processing parent segment: {}", segment);
-                    }
-                }
-
-                if (segment.equals(lastSegment) && targetField.getValue() == null) {
-                    break;
-                }
+            }
+        }
+        parentElements.put(parentPath, parentNode);
+        return parentNode;
+    }
 
-                if (!XmlPath.isAttributeSegment(segment)) {
-                    // if current segment of path isn't attribute, it refers to a child element,
-                    // find it or create it..
-                    Element childNode = getChildNode(parentNode, parentSegment, segment);
-                    if (childNode == null) {
-                        childNode = createParentNode(parentNode, parentSegment, segment);
-                    }
-                    parentNode = childNode;
-                    parentSegment = segment;
-                }
+    /**
+     * Returns the child elements of the parent with the given name, in document order. The list is built from the
+     * DOM once per parent and name, and kept up to date as this writer appends elements.
+     */
+    private List<Element> getChildElements(Element parentNode, String name) {
+        Map<String, List<Element>> children = childElements.get(parentNode);
+        if (children == null) {
+            children = new HashMap<>();
+            childElements.put(parentNode, children);
+        }
+        List<Element> named = children.get(name);
+        if (named == null) {
+            named = new ArrayList<>(XmlIOHelper.getChildrenWithName(name, parentNode));
+            children.put(name, named);
+        }
+        return named;
+    }
 
-                if (segment.equals(lastSegment)) {
-                    writeValue(parentNode, segment, targetField);
-                }
-            }
+    private Element appendChildElement(Element parentNode, String segment) throws AtlasException {
+        Element child = (Element) parentNode.appendChild(createElement(segment));
+        Map<String, List<Element>> children = childElements.get(parentNode);
+        if (children != null && children.containsKey(child.getNodeName())) {
+            children.get(child.getNodeName()).add(child);
         }
+        return child;
     }
 
-    private void addNamespacesToElement(Element node, Map<String, String> namespaces) {
+    private static void addNamespacesToElement(Element node, Map<String, String> namespaces) {
         for (String namespaceAlias : namespaces.keySet()) {
             String namespaceUri = namespaces.get(namespaceAlias);
             String attributeName = "xmlns";
@@ -170,6 +233,14 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
                 parentNode.setAttribute(cleanedSegment, value);
             }
         } else { // set element value
+            for (Node child = parentNode.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element) {
+                    // the text content replaces the child elements, drop the ones cached below them
+                    parentElements.clear();
+                    childElements.clear();
+                    break;
+                }
+            }
             parentNode.setTextContent(value);
         }
 
@@ -191,7 +262,7 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
         if (namespaceAlias != null && !namespaceAlias.isEmpty()) {
             cleanedSegment = namespaceAlias + ":" + cleanedSegment;
         }
-        List<Element> children = XmlIOHelper.getChildrenWithName(cleanedSegment, parentNode);
+        List<Element> children = getChildElements(parentNode, cleanedSegment);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Found {} children in '{}' with the name '{}'",
                     children.size(), parentSegment, cleanedSegment);
@@ -228,7 +299,7 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
                 cleanedSegment = namespaceAlias + ":" + cleanedSegment;
             }
 
-            List<Element> children = XmlIOHelper.getChildrenWithName(cleanedSegment, parentNode);
+            List<Element> children = getChildElements(parentNode, cleanedSegment);
 
             if (children.size() < (index + 1)) {
                 if (LOG.isDebugEnabled()) {
@@ -236,18 +307,16 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
                 }
                 // if our array doesn't have index + 1 items in it, add objects until we have
                 // the index available
-                while (children.size() < (index + 1)) {
-                    Element child = (Element) parentNode.appendChild(createElement(segment));
-                    children.add(child);
+                for (int size = children.size(); size < (index + 1); size++) {
+                    appendChildElement(parentNode, segment);
                 }
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Child Element Array after resizing: {}", children);
                 }
             }
-            children = XmlIOHelper.getChildrenWithName(cleanedSegment, parentNode);
-            childNode = (Element) children.get(index);
+            childNode = children.get(index);
         } else {
-            childNode = (Element) parentNode.appendChild(createElement(segment));
+            childNode = appendChildElement(parentNode, segment);
         }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Parent Node '{}' after adding child parent node '{}': {}",
@@ -297,7 +366,7 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
         return value;
     }
 
-    private Document createDocument(Map<String, String> namespaces, String seedDocument) throws AtlasException {
+    static Document createDocument(Map<String, String> namespaces, String seedDocument) throws AtlasException {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
             if (namespaces != null && !namespaces.isEmpty()) {
@@ -0,0 +1,209 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasRecordReader;
+
+/**
+ * Reads the child elements of the document root one at a time, each as a standalone XML document String.
+ * Only the current record is held in memory. The namespaces declared on the root element are re-declared
+ * on every record. The stream is not closed.
+ */
+public class XmlRecordReader implements AtlasRecordReader {
+
+    private final XMLStreamReader reader;
+    private final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+    private final String recordName;
+    private final Map<String, String> rootNamespaces = new LinkedHashMap<>();
+    private boolean positioned;
+    private boolean exhausted;
+
+    public XmlRecordReader(InputStream document) throws AtlasException {
+        this(document, null);
+    }
+
+    /**
+     * @param document XML document
+     * @param recordName the local name of the record elements, or null to read every child of the root
+     * @throws AtlasException if the document cannot be read
+     */
+    public XmlRecordReader(InputStream document, String recordName) throws AtlasException {
+        if (document == null) {
+            throw new AtlasException(new IllegalArgumentException("document cannot be null"));
+        }
+        this.recordName = recordName;
+
+        try {
+            XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+            inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            this.reader = inputFactory.createXMLStreamReader(document);
+            reader.nextTag();
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                rootNamespaces.put(prefix == null ? "" : prefix, reader.getNamespaceURI(i));
+            }
+        } catch (XMLStreamException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws AtlasException {
+        if (exhausted) {
+            return false;
+        }
+        try {
+            while (!positioned) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                    exhausted = true;
+                    return false;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if (recordName == null || recordName.equals(reader.getLocalName())) {
+                    positioned = true;
+                } else {
+                    skipElement();
+                }
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public String next() throws AtlasException {
+        if (!hasNext()) {
+            throw new AtlasException("No more records in the XML document");
+        }
+
+        try {
+            StringWriter buffer = new StringWriter();
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(buffer);
+            copyElement(writer);
+            writer.close();
+            positioned = false;
+            return buffer.toString();
+        } catch (XMLStreamException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    private void copyElement(XMLStreamWriter writer) throws XMLStreamException {
+        int depth = 0;
+        do {
+            switch (reader.getEventType()) {
+            case XMLStreamConstants.START_ELEMENT:
+                writeStartElement(writer, depth == 0);
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                writer.writeEndElement();
+                depth--;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.SPACE:
+                writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                break;
+            case XMLStreamConstants.CDATA:
+                writer.writeCData(reader.getText());
+                break;
+            case XMLStreamConstants.COMMENT:
+                writer.writeComment(reader.getText());
+                break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                break;
+            default:
+                break;
+            }
+            if (depth > 0) {
+                reader.next();
+            }
+        } while (depth > 0);
+    }
+
+    private void writeStartElement(XMLStreamWriter writer, boolean record) throws XMLStreamException {
+        String prefix = reader.getPrefix();
+        String namespace = reader.getNamespaceURI();
+        writer.writeStartElement(prefix == null ? "" : prefix, reader.getLocalName(),
+                namespace == null ? "" : namespace);
+
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        if (record) {
+            namespaces.putAll(rootNamespaces);
+        }
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String nsPrefix = reader.getNamespacePrefix(i);
+            namespaces.put(nsPrefix == null ? "" : nsPrefix, reader.getNamespaceURI(i));
+        }
+        for (Map.Entry<String, String> ns : namespaces.entrySet()) {
+            if (ns.getKey().isEmpty()) {
+                writer.writeDefaultNamespace(ns.getValue());
+            } else {
+                writer.writeNamespace(ns.getKey(), ns.getValue());
+            }
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attrPrefix = reader.getAttributePrefix(i);
+            String attrNamespace = reader.getAttributeNamespace(i);
+            if (attrNamespace == null || attrNamespace.isEmpty()) {
+                writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            } else {
+                writer.writeAttribute(attrPrefix == null ? "" : attrPrefix, attrNamespace,
+                        reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws AtlasException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new AtlasException(e);
+        }
+    }
+}
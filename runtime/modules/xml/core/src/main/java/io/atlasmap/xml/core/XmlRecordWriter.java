@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasRecordWriter;
+
+/**
+ * Writes records as the children of a root element in UTF-8. A record is a serialized XML document as
+ * a String or byte[], its XML declaration is dropped. {@link #close()} ends the root element, the stream is
+ * flushed but not closed.
+ */
+public class XmlRecordWriter implements AtlasRecordWriter {
+
+    private final Writer writer;
+    private final String rootElementName;
+
+    /**
+     * @param output the output stream
+     * @param rootElementName the qualified name of the root element which wraps the records
+     * @throws AtlasException if the output cannot be written
+     */
+    public XmlRecordWriter(OutputStream output, String rootElementName) throws AtlasException {
+        if (output == null || rootElementName == null || rootElementName.isEmpty()) {
+            throw new AtlasException(new IllegalArgumentException("output and rootElementName must be specified"));
+        }
+        this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        this.rootElementName = rootElementName;
+
+        try {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?><");
+            writer.write(rootElementName);
+            writer.write('>');
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public void write(Object record) throws AtlasException {
+        String xml;
+        if (record instanceof String) {
+            xml = (String) record;
+        } else if (record instanceof byte[]) {
+            xml = new String((byte[]) record, StandardCharsets.UTF_8);
+        } else {
+            throw new AtlasException(String.format("Unsupported XML record '%s'", record));
+        }
+
+        int start = 0;
+        if (xml.startsWith("<?xml")) {
+            start = xml.indexOf("?>") + 2;
+        }
+        try {
+            writer.write(xml, start, xml.length() - start);
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    @Override
+    public void close() throws AtlasException {
+        try {
+            writer.write("</");
+            writer.write(rootElementName);
+            writer.write('>');
+            writer.flush();
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+}
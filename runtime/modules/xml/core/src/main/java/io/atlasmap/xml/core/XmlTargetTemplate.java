@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.w3c.dom.Document;
+
+import io.atlasmap.api.AtlasException;
+
+/**
+ * Target seed document and namespaces parsed once. Each {@link XmlFieldWriter} created from the template
+ * writes into its own deep copy of the document, so the template can be shared between sessions.
+ */
+public class XmlTargetTemplate {
+
+    private final Map<String, String> namespaces;
+    private final Document document;
+
+    public XmlTargetTemplate(Map<String, String> namespaces, String seedDocument) throws AtlasException {
+        Map<String, String> resolved = namespaces != null ? new HashMap<>(namespaces) : new HashMap<>();
+        this.document = XmlFieldWriter.createDocument(resolved, seedDocument);
+        this.namespaces = Collections.unmodifiableMap(resolved);
+    }
+
+    public XmlFieldWriter createWriter() {
+        Document copy;
+        // DOM implementations aren't thread safe even for reads, e.g. deferred node expansion
+        synchronized (document) {
+            copy = (Document) document.cloneNode(true);
+        }
+        return new XmlFieldWriter(copy, new HashMap<>(namespaces));
+    }
+
+    public Map<String, String> getNamespaces() {
+        return namespaces;
+    }
+}
@@ -23,9 +23,11 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -64,6 +66,35 @@ public class XmlFieldReaderTest {
         assertThat(xmlField.getValue(), is("12312"));
     }
 
+    @Test(expected = AtlasException.class)
+    public void testReadWithoutDocument() throws Exception {
+        XmlField xmlField = AtlasXmlModelFactory.createXmlField();
+        xmlField.setPath("/orders/order/id");
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(xmlField);
+        new XmlFieldReader(DefaultAtlasConversionService.getInstance()).read(session);
+    }
+
+    @Test
+    public void testReadDocumentFromBytesAndStream() throws Exception {
+        byte[] doc = getDocumentString("src/test/resources/simple_example.xml").getBytes(StandardCharsets.UTF_8);
+        XmlField xmlField = AtlasXmlModelFactory.createXmlField();
+        xmlField.setPath("/orders/order/id");
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(xmlField);
+
+        reader.setDocument(doc, false);
+        reader.read(session);
+        assertThat(xmlField.getValue(), is("12312"));
+
+        xmlField.setValue(null);
+        reader.setDocument(new ByteArrayInputStream(doc), false);
+        reader.read(session);
+        assertThat(xmlField.getValue(), is("12312"));
+    }
+
     @Test
     public void testReadDocumentSetValueFromAttrAsString() throws Exception {
         String doc = getDocumentString("src/test/resources/simple_example.xml");
@@ -319,7 +350,7 @@ public class XmlFieldReaderTest {
 
     @Test(expected = AtlasException.class)
     public void testThrowExceptionOnNullDocument() throws Exception {
-        reader.setDocument(null, false);
+        reader.setDocument((String) null, false);
         AtlasInternalSession session = mock(AtlasInternalSession.class);
         when(session.head()).thenReturn(mock(Head.class));
         when(session.head().getSourceField()).thenReturn(new XmlField());
@@ -648,4 +679,28 @@ public class XmlFieldReaderTest {
     public void testXmlFieldByteString() throws Exception {
         validateRangeOutValue(FieldType.BYTE, "test-read-field-byte-string.xml", "abcd");
     }
+
+    @Test
+    public void testReadSiblingFieldsAfterDocumentChange() throws Exception {
+        reader.setDocument("<order><address><street>Main</street><city>Raleigh</city></address></order>", false);
+        assertEquals("Main", readValue("/order/address/street"));
+        assertEquals("Raleigh", readValue("/order/address/city"));
+        assertNull(readValue("/order/billing/city"));
+        assertNull(readValue("/order/billing/street"));
+
+        reader.setDocument("<order><address city=\"Boston\"/><billing><city>Denver</city></billing></order>", false);
+        assertEquals("Boston", readValue("/order/address/@city"));
+        assertNull(readValue("/order/address/street"));
+        assertEquals("Denver", readValue("/order/billing/city"));
+    }
+
+    private Object readValue(String path) throws Exception {
+        XmlField xmlField = AtlasXmlModelFactory.createXmlField();
+        xmlField.setPath(path);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(xmlField);
+        reader.read(session);
+        return xmlField.getValue();
+    }
 }
@@ -590,4 +590,36 @@ public class XmlFieldWriterTest {
         assertEquals(AuditStatus.ERROR, session.getAudits().getAudit().get(0).getStatus());
     }
 
+    @Test
+    public void testWriteCollectionOutOfOrder() throws Exception {
+        writeValue("/orders/order[2]/id", "2");
+        writeValue("/orders/order[0]/id", "0");
+        writeValue("/orders/order[1]/id", "1");
+        writeValue("/orders/order[1]/@type", "b");
+        writeValue("/orders/order[2]/name", "n2");
+
+        final String expected = "<orders><order><id>0</id></order><order type=\"b\"><id>1</id></order>"
+                + "<order><id>2</id><name>n2</name></order></orders>";
+        checkResult(expected);
+    }
+
+    @Test
+    public void testWriteLargeCollection() throws Exception {
+        for (int i = 0; i < 5000; i++) {
+            writeValue("/orders/order[" + i + "]/id", String.valueOf(i));
+        }
+        assertEquals(5000, XmlIOHelper.getChildrenWithName("order", document.getDocumentElement()).size());
+        assertEquals("4999", XmlIOHelper.getChildrenWithName("order", document.getDocumentElement()).get(4999)
+                .getTextContent());
+    }
+
+    @Test
+    public void testWriteTextOverChildElements() throws Exception {
+        writeValue("/orders/order/id", "1");
+        writeValue("/orders/order", "text");
+        writeValue("/orders/order/id", "2");
+
+        final String expected = "<orders><order>text<id>2</id></order></orders>";
+        checkResult(expected);
+    }
 }
@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlField;
+
+public class XmlRecordReaderTest {
+
+    private static final String DOCUMENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<ns:orders xmlns:ns=\"http://atlasmap.io/orders\"><!-- header -->"
+            + "<ns:order id=\"1\"><ns:item>a &amp; b</ns:item></ns:order>"
+            + "<ns:summary>skipped</ns:summary>"
+            + "<ns:order id=\"2\"><ns:item><![CDATA[c]]></ns:item></ns:order>"
+            + "</ns:orders>";
+
+    @Test
+    public void testReadRecords() throws Exception {
+        List<String> records = new ArrayList<>();
+        try (XmlRecordReader reader = new XmlRecordReader(stream(DOCUMENT), "order")) {
+            while (reader.hasNext()) {
+                records.add(reader.next());
+            }
+            assertFalse(reader.hasNext());
+        }
+        assertEquals(2, records.size());
+        assertEquals("<ns:order xmlns:ns=\"http://atlasmap.io/orders\" id=\"1\"><ns:item>a &amp; b</ns:item></ns:order>",
+                records.get(0));
+
+        // every record is a standalone document including the namespaces declared on the root
+        XmlFieldReader fieldReader = new XmlFieldReader(DefaultAtlasConversionService.getInstance());
+        fieldReader.setDocument(records.get(1), false);
+        XmlField xmlField = AtlasXmlModelFactory.createXmlField();
+        xmlField.setPath("/ns:order/ns:item");
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(xmlField);
+        fieldReader.read(session);
+        assertThat(xmlField.getValue(), is("c"));
+    }
+
+    @Test
+    public void testHasNextAfterLastRecord() throws Exception {
+        try (XmlRecordReader reader = new XmlRecordReader(stream("<orders><order/></orders>"))) {
+            assertTrue(reader.hasNext());
+            assertTrue(reader.hasNext());
+            assertEquals("<order></order>", reader.next());
+            for (int i = 0; i < 3; i++) {
+                assertFalse(reader.hasNext());
+            }
+            try {
+                reader.next();
+                fail("AtlasException expected");
+            } catch (AtlasException e) {
+                assertEquals("No more records in the XML document", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testReadAllChildren() throws Exception {
+        int count = 0;
+        try (XmlRecordReader reader = new XmlRecordReader(stream(DOCUMENT))) {
+            while (reader.hasNext()) {
+                reader.next();
+                count++;
+            }
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    public void testWriteRecords() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XmlRecordWriter writer = new XmlRecordWriter(out, "orders")) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?><order id=\"1\"/>");
+            writer.write("<order id=\"2\"/>".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><orders><order id=\"1\"/><order id=\"2\"/></orders>",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private ByteArrayInputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
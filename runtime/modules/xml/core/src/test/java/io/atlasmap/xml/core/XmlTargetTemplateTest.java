@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlField;
+
+public class XmlTargetTemplateTest {
+
+    @Test
+    public void testWritersGetOwnCopy() throws Exception {
+        XmlTargetTemplate template = new XmlTargetTemplate(Collections.emptyMap(),
+                "<env:Envelope xmlns:env=\"http://www.w3.org/2003/05/soap-envelope\"><env:Body/></env:Envelope>");
+        assertEquals("http://www.w3.org/2003/05/soap-envelope", template.getNamespaces().get("env"));
+
+        XmlFieldWriter first = template.createWriter();
+        XmlFieldWriter second = template.createWriter();
+        assertNotSame(first.getDocument(), second.getDocument());
+
+        write(first, "/env:Envelope/env:Body/id", "1");
+        write(second, "/env:Envelope/env:Body/id", "2");
+        assertEquals("<env:Envelope xmlns:env=\"http://www.w3.org/2003/05/soap-envelope\"><env:Body><id>1</id>"
+                + "</env:Body></env:Envelope>", XmlIOHelper.writeDocumentToString(true, first.getDocument()));
+        assertEquals("<env:Envelope xmlns:env=\"http://www.w3.org/2003/05/soap-envelope\"><env:Body><id>2</id>"
+                + "</env:Body></env:Envelope>", XmlIOHelper.writeDocumentToString(true, second.getDocument()));
+        assertEquals("", template.createWriter().getDocument().getDocumentElement().getFirstChild().getTextContent());
+    }
+
+    @Test
+    public void testWithoutSeedDocument() throws Exception {
+        XmlTargetTemplate template = new XmlTargetTemplate(null, null);
+        XmlFieldWriter writer = template.createWriter();
+        write(writer, "/orders/order/id", "1");
+        assertEquals("<orders><order><id>1</id></order></orders>",
+                XmlIOHelper.writeDocumentToString(true, writer.getDocument()));
+        assertEquals(null, template.createWriter().getDocument().getDocumentElement());
+    }
+
+    private void write(XmlFieldWriter writer, String path, Object value) throws Exception {
+        XmlField xmlField = AtlasXmlModelFactory.createXmlField();
+        xmlField.setPath(path);
+        xmlField.setValue(value);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getTargetField()).thenReturn(xmlField);
+        writer.write(session);
+    }
+}
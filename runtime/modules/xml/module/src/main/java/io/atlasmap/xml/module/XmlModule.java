@@ -16,7 +16,9 @@
 package io.atlasmap.xml.module;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.Map;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -45,6 +48,7 @@ import io.atlasmap.core.AtlasUtil;
 import io.atlasmap.core.BaseAtlasModule;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasModuleDetail;
+import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AuditStatus;
 import io.atlasmap.v2.DataSource;
 import io.atlasmap.v2.DataSourceType;
@@ -55,6 +59,7 @@ import io.atlasmap.xml.core.XmlFieldReader;
 import io.atlasmap.xml.core.XmlFieldWriter;
 import io.atlasmap.xml.core.XmlIOHelper;
 import io.atlasmap.xml.core.XmlPath;
+import io.atlasmap.xml.core.XmlTargetTemplate;
 import io.atlasmap.xml.v2.AtlasXmlModelFactory;
 import io.atlasmap.xml.v2.XmlDataSource;
 import io.atlasmap.xml.v2.XmlField;
@@ -67,6 +72,9 @@ import io.atlasmap.xml.v2.XmlNamespaces;
 public class XmlModule extends BaseAtlasModule {
     private static final Logger LOG = LoggerFactory.getLogger(XmlModule.class);
 
+    /** Target template parsed from the mapping of the first session, re-parsed if the mapping is replaced. */
+    private volatile CachedTargetTemplate targetTemplate;
+
     @Override
     public void processPreValidation(AtlasInternalSession atlasSession) throws AtlasException {
         if (atlasSession == null || atlasSession.getMapping() == null) {
@@ -91,7 +99,8 @@ public class XmlModule extends BaseAtlasModule {
     @Override
     public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
         Object sourceDocument = session.getSourceDocument(getDocId());
-        if (sourceDocument == null || !(sourceDocument instanceof String)) {
+        if (!(sourceDocument instanceof String || sourceDocument instanceof byte[]
+                || sourceDocument instanceof InputStream)) {
             throw new AtlasException(String.format("Unsupported source document '%s'", sourceDocument));
         }
 
@@ -107,7 +116,13 @@ public class XmlModule extends BaseAtlasModule {
         }
 
         XmlFieldReader reader = new XmlFieldReader(getConversionService());
-        reader.setDocument(String.class.cast(sourceDocument), enableNamespaces);
+        if (sourceDocument instanceof String) {
+            reader.setDocument((String) sourceDocument, enableNamespaces);
+        } else if (sourceDocument instanceof byte[]) {
+            reader.setDocument((byte[]) sourceDocument, enableNamespaces);
+        } else {
+            reader.setDocument((InputStream) sourceDocument, enableNamespaces);
+        }
         session.setFieldReader(getDocId(), reader);
 
         if (LOG.isDebugEnabled()) {
@@ -117,9 +132,24 @@ public class XmlModule extends BaseAtlasModule {
 
     @Override
     public void processPreTargetExecution(AtlasInternalSession session) throws AtlasException {
+        CachedTargetTemplate cached = targetTemplate;
+        if (cached == null || cached.atlasMapping != session.getMapping()) {
+            cached = new CachedTargetTemplate(session.getMapping(), createTargetTemplate(session.getMapping()));
+            targetTemplate = cached;
+        }
+
+        XmlFieldWriter writer = cached.template.createWriter();
+        session.setFieldWriter(getDocId(), writer);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{}: processPreTargetExcution completed", getDocId());
+        }
+    }
+
+    private XmlTargetTemplate createTargetTemplate(AtlasMapping mapping) throws AtlasException {
         XmlNamespaces xmlNs = null;
         String template = null;
-        for (DataSource ds : session.getMapping().getDataSource()) {
+        for (DataSource ds : mapping.getDataSource()) {
             if (DataSourceType.TARGET.equals(ds.getDataSourceType()) && ds instanceof XmlDataSource) {
                 xmlNs = ((XmlDataSource) ds).getXmlNamespaces();
                 template = ((XmlDataSource) ds).getTemplate();
@@ -133,12 +163,10 @@ public class XmlModule extends BaseAtlasModule {
             }
         }
 
-        XmlFieldWriter writer = new XmlFieldWriter(nsMap, template);
-        session.setFieldWriter(getDocId(), writer);
-
         if (LOG.isDebugEnabled()) {
-            LOG.debug("{}: processPreTargetExcution completed", getDocId());
+            LOG.debug("{}: parsed target template for mapping '{}'", getDocId(), mapping.getName());
         }
+        return new XmlTargetTemplate(nsMap, template);
     }
 
     @Override
@@ -216,7 +244,14 @@ public class XmlModule extends BaseAtlasModule {
     public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
         XmlFieldWriter writer = session.getFieldWriter(getDocId(), XmlFieldWriter.class);
         if (writer != null && writer.getDocument() != null) {
-            session.setTargetDocument(getDocId(), convertDocumentToString(writer.getDocument()));
+            Class<?> documentType = getTargetDocumentType(session);
+            if (documentType == String.class) {
+                session.setTargetDocument(getDocId(), convertDocumentToString(writer.getDocument()));
+            } else {
+                byte[] outputBytes = convertDocumentToBytes(writer.getDocument());
+                session.setTargetDocument(getDocId(), documentType == byte[].class
+                        ? outputBytes : new ByteArrayInputStream(outputBytes));
+            }
         } else {
             AtlasUtil.addAudit(session, getDocId(),
                     String.format("No target document created for DataSource:[id=%s, uri=%s]",
@@ -237,6 +272,19 @@ public class XmlModule extends BaseAtlasModule {
         return field instanceof XmlField;
     }
 
+    private byte[] convertDocumentToBytes(Document document) throws AtlasException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.transform(new DOMSource(document), new StreamResult(out));
+            return out.toByteArray();
+        } catch (TransformerException e) {
+            LOG.error(String.format("Error converting Xml document to bytes msg=%s", e.getMessage()), e);
+            throw new AtlasException(e.getMessage(), e);
+        }
+    }
+
     private String convertDocumentToString(Document document) throws AtlasException {
         DocumentBuilderFactory domFact = DocumentBuilderFactory.newInstance();
         domFact.setNamespaceAware(true);
@@ -256,20 +304,28 @@ public class XmlModule extends BaseAtlasModule {
         }
     }
 
-    private Document getDocument(String data, boolean namespaced)
+    private Document getDocument(InputStream data, boolean namespaced)
             throws ParserConfigurationException, SAXException, IOException {
         DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
         dbf.setNamespaceAware(namespaced); // this must be done to use namespaces
         DocumentBuilder b = dbf.newDocumentBuilder();
-        return b.parse(new ByteArrayInputStream(data.getBytes("UTF-8")));
+        return b.parse(data);
     }
 
     @Override
     public int getCollectionSize(AtlasInternalSession session, Field field) throws AtlasException {
-        // TODO could this use FieldReader?
+        XmlFieldReader reader = session.getFieldReader(getDocId(), XmlFieldReader.class);
         try {
-            Object sourceObject = session.getSourceDocument(getDocId());
-            Document document = getDocument((String) sourceObject, false);
+            Document document;
+            if (reader != null && reader.getDocument() != null) {
+                // reuse the parsed document, a stream source cannot be read twice
+                document = reader.getDocument();
+            } else {
+                Object sourceObject = session.getSourceDocument(getDocId());
+                document = sourceObject instanceof byte[]
+                        ? getDocument(new ByteArrayInputStream((byte[]) sourceObject), false)
+                        : getDocument(new ByteArrayInputStream(((String) sourceObject).getBytes("UTF-8")), false);
+            }
             Element parentNode = document.getDocumentElement();
             for (SegmentContext sc : new XmlPath(field.getPath()).getSegmentContexts(false)) {
                 if (sc.getPrev() == null) {
@@ -301,4 +357,14 @@ public class XmlModule extends BaseAtlasModule {
     public Field cloneField(Field field) throws AtlasException {
         return AtlasXmlModelFactory.cloneField(field);
     }
+
+    private static final class CachedTargetTemplate {
+        private final AtlasMapping atlasMapping;
+        private final XmlTargetTemplate template;
+
+        private CachedTargetTemplate(AtlasMapping atlasMapping, XmlTargetTemplate template) {
+            this.atlasMapping = atlasMapping;
+            this.template = template;
+        }
+    }
 }
@@ -17,7 +17,6 @@ package io.atlasmap.service;
 
 import java.io.File;
 import java.io.FilenameFilter;
-import java.io.IOException;
 import java.nio.file.Paths;
 
 import javax.ws.rs.ApplicationPath;
@@ -49,12 +48,16 @@ import javax.xml.transform.stream.StreamSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.atlasmap.api.AtlasContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.atlasmap.api.AtlasException;
-import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasMappingValidator;
 import io.atlasmap.core.DefaultAtlasContextFactory;
 import io.atlasmap.v2.ActionDetails;
+import io.atlasmap.v2.AtlasJsonMapper;
 import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.BaseMapping;
 import io.atlasmap.v2.StringMap;
 import io.atlasmap.v2.StringMapEntry;
 import io.atlasmap.v2.Validations;
@@ -74,6 +77,9 @@ public class AtlasService extends Application {
     private static final String ACCESS_CONTROL_ALLOW_METHODS_GPPPD = "GET,PUT,POST,PATCH,DELETE";
 
     private final DefaultAtlasContextFactory atlasContextFactory = DefaultAtlasContextFactory.getInstance();
+    private final ObjectMapper fingerprintMapper = new AtlasJsonMapper();
+    private final AtlasMappingValidator mappingValidator = new AtlasMappingValidator(atlasContextFactory,
+            this::fingerprintMapping);
     private String baseFolder = "target/mappings";
 
     protected Response standardCORSResponse() {
@@ -267,7 +273,7 @@ public class AtlasService extends Application {
     public Response validateMappingRequest(AtlasMapping mapping, @Context UriInfo uriInfo) {
         try {
             return validateMapping(mapping, uriInfo);
-        } catch (AtlasException | IOException e) {
+        } catch (AtlasException e) {
             throw new WebApplicationException(e.getMessage(), e, Status.INTERNAL_SERVER_ERROR);
         }
     }
@@ -284,31 +290,25 @@ public class AtlasService extends Application {
         return "pong";
     }
 
-    protected Response validateMapping(AtlasMapping mapping, UriInfo uriInfo) throws IOException, AtlasException {
-
-        File temporaryMappingFile = File.createTempFile("atlas-mapping", "xml");
-        temporaryMappingFile.deleteOnExit();
-        atlasContextFactory.getMappingService().saveMappingAsFile(mapping, temporaryMappingFile);
-
-        AtlasContext context = atlasContextFactory.createContext(temporaryMappingFile.toURI());
-        AtlasSession session = context.createSession();
-        context.processValidation(session);
-        Validations validations = session.getValidations();
-
-        if (session.getValidations() == null) {
-            validations = new Validations();
-        }
-
-        if (temporaryMappingFile.exists() && !temporaryMappingFile.delete()) {
-            LOG.warn("Failed to deleting temporary file: "
-                    + (temporaryMappingFile != null ? temporaryMappingFile.toString() : null));
-        }
+    protected Response validateMapping(AtlasMapping mapping, UriInfo uriInfo) throws AtlasException {
+        Validations validations = new Validations();
+        validations.getValidation().addAll(mappingValidator.validateMapping(mapping));
 
         return Response.ok().header(ACCESS_CONTROL_ALLOW_ORIGIN, DEFAULT_ACCESS_CONTROL_ALLOW_ORIGIN)
                 .header(ACCESS_CONTROL_ALLOW_HEADERS, DEFAULT_ACCESS_CONTROL_ALLOW_HEADERS)
                 .header(ACCESS_CONTROL_ALLOW_METHODS, ACCESS_CONTROL_ALLOW_METHODS_GPPPD).entity(validations).build();
     }
 
+    private String fingerprintMapping(BaseMapping mapping) {
+        try {
+            return fingerprintMapper.writeValueAsString(mapping);
+        } catch (JsonProcessingException e) {
+            LOG.debug("Unable to fingerprint mapping '{}', it will be validated again: {}", mapping.getAlias(),
+                    e.getMessage());
+            return null;
+        }
+    }
+
     protected Response saveMapping(AtlasMapping mapping, UriInfo uriInfo) {
         try {
             saveMappingToFile(mapping);
@@ -16,6 +16,7 @@
 package io.atlasmap.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -40,6 +41,7 @@ import io.atlasmap.v2.MappingType;
 import io.atlasmap.v2.Mappings;
 import io.atlasmap.v2.StringMap;
 import io.atlasmap.v2.StringMapEntry;
+import io.atlasmap.v2.Validations;
 
 public class AtlasServiceTest {
 
@@ -100,6 +102,22 @@ public class AtlasServiceTest {
         }
     }
 
+    @Test
+    public void testValidateMapping() throws Exception {
+        File file = new File("src/test/resources/atlasmapping-actions.json");
+        AtlasMapping mapping = mapper.readValue(file, AtlasMapping.class);
+
+        Response resp = service.validateMappingRequest(mapping,
+                generateTestUriInfo("http://localhost:8686/v2/atlas", "http://localhost:8686/v2/atlas/mapping/validate"));
+        Validations validations = (Validations) resp.getEntity();
+        assertNotNull(validations);
+
+        // validating the unchanged mapping again must produce the same notices
+        resp = service.validateMappingRequest(mapping,
+                generateTestUriInfo("http://localhost:8686/v2/atlas", "http://localhost:8686/v2/atlas/mapping/validate"));
+        assertEquals(validations.getValidation().size(), ((Validations) resp.getEntity()).getValidation().size());
+    }
+
     protected UriInfo generateTestUriInfo(String baseUri, String absoluteUri) throws Exception {
         return new TestUriInfo(new URI(baseUri), new URI(absoluteUri));
     }